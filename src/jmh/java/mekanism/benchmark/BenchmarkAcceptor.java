@@ -0,0 +1,100 @@
+package mekanism.benchmark;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import mekanism.api.energy.IStrictEnergyAcceptor;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.gas.IGasHandler;
+import mekanism.common.capabilities.Capabilities;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.common.capabilities.Capability;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.FluidTankProperties;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+
+/**
+ * A tile that accepts energy, gas and fluid through the same capabilities as real machines. It keeps nothing and accepts up to a fixed limit every time, so every tick
+ * the networks go through the same split between acceptors.
+ */
+public class BenchmarkAcceptor extends TileEntity implements IStrictEnergyAcceptor, IGasHandler, IFluidHandler {
+
+    private final int limit;
+    private final IFluidTankProperties[] tankProperties;
+
+    public BenchmarkAcceptor(int limit) {
+        this.limit = limit;
+        tankProperties = new IFluidTankProperties[]{new FluidTankProperties(null, limit, true, false)};
+    }
+
+    @Override
+    public boolean hasCapability(@Nonnull Capability<?> capability, @Nullable EnumFacing side) {
+        return capability == Capabilities.ENERGY_ACCEPTOR_CAPABILITY || capability == Capabilities.GAS_HANDLER_CAPABILITY ||
+               capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY || super.hasCapability(capability, side);
+    }
+
+    @Override
+    public <T> T getCapability(@Nonnull Capability<T> capability, @Nullable EnumFacing side) {
+        if (capability == Capabilities.ENERGY_ACCEPTOR_CAPABILITY) {
+            return Capabilities.ENERGY_ACCEPTOR_CAPABILITY.cast(this);
+        } else if (capability == Capabilities.GAS_HANDLER_CAPABILITY) {
+            return Capabilities.GAS_HANDLER_CAPABILITY.cast(this);
+        } else if (capability == CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY) {
+            return CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY.cast(this);
+        }
+        return super.getCapability(capability, side);
+    }
+
+    @Override
+    public double acceptEnergy(EnumFacing side, double amount, boolean simulate) {
+        return Math.min(amount, limit);
+    }
+
+    @Override
+    public boolean canReceiveEnergy(EnumFacing side) {
+        return true;
+    }
+
+    @Override
+    public int receiveGas(EnumFacing side, GasStack stack, boolean doTransfer) {
+        return Math.min(stack.amount, limit);
+    }
+
+    @Override
+    public GasStack drawGas(EnumFacing side, int amount, boolean doTransfer) {
+        return null;
+    }
+
+    @Override
+    public boolean canReceiveGas(EnumFacing side, Gas type) {
+        return true;
+    }
+
+    @Override
+    public boolean canDrawGas(EnumFacing side, Gas type) {
+        return false;
+    }
+
+    @Override
+    public IFluidTankProperties[] getTankProperties() {
+        return tankProperties;
+    }
+
+    @Override
+    public int fill(FluidStack resource, boolean doFill) {
+        return Math.min(resource.amount, limit);
+    }
+
+    @Override
+    public FluidStack drain(FluidStack resource, boolean doDrain) {
+        return null;
+    }
+
+    @Override
+    public FluidStack drain(int maxDrain, boolean doDrain) {
+        return null;
+    }
+}
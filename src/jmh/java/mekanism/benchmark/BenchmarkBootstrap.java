@@ -0,0 +1,53 @@
+package mekanism.benchmark;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import mekanism.common.capabilities.Capabilities;
+import net.minecraft.init.Bootstrap;
+import net.minecraftforge.common.capabilities.CapabilityInject;
+import net.minecraftforge.common.capabilities.CapabilityManager;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fml.common.discovery.ASMDataTable;
+import org.objectweb.asm.Type;
+
+/**
+ * Sets up the parts of the game the benchmarks need: the vanilla registries, and the capabilities the networks look up their acceptors with. In game FML finds the
+ * {@link CapabilityInject} fields while scanning the mods and fills them in once the capabilities get registered; without a game running this does the same for the
+ * classes the benchmarks use.
+ */
+public final class BenchmarkBootstrap {
+
+    private static boolean registered;
+
+    private BenchmarkBootstrap() {
+    }
+
+    public static synchronized void register() {
+        if (registered) {
+            return;
+        }
+        Bootstrap.register();
+        ASMDataTable table = new ASMDataTable();
+        addInjectedFields(table, Capabilities.class);
+        addInjectedFields(table, CapabilityFluidHandler.class);
+        CapabilityManager.INSTANCE.injectCapabilities(table);
+        Capabilities.registerCapabilities();
+        CapabilityFluidHandler.register();
+        registered = true;
+    }
+
+    private static void addInjectedFields(ASMDataTable table, Class<?> type) {
+        for (Field field : type.getDeclaredFields()) {
+            CapabilityInject inject;
+            try {
+                inject = field.getAnnotation(CapabilityInject.class);
+                if (inject == null) {
+                    continue;
+                }
+                table.addASMData(null, CapabilityInject.class.getName(), type.getName(), field.getName(), Collections.singletonMap("value", Type.getType(inject.value())));
+            } catch (TypeNotPresentException e) {
+                //Capabilities of optional mods that are not on the classpath never get registered anyway
+            }
+        }
+    }
+}
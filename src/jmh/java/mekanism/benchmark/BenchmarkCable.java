@@ -0,0 +1,46 @@
+package mekanism.benchmark;
+
+import java.util.Collection;
+import java.util.Map;
+import mekanism.api.Coord4D;
+import mekanism.api.energy.EnergyStack;
+import mekanism.api.transmitters.TransmissionType;
+import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.transmitters.grid.EnergyNetwork;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+public class BenchmarkCable extends BenchmarkTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> {
+
+    private final EnergyStack buffer = new EnergyStack(0);
+
+    public BenchmarkCable(Map<Coord4D, BenchmarkTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack>> grid, World world, Coord4D coord) {
+        super(grid, world, coord);
+    }
+
+    @Override
+    protected EnergyAcceptorWrapper getAcceptor(TileEntity tile, EnumFacing side) {
+        return EnergyAcceptorWrapper.get(tile, side);
+    }
+
+    @Override
+    public EnergyNetwork createEmptyNetwork() {
+        return new EnergyNetwork();
+    }
+
+    @Override
+    public EnergyNetwork mergeNetworks(Collection<EnergyNetwork> toMerge) {
+        return new EnergyNetwork(toMerge);
+    }
+
+    @Override
+    public EnergyStack getBuffer() {
+        return buffer;
+    }
+
+    @Override
+    public TransmissionType getTransmissionType() {
+        return TransmissionType.ENERGY;
+    }
+}
@@ -0,0 +1,49 @@
+package mekanism.benchmark;
+
+import java.util.Collection;
+import java.util.Map;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.TransmissionType;
+import mekanism.common.transmitters.grid.FluidNetwork;
+import mekanism.common.util.CapabilityUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+
+public class BenchmarkPipe extends BenchmarkTransmitter<IFluidHandler, FluidNetwork, FluidStack> {
+
+    public BenchmarkPipe(Map<Coord4D, BenchmarkTransmitter<IFluidHandler, FluidNetwork, FluidStack>> grid, World world, Coord4D coord) {
+        super(grid, world, coord);
+    }
+
+    @Override
+    protected IFluidHandler getAcceptor(TileEntity tile, EnumFacing side) {
+        if (CapabilityUtils.hasCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side)) {
+            return CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
+        }
+        return null;
+    }
+
+    @Override
+    public FluidNetwork createEmptyNetwork() {
+        return new FluidNetwork();
+    }
+
+    @Override
+    public FluidNetwork mergeNetworks(Collection<FluidNetwork> toMerge) {
+        return new FluidNetwork(toMerge);
+    }
+
+    @Override
+    public FluidStack getBuffer() {
+        return null;
+    }
+
+    @Override
+    public TransmissionType getTransmissionType() {
+        return TransmissionType.FLUID;
+    }
+}
@@ -0,0 +1,154 @@
+package mekanism.benchmark;
+
+import java.util.Map;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.IGridTransmitter;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+/**
+ * A transmitter that looks up its neighbouring transmitters in a shared map instead of the world. Acceptors are real tiles in the world, found through the same
+ * capabilities real transmitters use.
+ */
+public abstract class BenchmarkTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, BUFFER>, BUFFER> implements IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> {
+
+    private final Map<Coord4D, BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER>> grid;
+    private final World world;
+    private final Coord4D coord;
+    private NETWORK network;
+    private boolean orphaned = true;
+    public boolean valid = true;
+
+    protected BenchmarkTransmitter(Map<Coord4D, BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER>> grid, World world, Coord4D coord) {
+        this.grid = grid;
+        this.world = world;
+        this.coord = coord;
+        grid.put(coord, this);
+    }
+
+    /**
+     * @return the acceptor the tile has on the given side, or null if it can't accept what this transmitter carries
+     */
+    @Nullable
+    protected abstract ACCEPTOR getAcceptor(TileEntity tile, EnumFacing side);
+
+    @Override
+    public boolean hasTransmitterNetwork() {
+        return !isOrphan() && network != null;
+    }
+
+    @Override
+    public NETWORK getTransmitterNetwork() {
+        return network;
+    }
+
+    @Override
+    public void setTransmitterNetwork(NETWORK network) {
+        this.network = network;
+        orphaned = network == null;
+    }
+
+    @Override
+    public void setRequestsUpdate() {
+    }
+
+    @Override
+    public int getTransmitterNetworkSize() {
+        return hasTransmitterNetwork() ? network.getSize() : 0;
+    }
+
+    @Override
+    public int getTransmitterNetworkAcceptorSize() {
+        return hasTransmitterNetwork() ? network.getAcceptorSize() : 0;
+    }
+
+    @Override
+    public String getTransmitterNetworkNeeded() {
+        return "";
+    }
+
+    @Override
+    public String getTransmitterNetworkFlow() {
+        return "";
+    }
+
+    @Override
+    public String getTransmitterNetworkBuffer() {
+        return "";
+    }
+
+    @Override
+    public double getTransmitterNetworkCapacity() {
+        return hasTransmitterNetwork() ? network.getCapacityAsDouble() : getCapacity();
+    }
+
+    @Override
+    public int getCapacity() {
+        return 1000;
+    }
+
+    @Override
+    public World world() {
+        return world;
+    }
+
+    @Override
+    public Coord4D coord() {
+        return coord;
+    }
+
+    @Override
+    public Coord4D getAdjacentConnectableTransmitterCoord(EnumFacing side) {
+        BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent = getAdjacentTransmitter(side, true);
+        return adjacent == null ? null : adjacent.coord;
+    }
+
+    @Override
+    public BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentTransmitter(EnumFacing side, boolean connectableOnly) {
+        BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER> adjacent = grid.get(coord.offset(side));
+        return adjacent != null && adjacent.valid ? adjacent : null;
+    }
+
+    @Override
+    public boolean supportsIncrementalSplit() {
+        return true;
+    }
+
+    @Override
+    public ACCEPTOR getAcceptor(EnumFacing side) {
+        TileEntity tile = world.getTileEntity(coord.offset(side).getPos());
+        return tile == null ? null : getAcceptor(tile, side.getOpposite());
+    }
+
+    @Override
+    public boolean isValid() {
+        return valid;
+    }
+
+    @Override
+    public boolean isOrphan() {
+        return orphaned;
+    }
+
+    @Override
+    public void setOrphan(boolean orphaned) {
+        this.orphaned = orphaned;
+    }
+
+    @Override
+    public NETWORK getExternalNetwork(Coord4D from) {
+        BenchmarkTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter = grid.get(from);
+        return transmitter == null ? null : transmitter.network;
+    }
+
+    @Override
+    public void takeShare() {
+    }
+
+    @Override
+    public void updateShare() {
+    }
+}
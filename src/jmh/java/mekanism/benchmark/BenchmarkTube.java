@@ -0,0 +1,49 @@
+package mekanism.benchmark;
+
+import java.util.Collection;
+import java.util.Map;
+import mekanism.api.Coord4D;
+import mekanism.api.gas.GasStack;
+import mekanism.api.gas.IGasHandler;
+import mekanism.api.transmitters.TransmissionType;
+import mekanism.common.capabilities.Capabilities;
+import mekanism.common.transmitters.grid.GasNetwork;
+import mekanism.common.util.CapabilityUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.world.World;
+
+public class BenchmarkTube extends BenchmarkTransmitter<IGasHandler, GasNetwork, GasStack> {
+
+    public BenchmarkTube(Map<Coord4D, BenchmarkTransmitter<IGasHandler, GasNetwork, GasStack>> grid, World world, Coord4D coord) {
+        super(grid, world, coord);
+    }
+
+    @Override
+    protected IGasHandler getAcceptor(TileEntity tile, EnumFacing side) {
+        if (CapabilityUtils.hasCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side)) {
+            return CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side);
+        }
+        return null;
+    }
+
+    @Override
+    public GasNetwork createEmptyNetwork() {
+        return new GasNetwork();
+    }
+
+    @Override
+    public GasNetwork mergeNetworks(Collection<GasNetwork> toMerge) {
+        return new GasNetwork(toMerge);
+    }
+
+    @Override
+    public GasStack getBuffer() {
+        return null;
+    }
+
+    @Override
+    public TransmissionType getTransmissionType() {
+        return TransmissionType.GAS;
+    }
+}
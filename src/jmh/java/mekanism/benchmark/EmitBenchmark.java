@@ -0,0 +1,171 @@
+package mekanism.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.gas.IGasHandler;
+import mekanism.common.base.EnergyAcceptorWrapper;
+import mekanism.common.base.target.EnergyAcceptorTarget;
+import mekanism.common.base.target.FluidHandlerTarget;
+import mekanism.common.base.target.GasHandlerTarget;
+import mekanism.common.util.EmitUtils;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.util.EnumFacing;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import net.minecraftforge.fluids.capability.IFluidHandler;
+import net.minecraftforge.fluids.capability.IFluidTankProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting a transfer between the acceptors of a network. The handlers are stateless and accept up to a fixed limit that differs per handler, so every call
+ * goes through the same sorting and redistribution as a network with a mix of full and empty acceptors.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmitBenchmark {
+
+    @Param({"8", "64", "512"})
+    public int handlers;
+
+    private EnergyAcceptorTarget energyTarget;
+    private GasHandlerTarget gasTarget;
+    private FluidHandlerTarget fluidTarget;
+    private GasStack gasStack;
+    private FluidStack fluidStack;
+    private int intAmount;
+    private double energyAmount;
+
+    @Setup
+    public void setup() {
+        Bootstrap.register();
+        energyTarget = new EnergyAcceptorTarget();
+        gasTarget = new GasHandlerTarget();
+        fluidTarget = new FluidHandlerTarget();
+        for (int i = 0; i < handlers; i++) {
+            EnumFacing side = EnumFacing.VALUES[i % EnumFacing.VALUES.length];
+            int limit = 10 + (i * 37) % 1000;
+            energyTarget.addHandler(side, new LimitedEnergyAcceptor(limit));
+            gasTarget.addHandler(side, new LimitedGasHandler(limit));
+            fluidTarget.addHandler(side, new LimitedFluidHandler(limit));
+        }
+        gasStack = new GasStack(new Gas("benchmark", 0xFFFFFF), 1);
+        fluidStack = new FluidStack(FluidRegistry.WATER, 1);
+        //Enough to fill around half of the handlers
+        intAmount = handlers * 250;
+        energyAmount = handlers * 250D;
+    }
+
+    @Benchmark
+    public double emitEnergy() {
+        return EmitUtils.sendToAcceptors(energyTarget, energyAmount);
+    }
+
+    @Benchmark
+    public int emitGas() {
+        gasStack.amount = intAmount;
+        return EmitUtils.sendToAcceptors(gasTarget, intAmount, gasStack);
+    }
+
+    @Benchmark
+    public int emitFluid() {
+        fluidStack.amount = intAmount;
+        return EmitUtils.sendToAcceptors(fluidTarget, intAmount, fluidStack);
+    }
+
+    private static class LimitedEnergyAcceptor extends EnergyAcceptorWrapper {
+
+        private final double limit;
+
+        private LimitedEnergyAcceptor(double limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public double acceptEnergy(EnumFacing side, double amount, boolean simulate) {
+            return Math.min(amount, limit);
+        }
+
+        @Override
+        public boolean canReceiveEnergy(EnumFacing side) {
+            return true;
+        }
+
+        @Override
+        public boolean needsEnergy(EnumFacing side) {
+            return true;
+        }
+    }
+
+    private static class LimitedGasHandler implements IGasHandler {
+
+        private final int limit;
+
+        private LimitedGasHandler(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public int receiveGas(EnumFacing side, GasStack stack, boolean doTransfer) {
+            return Math.min(stack.amount, limit);
+        }
+
+        @Override
+        public GasStack drawGas(EnumFacing side, int amount, boolean doTransfer) {
+            return null;
+        }
+
+        @Override
+        public boolean canReceiveGas(EnumFacing side, Gas type) {
+            return true;
+        }
+
+        @Override
+        public boolean canDrawGas(EnumFacing side, Gas type) {
+            return false;
+        }
+    }
+
+    private static class LimitedFluidHandler implements IFluidHandler {
+
+        private final int limit;
+
+        private LimitedFluidHandler(int limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public IFluidTankProperties[] getTankProperties() {
+            return new IFluidTankProperties[0];
+        }
+
+        @Override
+        public int fill(FluidStack resource, boolean doFill) {
+            return Math.min(resource.amount, limit);
+        }
+
+        @Override
+        public FluidStack drain(FluidStack resource, boolean doDrain) {
+            return null;
+        }
+
+        @Override
+        public FluidStack drain(int maxDrain, boolean doDrain) {
+            return null;
+        }
+    }
+}
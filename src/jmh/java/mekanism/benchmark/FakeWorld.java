@@ -0,0 +1,56 @@
+package mekanism.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+import net.minecraft.profiler.Profiler;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.GameType;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldProviderSurface;
+import net.minecraft.world.WorldSettings;
+import net.minecraft.world.WorldType;
+import net.minecraft.world.chunk.IChunkProvider;
+import net.minecraft.world.storage.WorldInfo;
+
+/**
+ * A world without any chunks that reports every position as loaded. Benchmarked transmitters keep track of their own neighbours, so this only needs to answer the loaded
+ * checks done by the network code and hold the tiles the networks emit to.
+ */
+public class FakeWorld extends World {
+
+    private final Map<BlockPos, TileEntity> tiles = new HashMap<>();
+
+    public FakeWorld() {
+        super(null, new WorldInfo(new WorldSettings(0, GameType.SURVIVAL, false, false, WorldType.FLAT), "benchmark"), new WorldProviderSurface(), new Profiler(), false);
+    }
+
+    @Override
+    protected IChunkProvider createChunkProvider() {
+        return null;
+    }
+
+    @Override
+    protected boolean isChunkLoaded(int x, int z, boolean allowEmpty) {
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public TileEntity getTileEntity(BlockPos pos) {
+        return tiles.get(pos);
+    }
+
+    @Override
+    public void setTileEntity(BlockPos pos, @Nullable TileEntity tile) {
+        pos = pos.toImmutable();
+        if (tile == null) {
+            tiles.remove(pos);
+        } else {
+            tile.setWorld(this);
+            tile.setPos(pos);
+            tiles.put(pos, tile);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package mekanism.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures building, splitting and rebuilding a single straight line of energy, gas or fluid transmitters. Every benchmark starts from a freshly built network, as each
+ * of them modifies it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class NetworkBenchmark {
+
+    @Param({"ENERGY", "GAS", "FLUID"})
+    public TransmitterLine.Type type;
+
+    @Param({"1000", "6000"})
+    public int size;
+
+    private FakeWorld world;
+    private TransmitterLine line;
+
+    @Setup(Level.Trial)
+    public void setupWorld() {
+        BenchmarkBootstrap.register();
+        world = ServerThread.call(FakeWorld::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupNetwork() {
+        ServerThread.run(() -> {
+            TransmitterNetworkRegistry.reset();
+            line = new TransmitterLine(world, type, size);
+            line.build();
+        });
+    }
+
+    /**
+     * Flood fills a network out of orphaned transmitters and commits it, which is what happens when a chunk full of transmitters loads.
+     */
+    @Benchmark
+    public DynamicNetwork<?, ?, ?> buildFromOrphans() {
+        return ServerThread.call(() -> {
+            TransmitterNetworkRegistry.reset();
+            TransmitterLine built = new TransmitterLine(world, type, size);
+            built.build();
+            return built.getNetwork();
+        });
+    }
+
+    /**
+     * Breaks the line in the middle and lets the registry split the network in place.
+     */
+    @Benchmark
+    public DynamicNetwork<?, ?, ?> splitInPlace() {
+        return ServerThread.call(() -> {
+            BenchmarkTransmitter<?, ?, ?> middle = line.getMiddle();
+            middle.valid = false;
+            TransmitterNetworkRegistry.invalidateTransmitter(middle);
+            TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+            registry.removeInvalidTransmitters();
+            registry.assignOrphans();
+            registry.commitChanges();
+            return line.getNetwork();
+        });
+    }
+
+    /**
+     * Breaks the line in the middle and rebuilds both halves from orphans, which is what splitting used to cost before it was done in place.
+     */
+    @Benchmark
+    public DynamicNetwork<?, ?, ?> splitByReflood() {
+        return ServerThread.call(() -> {
+            BenchmarkTransmitter<?, ?, ?> middle = line.getMiddle();
+            middle.valid = false;
+            middle.getTransmitterNetwork().invalidate();
+            TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+            registry.assignOrphans();
+            registry.commitChanges();
+            return line.getNetwork();
+        });
+    }
+}
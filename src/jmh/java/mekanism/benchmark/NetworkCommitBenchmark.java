@@ -0,0 +1,70 @@
+package mekanism.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures committing a whole line of transmitters to a new network at once: finding the acceptors next to each transmitter, absorbing their buffers and working out
+ * the capacity. The transmitters are handed to the network in the setup, so only the commit gets timed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class NetworkCommitBenchmark {
+
+    @Param({"ENERGY", "GAS", "FLUID"})
+    public TransmitterLine.Type type;
+
+    @Param({"1000", "6000"})
+    public int size;
+
+    private FakeWorld world;
+    private DynamicNetwork<?, ?, ?> network;
+
+    @Setup(Level.Trial)
+    public void setupWorld() {
+        BenchmarkBootstrap.register();
+        world = ServerThread.call(FakeWorld::new);
+    }
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setupNetwork() {
+        ServerThread.run(() -> {
+            TransmitterNetworkRegistry.reset();
+            TransmitterLine line = new TransmitterLine(world, type, size);
+            DynamicNetwork rawNetwork = line.get(0).createEmptyNetwork();
+            for (BenchmarkTransmitter<?, ?, ?> transmitter : line.transmitters) {
+                transmitter.setOrphan(false);
+            }
+            rawNetwork.addNewTransmitters((Collection) line.transmitters);
+            rawNetwork.register();
+            network = rawNetwork;
+        });
+    }
+
+    @Benchmark
+    public DynamicNetwork<?, ?, ?> commit() {
+        return ServerThread.call(() -> {
+            network.commit();
+            return network;
+        });
+    }
+}
@@ -0,0 +1,100 @@
+package mekanism.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.gas.Gas;
+import mekanism.api.gas.GasStack;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import mekanism.common.transmitters.grid.EnergyNetwork;
+import mekanism.common.transmitters.grid.FluidNetwork;
+import mekanism.common.transmitters.grid.GasNetwork;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a network tick that emits its buffer to the acceptor tiles along a line of transmitters, through the same acceptor lookup and split as in game. With
+ * {@code planned} the transfers get planned first the way parallel network ticking does, so the tick only applies the plan.
+ * <p>
+ * Several ticks run per invocation, so handing the work to the {@link ServerThread} does not show up in the time of a tick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkEmitBenchmark {
+
+    private static final int TICKS = 100;
+
+    @Param({"ENERGY", "GAS", "FLUID"})
+    public TransmitterLine.Type type;
+
+    /**
+     * Transmitters in the line, there is an acceptor above every {@link TransmitterLine#ACCEPTOR_SPACING} of them
+     */
+    @Param({"64", "512", "4096"})
+    public int size;
+
+    @Param({"false", "true"})
+    public boolean planned;
+
+    private DynamicNetwork<?, ?, ?> network;
+    private Gas gas;
+    private int amount;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.register();
+        ServerThread.run(() -> {
+            TransmitterNetworkRegistry.reset();
+            TransmitterLine line = new TransmitterLine(new FakeWorld(), type, size);
+            line.build();
+            network = line.getNetwork();
+            //Enough to fill around half of the acceptors
+            amount = line.acceptors * 250;
+        });
+        gas = new Gas("benchmark", 0xFFFFFF);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TICKS)
+    public DynamicNetwork<?, ?, ?> emit() {
+        return ServerThread.call(() -> {
+            for (int i = 0; i < TICKS; i++) {
+                fillBuffer();
+                if (planned && network.prepareTick()) {
+                    network.planTick();
+                }
+                network.onUpdate();
+            }
+            return network;
+        });
+    }
+
+    private void fillBuffer() {
+        switch (type) {
+            case ENERGY:
+                ((EnergyNetwork) network).buffer.amount = amount;
+                break;
+            case GAS:
+                ((GasNetwork) network).buffer = new GasStack(gas, amount);
+                break;
+            case FLUID:
+                ((FluidNetwork) network).buffer = new FluidStack(FluidRegistry.WATER, amount);
+                break;
+        }
+    }
+}
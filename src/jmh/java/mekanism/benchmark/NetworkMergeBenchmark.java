@@ -0,0 +1,69 @@
+package mekanism.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures joining two networks by placing the transmitter missing between them, which goes through the orphan path finder, merging the networks into a new one and
+ * committing it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class NetworkMergeBenchmark {
+
+    @Param({"ENERGY", "GAS", "FLUID"})
+    public TransmitterLine.Type type;
+
+    @Param({"1000", "6000"})
+    public int size;
+
+    private FakeWorld world;
+    private TransmitterLine line;
+
+    @Setup(Level.Trial)
+    public void setupWorld() {
+        BenchmarkBootstrap.register();
+        world = ServerThread.call(FakeWorld::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void setupNetworks() {
+        ServerThread.run(() -> {
+            TransmitterNetworkRegistry.reset();
+            line = new TransmitterLine(world, type, size);
+            //Leave out the middle transmitter so both halves become their own network
+            line.getMiddle().valid = false;
+            line.build();
+        });
+    }
+
+    @Benchmark
+    public DynamicNetwork<?, ?, ?> merge() {
+        return ServerThread.call(() -> {
+            BenchmarkTransmitter<?, ?, ?> middle = line.getMiddle();
+            middle.valid = true;
+            TransmitterNetworkRegistry.registerOrphanTransmitter(middle);
+            TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+            registry.assignOrphans();
+            registry.commitChanges();
+            return line.getNetwork();
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package mekanism.benchmark;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs work on a thread named like the one a Minecraft server ticks on. The network code asks FML which side it is on, and FML tells by the name of the current thread,
+ * so the benchmarks hand their work to this thread instead of running it on the thread JMH calls them from.
+ */
+public final class ServerThread {
+
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Server thread");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private ServerThread() {
+    }
+
+    public static <T> T call(Callable<T> task) {
+        try {
+            return EXECUTOR.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,93 @@
+package mekanism.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * A straight line of transmitters of one type, with an acceptor tile above every few of them. Has to be used from the {@link ServerThread}, like the networks it builds.
+ */
+public class TransmitterLine {
+
+    /**
+     * Every this many transmitters has an acceptor above it
+     */
+    public static final int ACCEPTOR_SPACING = 8;
+
+    public final FakeWorld world;
+    public final List<BenchmarkTransmitter<?, ?, ?>> transmitters;
+    public final int acceptors;
+
+    public TransmitterLine(FakeWorld world, Type type, int size) {
+        this.world = world;
+        transmitters = new ArrayList<>(size);
+        switch (type) {
+            case ENERGY:
+                createLine(BenchmarkCable::new, size);
+                break;
+            case GAS:
+                createLine(BenchmarkTube::new, size);
+                break;
+            case FLUID:
+                createLine(BenchmarkPipe::new, size);
+                break;
+        }
+        int placed = 0;
+        for (int i = 0; i < size; i += ACCEPTOR_SPACING) {
+            //Acceptors that take different amounts, so the networks have to redistribute what the full ones can't take
+            world.setTileEntity(new BlockPos(i, 65, 0), new BenchmarkAcceptor(10 + (i * 37) % 1000));
+            placed++;
+        }
+        acceptors = placed;
+    }
+
+    private <A, N extends DynamicNetwork<A, N, B>, B> void createLine(TransmitterFactory<A, N, B> factory, int size) {
+        Map<Coord4D, BenchmarkTransmitter<A, N, B>> grid = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            transmitters.add(factory.create(grid, world, new Coord4D(i, 64, 0, 0)));
+        }
+    }
+
+    public BenchmarkTransmitter<?, ?, ?> get(int index) {
+        return transmitters.get(index);
+    }
+
+    public BenchmarkTransmitter<?, ?, ?> getMiddle() {
+        return transmitters.get(transmitters.size() / 2);
+    }
+
+    public DynamicNetwork<?, ?, ?> getNetwork() {
+        return transmitters.get(0).getTransmitterNetwork();
+    }
+
+    /**
+     * Registers every valid transmitter as an orphan and lets the registry build and commit the networks, which is what happens when a chunk full of transmitters loads.
+     */
+    public void build() {
+        for (BenchmarkTransmitter<?, ?, ?> transmitter : transmitters) {
+            if (transmitter.isValid()) {
+                TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+            }
+        }
+        TransmitterNetworkRegistry registry = TransmitterNetworkRegistry.getInstance();
+        registry.assignOrphans();
+        registry.commitChanges();
+    }
+
+    public enum Type {
+        ENERGY,
+        GAS,
+        FLUID
+    }
+
+    private interface TransmitterFactory<A, N extends DynamicNetwork<A, N, B>, B> {
+
+        BenchmarkTransmitter<A, N, B> create(Map<Coord4D, BenchmarkTransmitter<A, N, B>> grid, World world, Coord4D coord);
+    }
+}
@@ -0,0 +1,70 @@
+package mekanism.api;
+
+import javax.annotation.Nullable;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.EnumFacing;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+/**
+ * Block positions packed into a single long, laid out the same way as {@link BlockPos#toLong()}. Packed positions can be used as keys of primitive maps and sets and
+ * offset without creating any objects, which makes them a better fit than {@link Coord4D} for collections that are looked up every tick. They don't contain a
+ * dimension, collections using them either belong to a single world or are grouped by dimension.
+ */
+public final class PackedPos {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final int X_SHIFT = Y_BITS + XZ_BITS;
+    private static final int Y_SHIFT = XZ_BITS;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+
+    private PackedPos() {
+    }
+
+    public static long pack(int x, int y, int z) {
+        return ((long) x & XZ_MASK) << X_SHIFT | ((long) y & Y_MASK) << Y_SHIFT | (long) z & XZ_MASK;
+    }
+
+    public static long pack(BlockPos pos) {
+        return pack(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    public static long pack(Coord4D coord) {
+        return pack(coord.x, coord.y, coord.z);
+    }
+
+    public static int getX(long pos) {
+        return (int) (pos >> X_SHIFT);
+    }
+
+    public static int getY(long pos) {
+        return (int) (pos << (64 - Y_SHIFT - Y_BITS) >> (64 - Y_BITS));
+    }
+
+    public static int getZ(long pos) {
+        return (int) (pos << (64 - XZ_BITS) >> (64 - XZ_BITS));
+    }
+
+    public static long offset(long pos, EnumFacing side) {
+        return pack(getX(pos) + side.getXOffset(), getY(pos) + side.getYOffset(), getZ(pos) + side.getZOffset());
+    }
+
+    public static BlockPos toBlockPos(long pos) {
+        return new BlockPos(getX(pos), getY(pos), getZ(pos));
+    }
+
+    public static Coord4D toCoord(long pos, int dimension) {
+        return new Coord4D(getX(pos), getY(pos), getZ(pos), dimension);
+    }
+
+    /**
+     * @return the tile at the position, or null if there is none or its chunk isn't loaded
+     */
+    @Nullable
+    public static TileEntity getTileEntity(World world, long pos) {
+        BlockPos blockPos = toBlockPos(pos);
+        return world.isBlockLoaded(blockPos) ? world.getTileEntity(blockPos) : null;
+    }
+}
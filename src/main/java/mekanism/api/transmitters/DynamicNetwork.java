@@ -1,5 +1,12 @@
 package mekanism.api.transmitters;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -12,6 +19,7 @@ import java.util.Set;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.IClientTicker;
+import mekanism.api.PackedPos;
 import mekanism.api.Range4D;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.tileentity.TileEntity;
@@ -27,8 +35,23 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersToAdd = new HashSet<>();
     protected Set<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> transmittersAdded = new HashSet<>();
 
-    protected Set<Coord4D> possibleAcceptors = new HashSet<>();
-    protected Map<Coord4D, EnumSet<EnumFacing>> acceptorDirections = new HashMap<>();
+    /**
+     * The sides of each acceptor next to this network that face a transmitter, by the {@link PackedPos packed position} of the acceptor.
+     */
+    private final Long2ObjectMap<EnumSet<EnumFacing>> acceptorPositions = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<EnumSet<EnumFacing>> readOnlyAcceptorPositions = Long2ObjectMaps.unmodifiable(acceptorPositions);
+    /**
+     * @deprecated Use {@link #getAcceptorPositions()} instead. This is now a read-only view of the acceptor positions, adding or removing coords throws an
+     * {@link UnsupportedOperationException}, acceptors are tracked through {@link #updateTransmitterOnSide} and {@link #removeAcceptorsFrom}.
+     */
+    @Deprecated
+    protected final Set<Coord4D> possibleAcceptors = new AcceptorCoordSet();
+    /**
+     * @deprecated Use {@link #getAcceptorPositions()} instead. This is now a read-only view of the acceptor positions, putting or removing entries throws an
+     * {@link UnsupportedOperationException}, acceptors are tracked through {@link #updateTransmitterOnSide} and {@link #removeAcceptorsFrom}.
+     */
+    @Deprecated
+    protected final Map<Coord4D, EnumSet<EnumFacing>> acceptorDirections = new AcceptorCoordMap();
     protected Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<EnumFacing>> changedAcceptors = new HashMap<>();
     protected Range4D packetRange = null;
     protected int capacity = 0;
@@ -62,6 +85,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
                     transmitters.add(transmitter);
                 }
             }
+            packetRange = null;
 
             updateCapacity();
             clampBuffer();
@@ -85,26 +109,21 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void updateTransmitterOnSide(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, EnumFacing side) {
         ACCEPTOR acceptor = transmitter.getAcceptor(side);
-        Coord4D acceptorCoord = transmitter.coord().offset(side);
-        EnumSet<EnumFacing> directions = acceptorDirections.get(acceptorCoord);
+        long acceptorPos = PackedPos.offset(transmitter.packedPos(), side);
+        EnumSet<EnumFacing> directions = acceptorPositions.get(acceptorPos);
 
         if (acceptor != null) {
-            possibleAcceptors.add(acceptorCoord);
             if (directions != null) {
                 directions.add(side.getOpposite());
             } else {
-                acceptorDirections.put(acceptorCoord, EnumSet.of(side.getOpposite()));
+                acceptorPositions.put(acceptorPos, EnumSet.of(side.getOpposite()));
             }
         } else if (directions != null) {
             directions.remove(side.getOpposite());
 
             if (directions.isEmpty()) {
-                possibleAcceptors.remove(acceptorCoord);
-                acceptorDirections.remove(acceptorCoord);
+                acceptorPositions.remove(acceptorPos);
             }
-        } else {
-            possibleAcceptors.remove(acceptorCoord);
-            acceptorDirections.remove(acceptorCoord);
         }
     }
 
@@ -120,6 +139,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     public void invalidate() {
         //Remove invalid transmitters first for share calculations
         transmitters.removeIf(transmitter -> !transmitter.isValid());
+        packetRange = null;
 
         //Clamp the new buffer
         clampBuffer();
@@ -146,6 +166,53 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
     }
 
+    /**
+     * Removes the acceptor directions that the given transmitter contributed to this network, leaving the ones of other transmitters touching the same acceptors.
+     */
+    public void removeAcceptorsFrom(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        long pos = transmitter.packedPos();
+        for (EnumFacing side : EnumFacing.VALUES) {
+            long acceptorPos = PackedPos.offset(pos, side);
+            EnumSet<EnumFacing> directions = acceptorPositions.get(acceptorPos);
+            if (directions != null) {
+                directions.remove(side.getOpposite());
+                if (directions.isEmpty()) {
+                    acceptorPositions.remove(acceptorPos);
+                }
+            }
+        }
+        changedAcceptors.remove(transmitter);
+    }
+
+    /**
+     * Moves a part of this network that is no longer connected to the rest of it into a new network. This network keeps its identity, buffer and the acceptors of the
+     * transmitters that remain in it.
+     *
+     * @param detached - transmitters that form the disconnected part, must all be part of this network
+     *
+     * @return the newly created network
+     */
+    public NETWORK splitOff(Collection<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>> detached) {
+        //Update the shares first so that they are all based on the same buffer
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : detached) {
+            transmitter.updateShare();
+        }
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : detached) {
+            transmitter.takeShare();
+            detachTransmitter(transmitter);
+        }
+
+        NETWORK network = detached.iterator().next().createEmptyNetwork();
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : detached) {
+            //Point the transmitters at their new network right away so that orphans joining this tick see the correct network
+            transmitter.setTransmitterNetwork(network);
+        }
+        network.addNewTransmitters(detached);
+        network.register();
+        TransmitterNetworkRegistry.registerChangedNetwork(network);
+        return network;
+    }
+
     public void acceptorChanged(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter, EnumFacing side) {
         EnumSet<EnumFacing> directions = changedAcceptors.get(transmitter);
         if (directions != null) {
@@ -162,22 +229,27 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
             transmitters.add(transmitter);
             transmittersAdded.add(transmitter);
         }
+        packetRange = null;
 
         transmittersToAdd.addAll(net.transmittersToAdd);
-        possibleAcceptors.addAll(net.possibleAcceptors);
-
-        for (Entry<Coord4D, EnumSet<EnumFacing>> entry : net.acceptorDirections.entrySet()) {
-            Coord4D coord = entry.getKey();
-            if (acceptorDirections.containsKey(coord)) {
-                acceptorDirections.get(coord).addAll(entry.getValue());
+        for (Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry : ((DynamicNetwork<?, ?, ?>) net).acceptorPositions.long2ObjectEntrySet()) {
+            EnumSet<EnumFacing> directions = acceptorPositions.get(entry.getLongKey());
+            if (directions != null) {
+                directions.addAll(entry.getValue());
             } else {
-                acceptorDirections.put(coord, entry.getValue());
+                acceptorPositions.put(entry.getLongKey(), entry.getValue());
             }
         }
     }
 
+    /**
+     * @return the box around all transmitters of this network, which is only worked out again after transmitters were added or removed
+     */
     public Range4D getPacketRange() {
-        return packetRange == null ? genPacketRange() : packetRange;
+        if (packetRange == null) {
+            packetRange = genPacketRange();
+        }
+        return packetRange;
     }
 
     protected Range4D genPacketRange() {
@@ -187,31 +259,34 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         }
 
         IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> initTransmitter = transmitters.iterator().next();
-        Coord4D initCoord = initTransmitter.coord();
-
-        int minX = initCoord.x;
-        int minY = initCoord.y;
-        int minZ = initCoord.z;
-        int maxX = initCoord.x;
-        int maxY = initCoord.y;
-        int maxZ = initCoord.z;
-
-        for (IGridTransmitter transmitter : transmitters) {
-            Coord4D coord = transmitter.coord();
-            if (coord.x < minX) {
-                minX = coord.x;
-            } else if (coord.x > maxX) {
-                maxX = coord.x;
+        long initPos = initTransmitter.packedPos();
+
+        int minX = PackedPos.getX(initPos);
+        int minY = PackedPos.getY(initPos);
+        int minZ = PackedPos.getZ(initPos);
+        int maxX = minX;
+        int maxY = minY;
+        int maxZ = minZ;
+
+        for (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter : transmitters) {
+            long pos = transmitter.packedPos();
+            int x = PackedPos.getX(pos);
+            int y = PackedPos.getY(pos);
+            int z = PackedPos.getZ(pos);
+            if (x < minX) {
+                minX = x;
+            } else if (x > maxX) {
+                maxX = x;
             }
-            if (coord.y < minY) {
-                minY = coord.y;
-            } else if (coord.y > maxY) {
-                maxY = coord.y;
+            if (y < minY) {
+                minY = y;
+            } else if (y > maxY) {
+                maxY = y;
             }
-            if (coord.z < minZ) {
-                minZ = coord.z;
-            } else if (coord.x > maxZ) {
-                maxZ = coord.z;
+            if (z < minZ) {
+                minZ = z;
+            } else if (z > maxZ) {
+                maxZ = z;
             }
         }
         return new Range4D(minX, minY, minZ, maxX, maxY, maxZ, initTransmitter.world().provider.getDimension());
@@ -227,6 +302,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
 
     public void deregister() {
         transmitters.clear();
+        packetRange = null;
         transmittersToAdd.clear();
         transmittersAdded.clear();
 
@@ -242,7 +318,7 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public int getAcceptorSize() {
-        return possibleAcceptors.size();
+        return acceptorPositions.size();
     }
 
     public synchronized void updateCapacity() {
@@ -276,6 +352,23 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         onUpdate();
     }
 
+    /**
+     * Called on the server thread for every network before any of them are ticked when parallel network ticking is enabled. Networks that can calculate their
+     * transfers away from the server thread should snapshot everything they need from the world here.
+     *
+     * @return true if {@link #planTick()} should be called for this network.
+     */
+    public boolean prepareTick() {
+        return false;
+    }
+
+    /**
+     * Calculates the transfers of this tick from the snapshot taken by {@link #prepareTick()}, which then get applied when the network ticks. This may be called from a
+     * worker thread at the same time as it is called for other networks, so it must not access the world, any tile or any other network.
+     */
+    public void planTick() {
+    }
+
     public void onUpdate() {
         if (FMLCommonHandler.instance().getEffectiveSide().isServer()) {
             Iterator<DelayQueue> i = updateQueue.iterator();
@@ -324,6 +417,16 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         updateQueue.add(new DelayQueue(player));
     }
 
+    /**
+     * Removes a transmitter and the acceptors it contributed from this network in place, without deregistering the network if it becomes empty.
+     */
+    protected void detachTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        removeAcceptorsFrom(transmitter);
+        transmitters.remove(transmitter);
+        transmittersAdded.remove(transmitter);
+        packetRange = null;
+    }
+
     public boolean isCompatibleWith(NETWORK other) {
         return true;
     }
@@ -337,11 +440,13 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     public boolean addTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
+        packetRange = null;
         return transmitters.add(transmitter);
     }
 
     public boolean removeTransmitter(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> transmitter) {
         boolean removed = transmitters.remove(transmitter);
+        packetRange = null;
         if (transmitters.isEmpty()) {
             deregister();
         }
@@ -364,14 +469,124 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         return transmittersAdded;
     }
 
+    /**
+     * @return a read-only view of the locations of the acceptors next to this network
+     */
     public Set<Coord4D> getPossibleAcceptors() {
         return possibleAcceptors;
     }
 
+    /**
+     * @return a read-only view of the sides of each acceptor next to this network that face a transmitter
+     */
     public Map<Coord4D, EnumSet<EnumFacing>> getAcceptorDirections() {
         return acceptorDirections;
     }
 
+    /**
+     * @return a read-only view of the sides of each acceptor next to this network that face a transmitter, by the {@link PackedPos packed position} of the acceptor
+     */
+    public Long2ObjectMap<EnumSet<EnumFacing>> getAcceptorPositions() {
+        return readOnlyAcceptorPositions;
+    }
+
+    /**
+     * @return the sides of the acceptor at the given position that face a transmitter of this network, or null if it is not an acceptor of this network
+     */
+    @Nullable
+    public EnumSet<EnumFacing> getAcceptorDirections(Coord4D coord) {
+        return acceptorPositions.get(PackedPos.pack(coord));
+    }
+
+    private int getDimension() {
+        return world == null ? 0 : world.provider.getDimension();
+    }
+
+    private boolean isAcceptor(Object o) {
+        return o instanceof Coord4D && ((Coord4D) o).dimensionId == getDimension() && acceptorPositions.containsKey(PackedPos.pack((Coord4D) o));
+    }
+
+    /**
+     * The acceptor positions as {@link Coord4D}s, created while iterating instead of being stored.
+     */
+    private class AcceptorCoordSet extends AbstractSet<Coord4D> {
+
+        @Override
+        public int size() {
+            return acceptorPositions.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return isAcceptor(o);
+        }
+
+        @Override
+        public Iterator<Coord4D> iterator() {
+            LongIterator positions = acceptorPositions.keySet().iterator();
+            int dimension = getDimension();
+            return new Iterator<Coord4D>() {
+                @Override
+                public boolean hasNext() {
+                    return positions.hasNext();
+                }
+
+                @Override
+                public Coord4D next() {
+                    return PackedPos.toCoord(positions.nextLong(), dimension);
+                }
+            };
+        }
+    }
+
+    private class AcceptorCoordMap extends AbstractMap<Coord4D, EnumSet<EnumFacing>> {
+
+        private final Set<Entry<Coord4D, EnumSet<EnumFacing>>> entries = new AbstractSet<Entry<Coord4D, EnumSet<EnumFacing>>>() {
+            @Override
+            public int size() {
+                return acceptorPositions.size();
+            }
+
+            @Override
+            public Iterator<Entry<Coord4D, EnumSet<EnumFacing>>> iterator() {
+                ObjectIterator<Long2ObjectMap.Entry<EnumSet<EnumFacing>>> positions = acceptorPositions.long2ObjectEntrySet().iterator();
+                int dimension = getDimension();
+                return new Iterator<Entry<Coord4D, EnumSet<EnumFacing>>>() {
+                    @Override
+                    public boolean hasNext() {
+                        return positions.hasNext();
+                    }
+
+                    @Override
+                    public Entry<Coord4D, EnumSet<EnumFacing>> next() {
+                        Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry = positions.next();
+                        return new SimpleImmutableEntry<>(PackedPos.toCoord(entry.getLongKey(), dimension), entry.getValue());
+                    }
+                };
+            }
+        };
+
+        @Override
+        public Set<Entry<Coord4D, EnumSet<EnumFacing>>> entrySet() {
+            return entries;
+        }
+
+        @Override
+        public int size() {
+            return acceptorPositions.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return isAcceptor(key);
+        }
+
+        @Override
+        public EnumSet<EnumFacing> get(Object key) {
+            return isAcceptor(key) ? acceptorPositions.get(PackedPos.pack((Coord4D) key)) : null;
+        }
+    }
+
     public Map<IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>, EnumSet<EnumFacing>> getChangedAcceptors() {
         return changedAcceptors;
     }
@@ -3,6 +3,7 @@ package mekanism.api.transmitters;
 import java.util.Collection;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.world.World;
 
@@ -44,8 +45,35 @@ public interface IGridTransmitter<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEP
 
     Coord4D coord();
 
+    /**
+     * @return the position of this transmitter packed with {@link PackedPos}
+     */
+    default long packedPos() {
+        return PackedPos.pack(coord());
+    }
+
     Coord4D getAdjacentConnectableTransmitterCoord(EnumFacing side);
 
+    /**
+     * Gets the transmitter of the same transmission type that is adjacent to this one. Used to split networks in place rather than rebuilding them from scratch.
+     *
+     * @param side            - side to look on
+     * @param connectableOnly - whether the adjacent transmitter should only be returned if this transmitter can currently connect to it
+     *
+     * @return the adjacent transmitter, or null if there is none
+     */
+    @Nullable
+    default IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentTransmitter(EnumFacing side, boolean connectableOnly) {
+        return null;
+    }
+
+    /**
+     * @return true if {@link #getAdjacentTransmitter(EnumFacing, boolean)} is implemented, allowing the network to be split in place when this transmitter changes.
+     */
+    default boolean supportsIncrementalSplit() {
+        return false;
+    }
+
     ACCEPTOR getAcceptor(EnumFacing side);
 
     boolean isValid();
@@ -1,11 +1,21 @@
 package mekanism.api.transmitters;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.MekanismAPI;
 import net.minecraft.util.EnumFacing;
@@ -22,11 +32,14 @@ public class TransmitterNetworkRegistry {
     private static TransmitterNetworkRegistry INSTANCE = new TransmitterNetworkRegistry();
     private static boolean loaderRegistered = false;
     private static Logger logger = LogManager.getLogger("MekanismTransmitters");
-    private Set<DynamicNetwork> networks = new HashSet<>();
+    @Nullable
+    private static NetworkProfiler networkProfiler;
+    private Set<DynamicNetwork> networks = new LinkedHashSet<>();
     private Set<DynamicNetwork> networksToChange = new HashSet<>();
     private Set<IGridTransmitter> invalidTransmitters = new HashSet<>();
     private Map<Coord4D, IGridTransmitter> orphanTransmitters = new HashMap<>();
     private Map<Coord4D, IGridTransmitter> newOrphanTransmitters = new HashMap<>();
+    private ForkJoinPool planningPool;
 
     public static void initiate() {
         if (!loaderRegistered) {
@@ -35,6 +48,25 @@ public class TransmitterNetworkRegistry {
         }
     }
 
+    /**
+     * Sets how many worker threads are used to plan the transfers of networks in parallel before they get ticked.
+     *
+     * @param threads - number of worker threads, or 0 to tick networks purely on the server thread
+     */
+    public static void setParallelThreads(int threads) {
+        TransmitterNetworkRegistry registry = getInstance();
+        if (registry.planningPool != null) {
+            if (registry.planningPool.getParallelism() == threads) {
+                return;
+            }
+            registry.planningPool.shutdown();
+            registry.planningPool = null;
+        }
+        if (threads > 0) {
+            registry.planningPool = new ForkJoinPool(threads);
+        }
+    }
+
     public static void reset() {
         getInstance().networks.clear();
         getInstance().networksToChange.clear();
@@ -83,8 +115,48 @@ public class TransmitterNetworkRegistry {
         removeInvalidTransmitters();
         assignOrphans();
         commitChanges();
+        if (planningPool != null) {
+            planTicks();
+        }
+        NetworkProfiler profiler = networkProfiler;
         for (DynamicNetwork net : networks) {
-            net.tick();
+            if (profiler == null) {
+                net.tick();
+            } else {
+                long start = profiler.begin();
+                net.tick();
+                profiler.end(start, net);
+            }
+        }
+    }
+
+    /**
+     * @param profiler - gets told how long networks take to tick, or null to stop timing them
+     */
+    public static void setNetworkProfiler(@Nullable NetworkProfiler profiler) {
+        networkProfiler = profiler;
+    }
+
+    /**
+     * Snapshots the networks that support it on the server thread and then plans their transfers in parallel. The plans get applied when the networks tick, which
+     * still happens on the server thread and in the order the networks were registered.
+     */
+    public void planTicks() {
+        List<DynamicNetwork> toPlan = new ArrayList<>();
+        for (DynamicNetwork net : networks) {
+            if (net.prepareTick()) {
+                toPlan.add(net);
+            }
+        }
+        if (toPlan.size() < 2) {
+            toPlan.forEach(DynamicNetwork::planTick);
+            return;
+        }
+        try {
+            planningPool.submit(() -> toPlan.parallelStream().forEach(DynamicNetwork::planTick)).get();
+        } catch (InterruptedException | ExecutionException e) {
+            //Networks that did not finish planning just do their transfers the normal way when they tick
+            logger.error("Failed to plan network transfers in parallel", e);
         }
     }
 
@@ -93,15 +165,25 @@ public class TransmitterNetworkRegistry {
             logger.info("Dealing with " + invalidTransmitters.size() + " invalid Transmitters");
         }
 
+        Map<DynamicNetwork, Set<IGridTransmitter>> changedNetworks = new LinkedHashMap<>();
         for (IGridTransmitter invalid : invalidTransmitters) {
             if (!(invalid.isOrphan() && invalid.isValid())) {
                 DynamicNetwork n = invalid.getTransmitterNetwork();
                 if (n != null) {
-                    n.invalidate();
+                    changedNetworks.computeIfAbsent(n, network -> new HashSet<>()).add(invalid);
                 }
             }
         }
 
+        for (Entry<DynamicNetwork, Set<IGridTransmitter>> entry : changedNetworks.entrySet()) {
+            DynamicNetwork network = entry.getKey();
+            if (!new NetworkSplitter(network).split(entry.getValue())) {
+                //The change could not be resolved in place (for example it connected this network to another one),
+                // so fall back to rebuilding the network from its orphaned transmitters
+                network.invalidate();
+            }
+        }
+
         invalidTransmitters.clear();
     }
 
@@ -257,4 +339,202 @@ public class TransmitterNetworkRegistry {
             }
         }
     }
+
+    /**
+     * Times network ticks, {@link #begin()} gets called right before a network ticks and {@link #end(long, DynamicNetwork)} right after.
+     */
+    public interface NetworkProfiler {
+
+        long begin();
+
+        void end(long start, DynamicNetwork<?, ?, ?> network);
+    }
+
+    /**
+     * Resolves removed or changed transmitters locally instead of orphaning the whole network. A search is started from every transmitter next to a change, and the
+     * searches are advanced one transmitter at a time in turn. Searches that meet are merged, and the search ends once at most one of them can still grow. Every search
+     * that ran out of transmitters is a part that got disconnected and is moved into a new network, while the rest stays in the existing network object along with its
+     * buffer and acceptors. This makes the cost proportional to the size of the parts that split off rather than to the size of the network.
+     */
+    public static class NetworkSplitter<A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> {
+
+        private final N network;
+
+        private final Map<IGridTransmitter<A, N, BUFFER>, SearchRegion<A, N, BUFFER>> owners = new HashMap<>();
+
+        private final List<SearchRegion<A, N, BUFFER>> regions = new ArrayList<>();
+
+        public NetworkSplitter(N network) {
+            this.network = network;
+        }
+
+        /**
+         * @param changed - transmitters of this network that either became invalid or had their connections changed
+         *
+         * @return false if the change can not be handled in place and the network has to be rebuilt, in which case the network has not been modified.
+         */
+        public boolean split(Set<IGridTransmitter<A, N, BUFFER>> changed) {
+            Set<IGridTransmitter<A, N, BUFFER>> members = network.getTransmitters();
+            List<IGridTransmitter<A, N, BUFFER>> removed = new ArrayList<>();
+            Set<IGridTransmitter<A, N, BUFFER>> changedValid = new LinkedHashSet<>();
+            for (IGridTransmitter<A, N, BUFFER> transmitter : changed) {
+                if (!members.contains(transmitter)) {
+                    continue;
+                }
+                if (!transmitter.supportsIncrementalSplit()) {
+                    return false;
+                }
+                if (transmitter.isValid()) {
+                    changedValid.add(transmitter);
+                } else {
+                    removed.add(transmitter);
+                }
+            }
+            for (IGridTransmitter<A, N, BUFFER> transmitter : changedValid) {
+                for (EnumFacing side : EnumFacing.VALUES) {
+                    IGridTransmitter<A, N, BUFFER> adjacent = transmitter.getAdjacentTransmitter(side, true);
+                    if (adjacent != null && !adjacent.isOrphan()) {
+                        N adjacentNetwork = adjacent.getTransmitterNetwork();
+                        if (adjacentNetwork != null && adjacentNetwork != network && network.isCompatibleWith(adjacentNetwork)) {
+                            //A new connection to another network, merging is left to the orphan path finder
+                            return false;
+                        }
+                    }
+                }
+            }
+
+            for (IGridTransmitter<A, N, BUFFER> transmitter : removed) {
+                network.detachTransmitter(transmitter);
+            }
+            if (members.isEmpty()) {
+                network.deregister();
+                return true;
+            }
+
+            //Anything that was next to a change, connected or not, may now be in a different part of the network
+            Set<IGridTransmitter<A, N, BUFFER>> seeds = new LinkedHashSet<>(changedValid);
+            addAdjacentMembers(removed, members, seeds);
+            addAdjacentMembers(changedValid, members, seeds);
+            if (seeds.size() > 1) {
+                search(seeds, members);
+            }
+
+            network.updateCapacity();
+            network.clampBuffer();
+            return true;
+        }
+
+        private void addAdjacentMembers(Collection<IGridTransmitter<A, N, BUFFER>> transmitters, Set<IGridTransmitter<A, N, BUFFER>> members,
+              Set<IGridTransmitter<A, N, BUFFER>> seeds) {
+            for (IGridTransmitter<A, N, BUFFER> transmitter : transmitters) {
+                for (EnumFacing side : EnumFacing.VALUES) {
+                    IGridTransmitter<A, N, BUFFER> adjacent = transmitter.getAdjacentTransmitter(side, false);
+                    if (adjacent != null && members.contains(adjacent) && adjacent.isValid()) {
+                        seeds.add(adjacent);
+                    }
+                }
+            }
+        }
+
+        private void search(Set<IGridTransmitter<A, N, BUFFER>> seeds, Set<IGridTransmitter<A, N, BUFFER>> members) {
+            for (IGridTransmitter<A, N, BUFFER> seed : seeds) {
+                SearchRegion<A, N, BUFFER> region = new SearchRegion<>();
+                region.claim(seed);
+                owners.put(seed, region);
+                regions.add(region);
+            }
+
+            while (countGrowing() > 1) {
+                for (int i = 0; i < regions.size(); i++) {
+                    SearchRegion<A, N, BUFFER> region = regions.get(i);
+                    if (region.mergedInto == null && !region.frontier.isEmpty()) {
+                        expand(region, members);
+                    }
+                }
+            }
+
+            SearchRegion<A, N, BUFFER> kept = null;
+            List<SearchRegion<A, N, BUFFER>> roots = new ArrayList<>();
+            for (SearchRegion<A, N, BUFFER> region : regions) {
+                if (region.mergedInto == null) {
+                    roots.add(region);
+                    //Prefer the region that is still growing as it has not been fully explored, otherwise keep the largest
+                    if (kept == null || (!region.frontier.isEmpty() && kept.frontier.isEmpty()) ||
+                        (region.frontier.isEmpty() == kept.frontier.isEmpty() && region.visited.size() > kept.visited.size())) {
+                        kept = region;
+                    }
+                }
+            }
+            if (roots.size() > 1 && MekanismAPI.debug) {
+                logger.info("Splitting " + (roots.size() - 1) + " parts off of network with " + members.size() + " transmitters");
+            }
+            for (SearchRegion<A, N, BUFFER> region : roots) {
+                if (region != kept) {
+                    network.splitOff(region.visited);
+                }
+            }
+        }
+
+        private void expand(SearchRegion<A, N, BUFFER> region, Set<IGridTransmitter<A, N, BUFFER>> members) {
+            IGridTransmitter<A, N, BUFFER> current = region.frontier.poll();
+            for (EnumFacing side : EnumFacing.VALUES) {
+                IGridTransmitter<A, N, BUFFER> adjacent = current.getAdjacentTransmitter(side, true);
+                if (adjacent == null || !members.contains(adjacent)) {
+                    continue;
+                }
+                SearchRegion<A, N, BUFFER> owner = owners.get(adjacent);
+                if (owner == null) {
+                    owners.put(adjacent, region);
+                    region.claim(adjacent);
+                } else {
+                    owner = owner.getRoot();
+                    if (owner != region) {
+                        region = merge(region, owner);
+                    }
+                }
+            }
+        }
+
+        private SearchRegion<A, N, BUFFER> merge(SearchRegion<A, N, BUFFER> a, SearchRegion<A, N, BUFFER> b) {
+            //Merge the smaller region into the larger one to keep the copying bounded
+            SearchRegion<A, N, BUFFER> larger = a.visited.size() >= b.visited.size() ? a : b;
+            SearchRegion<A, N, BUFFER> smaller = larger == a ? b : a;
+            larger.visited.addAll(smaller.visited);
+            larger.frontier.addAll(smaller.frontier);
+            smaller.visited.clear();
+            smaller.frontier.clear();
+            smaller.mergedInto = larger;
+            return larger;
+        }
+
+        private int countGrowing() {
+            int growing = 0;
+            for (SearchRegion<A, N, BUFFER> region : regions) {
+                if (region.mergedInto == null && !region.frontier.isEmpty()) {
+                    growing++;
+                }
+            }
+            return growing;
+        }
+    }
+
+    private static class SearchRegion<A, N extends DynamicNetwork<A, N, BUFFER>, BUFFER> {
+
+        private final Set<IGridTransmitter<A, N, BUFFER>> visited = new HashSet<>();
+        private final Deque<IGridTransmitter<A, N, BUFFER>> frontier = new ArrayDeque<>();
+        private SearchRegion<A, N, BUFFER> mergedInto;
+
+        private void claim(IGridTransmitter<A, N, BUFFER> transmitter) {
+            visited.add(transmitter);
+            frontier.add(transmitter);
+        }
+
+        private SearchRegion<A, N, BUFFER> getRoot() {
+            SearchRegion<A, N, BUFFER> root = this;
+            while (root.mergedInto != null) {
+                root = root.mergedInto;
+            }
+            return root;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package mekanism.client.gui;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.api.EnumColor;
+import mekanism.client.gui.element.GuiScrollList;
+import mekanism.common.frequency.Frequency;
+import mekanism.common.frequency.FrequencyListSync;
+import mekanism.common.util.LangUtils;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ * Shows the page of a {@link FrequencyListSync} received last in a scroll list. When there are more pages, the first row switches to the previous page and the last row
+ * to the next one.
+ */
+@SideOnly(Side.CLIENT)
+public class FrequencyListPager {
+
+    private final TileEntity tile;
+    private final FrequencyListSync list;
+    private final GuiScrollList scrollList;
+
+    public FrequencyListPager(TileEntity tile, FrequencyListSync list, GuiScrollList scrollList) {
+        this.tile = tile;
+        this.list = list;
+        this.scrollList = scrollList;
+    }
+
+    /**
+     * Asks the server for a page of the frequencies matching the search text.
+     */
+    public void request(boolean publicFreqs, String search, int page) {
+        list.request(tile, publicFreqs, search, page);
+    }
+
+    /**
+     * Goes back to the first page if the search text changed.
+     */
+    public void updateSearch(boolean publicFreqs, String search) {
+        if (!search.equals(list.getSearch())) {
+            request(publicFreqs, search, 0);
+        }
+    }
+
+    public List<Frequency> getEntries() {
+        return list.getEntries();
+    }
+
+    public boolean hasPreviousPage() {
+        return list.getPage() > 0;
+    }
+
+    public boolean hasNextPage() {
+        return list.getPage() + 1 < list.getPageCount();
+    }
+
+    /**
+     * Fills the scroll list with the entries of the page and the rows for switching pages.
+     */
+    public void updateText(boolean privateMode) {
+        List<String> text = new ArrayList<>();
+        if (hasPreviousPage()) {
+            text.add(EnumColor.GREY + LangUtils.localize("gui.previousPage"));
+        }
+        for (Frequency freq : list.getEntries()) {
+            text.add(getDisplayName(freq, privateMode));
+        }
+        if (hasNextPage()) {
+            text.add(EnumColor.GREY + LangUtils.localize("gui.nextPage") + " (" + (list.getPage() + 2) + "/" + list.getPageCount() + ") >");
+        }
+        scrollList.setText(text);
+    }
+
+    public static String getDisplayName(Frequency freq, boolean privateMode) {
+        return privateMode ? freq.name : freq.name + " (" + freq.clientOwner + ")";
+    }
+
+    /**
+     * @return the selected frequency, or null if nothing or one of the rows for switching pages is selected
+     */
+    public Frequency getSelectedFrequency() {
+        List<Frequency> entries = list.getEntries();
+        int index = scrollList.getSelection() - (hasPreviousPage() ? 1 : 0);
+        return scrollList.hasSelection() && index >= 0 && index < entries.size() ? entries.get(index) : null;
+    }
+
+    /**
+     * Switches the page if one of the rows for that got selected.
+     */
+    public void checkPageSelection() {
+        if (scrollList.hasSelection()) {
+            int selection = scrollList.getSelection();
+            int offset = hasPreviousPage() ? 1 : 0;
+            if (offset == 1 && selection == 0) {
+                scrollList.clearSelection();
+                request(list.isPublicList(), list.getSearch(), list.getPage() - 1);
+            } else if (hasNextPage() && selection == offset + list.getEntries().size()) {
+                scrollList.clearSelection();
+                request(list.isPublicList(), list.getSearch(), list.getPage() + 1);
+            }
+        }
+    }
+}
@@ -1,8 +1,6 @@
 package mekanism.client.gui;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 import mekanism.api.EnumColor;
 import mekanism.api.TileNetworkList;
 import mekanism.client.gui.button.GuiButtonDisableableImage;
@@ -38,6 +36,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
     private GuiButton deleteButton;
     private GuiButton checkboxButton;
     private GuiScrollList scrollList;
+    private final FrequencyListPager pager;
     private GuiTextField frequencyField;
     private boolean privateMode;
 
@@ -45,6 +44,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         super(tile, new ContainerQuantumEntangloporter(inventory, tile));
         ResourceLocation resource = getGuiLocation();
         addGuiElement(scrollList = new GuiScrollList(this, resource, 28, 37, 120, 4));
+        pager = new FrequencyListPager(tileEntity, tileEntity.frequencyList, scrollList);
         addGuiElement(new GuiSideConfigurationTab(this, tileEntity, resource));
         addGuiElement(new GuiTransporterConfigTab(this, 34, tileEntity, resource));
         addGuiElement(new GuiUpgradeTab(this, tileEntity, resource));
@@ -67,9 +67,14 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         frequencyField.setMaxStringLength(FrequencyManager.MAX_FREQ_LENGTH);
         frequencyField.setEnableBackgroundDrawing(false);
         buttonList.add(checkboxButton = new GuiButtonDisableableImage(5, guiLeft + 137, guiTop + 103, 11, 11, xSize, 11, -11, getGuiLocation()));
+        requestList(0);
         updateButtons();
     }
 
+    private void requestList(int page) {
+        pager.request(!privateMode, frequencyField.getText(), page);
+    }
+
     public void setFrequency(String freq) {
         if (freq.isEmpty()) {
             return;
@@ -86,17 +91,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         if (tileEntity.getSecurity().getClientOwner() == null) {
             return;
         }
-        List<String> text = new ArrayList<>();
-        if (privateMode) {
-            for (Frequency freq : tileEntity.privateCache) {
-                text.add(freq.name);
-            }
-        } else {
-            for (Frequency freq : tileEntity.publicCache) {
-                text.add(freq.name + " (" + freq.clientOwner + ")");
-            }
-        }
-        scrollList.setText(text);
+        pager.updateText(privateMode);
         if (privateMode) {
             publicButton.enabled = true;
             privateButton.enabled = false;
@@ -104,8 +99,8 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
             publicButton.enabled = false;
             privateButton.enabled = true;
         }
-        if (scrollList.hasSelection()) {
-            Frequency freq = privateMode ? tileEntity.privateCache.get(scrollList.getSelection()) : tileEntity.publicCache.get(scrollList.getSelection());
+        Frequency freq = pager.getSelectedFrequency();
+        if (freq != null) {
             setButton.enabled = tileEntity.getFrequency(null) == null || !tileEntity.getFrequency(null).equals(freq);
             deleteButton.enabled = tileEntity.getSecurity().getOwnerUUID().equals(freq.ownerUUID);
         } else {
@@ -124,6 +119,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
     @Override
     public void mouseClicked(int mouseX, int mouseY, int button) throws IOException {
         super.mouseClicked(mouseX, mouseY, button);
+        pager.checkPageSelection();
         updateButtons();
         frequencyField.mouseClicked(mouseX, mouseY, button);
     }
@@ -147,6 +143,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         if (Character.isDigit(c) || Character.isLetter(c) || isTextboxKey(c, i) || FrequencyManager.SPECIAL_CHARS.contains(c)) {
             frequencyField.textboxKeyTyped(c, i);
         }
+        pager.updateSearch(!privateMode, frequencyField.getText());
         updateButtons();
     }
 
@@ -155,18 +152,18 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         super.actionPerformed(guibutton);
         if (guibutton.id == publicButton.id) {
             privateMode = false;
+            requestList(0);
         } else if (guibutton.id == privateButton.id) {
             privateMode = true;
+            requestList(0);
         } else if (guibutton.id == setButton.id) {
-            int selection = scrollList.getSelection();
-            if (selection != -1) {
-                Frequency freq = privateMode ? tileEntity.privateCache.get(selection) : tileEntity.publicCache.get(selection);
+            Frequency freq = pager.getSelectedFrequency();
+            if (freq != null) {
                 setFrequency(freq.name);
             }
         } else if (guibutton.id == deleteButton.id) {
-            int selection = scrollList.getSelection();
-            if (selection != -1) {
-                Frequency freq = privateMode ? tileEntity.privateCache.get(selection) : tileEntity.publicCache.get(selection);
+            Frequency freq = pager.getSelectedFrequency();
+            if (freq != null) {
                 TileNetworkList data = TileNetworkList.withContents(1, freq.name, freq.publicFreq);
                 Mekanism.packetHandler.sendToServer(new TileEntityMessage(tileEntity, data));
                 scrollList.clearSelection();
@@ -174,6 +171,7 @@ public class GuiQuantumEntangloporter extends GuiMekanismTile<TileEntityQuantumE
         } else if (guibutton.id == checkboxButton.id) {
             setFrequency(frequencyField.getText());
             frequencyField.setText("");
+            pager.updateSearch(!privateMode, frequencyField.getText());
         }
         updateButtons();
     }
@@ -57,6 +57,10 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
     private GuiButton teleportButton;
     private GuiButton checkboxButton;
     private GuiScrollList scrollList;
+    /**
+     * Pages through the frequencies of teleporter blocks, null for portable teleporters as they get all frequencies at once
+     */
+    private FrequencyListPager pager;
     private GuiTextField frequencyField;
     private boolean privateMode;
     private Frequency clientFreq;
@@ -86,6 +90,7 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         }, resource, 158, 26));
         addGuiElement(new GuiSlot(SlotType.NORMAL, this, resource, 152, 6).with(SlotOverlay.POWER));
         addGuiElement(scrollList = new GuiScrollList(this, resource, 28, 37, 120, 4));
+        pager = new FrequencyListPager(tileEntity, tileEntity.frequencyList, scrollList);
         if (tileEntity.frequency != null) {
             privateMode = !tileEntity.frequency.publicFreq;
         }
@@ -136,6 +141,7 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         frequencyField.setMaxStringLength(FrequencyManager.MAX_FREQ_LENGTH);
         frequencyField.setEnableBackgroundDrawing(false);
         buttonList.add(checkboxButton = new GuiButtonDisableableImage(6, guiLeft + 137, guiTop + 103, 11, 11, xSize, 11, -11, getGuiLocation()));
+        requestList(0);
         updateButtons();
         if (!itemStack.isEmpty()) {
             if (!isInit) {
@@ -170,17 +176,15 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         if (getOwner() == null) {
             return;
         }
-        List<String> text = new ArrayList<>();
-        if (privateMode) {
-            for (Frequency freq : getPrivateCache()) {
-                text.add(freq.name);
-            }
+        if (pager != null) {
+            pager.updateText(privateMode);
         } else {
-            for (Frequency freq : getPublicCache()) {
-                text.add(freq.name + " (" + freq.clientOwner + ")");
+            List<String> text = new ArrayList<>();
+            for (Frequency freq : privateMode ? clientPrivateCache : clientPublicCache) {
+                text.add(FrequencyListPager.getDisplayName(freq, privateMode));
             }
+            scrollList.setText(text);
         }
-        scrollList.setText(text);
         if (privateMode) {
             publicButton.enabled = true;
             privateButton.enabled = false;
@@ -188,8 +192,8 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
             publicButton.enabled = false;
             privateButton.enabled = true;
         }
-        if (scrollList.hasSelection()) {
-            Frequency freq = privateMode ? getPrivateCache().get(scrollList.getSelection()) : getPublicCache().get(scrollList.getSelection());
+        Frequency freq = getSelectedFrequency();
+        if (freq != null) {
             setButton.enabled = getFrequency() == null || !getFrequency().equals(freq);
             deleteButton.enabled = getOwner().equals(freq.ownerUUID);
         } else {
@@ -211,6 +215,9 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
     @Override
     public void mouseClicked(int mouseX, int mouseY, int button) throws IOException {
         super.mouseClicked(mouseX, mouseY, button);
+        if (pager != null) {
+            pager.checkPageSelection();
+        }
         updateButtons();
         frequencyField.mouseClicked(mouseX, mouseY, button);
     }
@@ -234,6 +241,7 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         if (Character.isDigit(c) || Character.isLetter(c) || isTextboxKey(c, i) || FrequencyManager.SPECIAL_CHARS.contains(c)) {
             frequencyField.textboxKeyTyped(c, i);
         }
+        updateSearch();
         updateButtons();
     }
 
@@ -242,18 +250,18 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         super.actionPerformed(guibutton);
         if (guibutton.id == publicButton.id) {
             privateMode = false;
+            requestList(0);
         } else if (guibutton.id == privateButton.id) {
             privateMode = true;
+            requestList(0);
         } else if (guibutton.id == setButton.id) {
-            int selection = scrollList.getSelection();
-            if (selection != -1) {
-                Frequency freq = privateMode ? getPrivateCache().get(selection) : getPublicCache().get(selection);
+            Frequency freq = getSelectedFrequency();
+            if (freq != null) {
                 setFrequency(freq.name);
             }
         } else if (guibutton.id == deleteButton.id) {
-            int selection = scrollList.getSelection();
-            if (selection != -1) {
-                Frequency freq = privateMode ? getPrivateCache().get(selection) : getPublicCache().get(selection);
+            Frequency freq = getSelectedFrequency();
+            if (freq != null) {
                 if (tileEntity != null) {
                     TileNetworkList data = TileNetworkList.withContents(1, freq.name, freq.publicFreq);
                     Mekanism.packetHandler.sendToServer(new TileEntityMessage(tileEntity, data));
@@ -271,6 +279,7 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         } else if (guibutton.id == checkboxButton.id) {
             setFrequency(frequencyField.getText());
             frequencyField.setText("");
+            updateSearch();
         }
         updateButtons();
     }
@@ -341,12 +350,27 @@ public class GuiTeleporter extends GuiMekanismTile<TileEntityTeleporter> {
         return tileEntity != null ? tileEntity.status : clientStatus;
     }
 
-    private List<Frequency> getPublicCache() {
-        return tileEntity != null ? tileEntity.publicCache : clientPublicCache;
+    /**
+     * Asks the server for a page of the frequencies matching the text typed into the frequency field, portable teleporters get all frequencies at once instead.
+     */
+    private void requestList(int page) {
+        if (pager != null) {
+            pager.request(!privateMode, frequencyField.getText(), page);
+        }
+    }
+
+    private void updateSearch() {
+        if (pager != null) {
+            pager.updateSearch(!privateMode, frequencyField.getText());
+        }
     }
 
-    private List<Frequency> getPrivateCache() {
-        return tileEntity != null ? tileEntity.privateCache : clientPrivateCache;
+    private Frequency getSelectedFrequency() {
+        if (pager != null) {
+            return pager.getSelectedFrequency();
+        }
+        List<Frequency> entries = privateMode ? clientPrivateCache : clientPublicCache;
+        return scrollList.hasSelection() && scrollList.getSelection() < entries.size() ? entries.get(scrollList.getSelection()) : null;
     }
 
     private Frequency getFrequency() {
@@ -0,0 +1,145 @@
+package mekanism.common;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import java.util.BitSet;
+import mekanism.api.PackedPos;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.ChunkPos;
+
+/**
+ * A breadth first search over the blocks of a world that can be continued over several ticks and saved with the tile doing it. Positions are packed into longs with
+ * {@link PackedPos}, and every position that was ever queued is remembered in a bitset per chunk, so no position gets queued twice until the frontier is cleared.
+ */
+public class BlockFrontier {
+
+    private final LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+    private final Long2ObjectMap<BitSet> visited = new Long2ObjectOpenHashMap<>();
+    private int visitedCount;
+
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    /**
+     * @return the amount of positions waiting in the queue
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * @return the amount of positions that were ever queued or visited
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    public boolean isVisited(long pos) {
+        BitSet chunk = visited.get(getChunkKey(pos));
+        return chunk != null && chunk.get(getIndex(pos));
+    }
+
+    /**
+     * Marks a position as visited without queueing it.
+     *
+     * @return false if the position was visited before
+     */
+    public boolean visit(long pos) {
+        BitSet chunk = visited.computeIfAbsent(getChunkKey(pos), key -> new BitSet());
+        int index = getIndex(pos);
+        if (chunk.get(index)) {
+            return false;
+        }
+        chunk.set(index);
+        visitedCount++;
+        return true;
+    }
+
+    /**
+     * Queues a position if it was never visited before.
+     *
+     * @return false if the position was visited before
+     */
+    public boolean offer(long pos) {
+        if (visit(pos)) {
+            queue.enqueue(pos);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Puts a position that was already taken from the queue back at its end.
+     */
+    public void requeue(long pos) {
+        queue.enqueue(pos);
+    }
+
+    public long poll() {
+        return queue.dequeueLong();
+    }
+
+    public void clear() {
+        queue.clear();
+        visited.clear();
+        visitedCount = 0;
+    }
+
+    /**
+     * @param saveVisited - whether to also save the positions that are no longer queued, otherwise only the queued positions are remembered as visited when read
+     */
+    public void write(NBTTagCompound nbtTags, String key, boolean saveVisited) {
+        int[] queued = new int[queue.size() * 2];
+        for (int i = 0; i < queued.length; i += 2) {
+            long pos = queue.dequeueLong();
+            queued[i] = (int) (pos >> 32);
+            queued[i + 1] = (int) pos;
+            queue.enqueue(pos);
+        }
+        nbtTags.setIntArray(key, queued);
+        if (saveVisited) {
+            int[] positions = new int[visitedCount * 2];
+            int i = 0;
+            for (Long2ObjectMap.Entry<BitSet> entry : visited.long2ObjectEntrySet()) {
+                //Reverse of ChunkPos#asLong
+                int chunkX = (int) entry.getLongKey() << 4;
+                int chunkZ = (int) (entry.getLongKey() >> 32) << 4;
+                BitSet chunk = entry.getValue();
+                for (int index = chunk.nextSetBit(0); index >= 0; index = chunk.nextSetBit(index + 1)) {
+                    long pos = PackedPos.pack(chunkX | (index & 15), index >> 8, chunkZ | ((index >> 4) & 15));
+                    positions[i++] = (int) (pos >> 32);
+                    positions[i++] = (int) pos;
+                }
+            }
+            nbtTags.setIntArray(key + "Visited", positions);
+        }
+    }
+
+    public void read(NBTTagCompound nbtTags, String key) {
+        clear();
+        int[] positions = nbtTags.getIntArray(key + "Visited");
+        for (int i = 0; i + 1 < positions.length; i += 2) {
+            visit(unpack(positions[i], positions[i + 1]));
+        }
+        int[] queued = nbtTags.getIntArray(key);
+        for (int i = 0; i + 1 < queued.length; i += 2) {
+            long pos = unpack(queued[i], queued[i + 1]);
+            visit(pos);
+            queue.enqueue(pos);
+        }
+    }
+
+    private static long unpack(int high, int low) {
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    private static long getChunkKey(long pos) {
+        return ChunkPos.asLong(PackedPos.getX(pos) >> 4, PackedPos.getZ(pos) >> 4);
+    }
+
+    private static int getIndex(long pos) {
+        return (PackedPos.getY(pos) & 255) << 8 | (PackedPos.getZ(pos) & 15) << 4 | (PackedPos.getX(pos) & 15);
+    }
+}
@@ -5,6 +5,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import java.util.LinkedList;
 import java.util.Queue;
 import java.util.Random;
+import mekanism.common.TickProfiler.Category;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.multiblock.MultiblockManager;
 import net.minecraft.util.math.ChunkPos;
@@ -61,8 +62,16 @@ public class CommonWorldTickHandler {
 
     public void tickEnd(World world) {
         if (!world.isRemote) {
+            long start = TickProfiler.begin();
             MultiblockManager.tick(world);
+            if (start != 0) {
+                TickProfiler.end(start, Category.MULTIBLOCK, "MultiblockManager", "MultiblockManager in dimension " + world.provider.getDimension());
+            }
+            start = TickProfiler.begin();
             FrequencyManager.tick(world);
+            if (start != 0) {
+                TickProfiler.end(start, Category.FREQUENCY, "FrequencyManager", "FrequencyManager in dimension " + world.provider.getDimension());
+            }
             if (chunkRegenMap == null) {
                 return;
             }
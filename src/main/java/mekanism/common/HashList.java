@@ -8,6 +8,8 @@ public class HashList<T> implements Iterable<T> {
 
     private ArrayList<T> list = new ArrayList<>(256);
 
+    private int version;
+
     private HashList(ArrayList<T> newList) {
         list = newList;
     }
@@ -21,6 +23,7 @@ public class HashList<T> implements Iterable<T> {
 
     public void clear() {
         list.clear();
+        version++;
     }
 
     public T get(int index) {
@@ -33,6 +36,7 @@ public class HashList<T> implements Iterable<T> {
     public void add(T obj) {
         if (!list.contains(obj)) {
             list.add(obj);
+            version++;
         }
     }
 
@@ -44,6 +48,7 @@ public class HashList<T> implements Iterable<T> {
                 }
             }
             list.add(index, obj);
+            version++;
         }
     }
 
@@ -56,6 +61,7 @@ public class HashList<T> implements Iterable<T> {
             return;
         }
         list.remove(index);
+        version++;
     }
 
     public void replace(int index, T obj) {
@@ -66,7 +72,9 @@ public class HashList<T> implements Iterable<T> {
     }
 
     public void remove(T obj) {
-        list.remove(obj);
+        if (list.remove(obj)) {
+            version++;
+        }
     }
 
     public int indexOf(T obj) {
@@ -77,6 +85,13 @@ public class HashList<T> implements Iterable<T> {
         return list.size();
     }
 
+    /**
+     * @return a number that changes every time the contents or order of this list change
+     */
+    public int getVersion() {
+        return version;
+    }
+
     @Override
     public HashList<T> clone() {
         return new HashList<>(new ArrayList<>(list));
@@ -97,6 +112,7 @@ public class HashList<T> implements Iterable<T> {
         T temp = list.get(source);
         list.set(source, list.get(target));
         list.set(target, temp);
+        version++;
     }
 
     @Override
@@ -112,6 +128,23 @@ public class HashList<T> implements Iterable<T> {
     @Nonnull
     @Override
     public Iterator<T> iterator() {
-        return list.iterator();
+        Iterator<T> iterator = list.iterator();
+        return new Iterator<T>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                version++;
+            }
+        };
     }
 }
\ No newline at end of file
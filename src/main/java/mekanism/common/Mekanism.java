@@ -37,8 +37,8 @@ import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.boiler.SynchronizedBoilerData;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.content.matrix.SynchronizedMatrixData;
+import mekanism.common.content.miner.MinerSearchScheduler;
 import mekanism.common.content.tank.SynchronizedTankData;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.entity.EntityBabySkeleton;
 import mekanism.common.entity.EntityBalloon;
@@ -741,6 +741,11 @@ public class Mekanism {
         if (MekanismConfig.current().general.voiceServerEnabled.val()) {
             voiceManager.start();
         }
+        TransmitterNetworkRegistry.setParallelThreads(MekanismConfig.current().general.parallelNetworkThreads.val());
+        MinerSearchScheduler.setThreads(MekanismConfig.current().general.minerSearchThreads.val());
+        MultiblockManager.setVerifyBudget(MekanismConfig.current().general.multiblockCacheChecks.val());
+        //Other mods may have edited the recipe maps directly during loading
+        Recipe.invalidateIndexes();
         CommandMek.register(event);
     }
 
@@ -757,12 +762,15 @@ public class Mekanism {
         privateTeleporters.clear();
         privateEntangloporters.clear();
         freeRunnerOn.clear();
+        packetHandler.receivers.clear();
+
+        TickProfiler.stop();
+        TickProfiler.reset();
 
         //Reset consistent managers
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
-        PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
     }
 
@@ -836,6 +844,8 @@ public class Mekanism {
 
         //Register to receive subscribed events
         MinecraftForge.EVENT_BUS.register(this);
+        MinecraftForge.EVENT_BUS.register(TickProfiler.class);
+        MinecraftForge.EVENT_BUS.register(OreDictCache.class);
 
         //Register this module's GUI handler in the simple packet protocol
         PacketSimpleGui.handlers.add(0, proxy);
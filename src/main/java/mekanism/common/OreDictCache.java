@@ -1,20 +1,126 @@
 package mekanism.common;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import mekanism.api.util.ItemInfo;
+import mekanism.common.content.filter.WildcardPattern;
 import mekanism.common.util.ItemRegistryUtils;
 import net.minecraft.item.ItemBlock;
 import net.minecraft.item.ItemStack;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.oredict.OreDictionary;
+import net.minecraftforge.oredict.OreDictionary.OreRegisterEvent;
 
+/**
+ * Remembers the ore dictionary IDs of items and which IDs a filter pattern matches, so matching a stack against an ore dictionary name or pattern is a lookup and a
+ * bit test instead of comparing strings. Everything is forgotten when an ore gets registered. The caches can be used from several threads at once, as Digital Miners
+ * search on their own threads.
+ */
 public final class OreDictCache {
 
-    public static Map<ItemInfo, List<String>> cachedKeys = new HashMap<>();
-    public static Map<String, List<ItemStack>> oreDictStacks = new HashMap<>();
-    public static Map<String, List<ItemStack>> modIDStacks = new HashMap<>();
+    private static final int[] NO_IDS = new int[0];
+
+    public static Map<ItemInfo, List<String>> cachedKeys = new ConcurrentHashMap<>();
+    public static Map<String, List<ItemStack>> oreDictStacks = new ConcurrentHashMap<>();
+    public static Map<String, List<ItemStack>> modIDStacks = new ConcurrentHashMap<>();
+
+    private static final Map<ItemInfo, int[]> cachedIDs = new ConcurrentHashMap<>();
+    private static final Map<String, BitSet> patternIDs = new ConcurrentHashMap<>();
+
+    private static volatile int version;
+
+    /**
+     * Forgets everything that was cached, for when the ore dictionary changed.
+     */
+    public static void invalidate() {
+        cachedKeys.clear();
+        oreDictStacks.clear();
+        modIDStacks.clear();
+        cachedIDs.clear();
+        patternIDs.clear();
+        version++;
+    }
+
+    @SubscribeEvent
+    public static void onOreRegister(OreRegisterEvent event) {
+        invalidate();
+    }
+
+    /**
+     * @return a number that changes whenever the cache is invalidated, so things keeping results from here know when to look them up again
+     */
+    public static int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the ore dictionary IDs of the stack in ascending order, the array must not be modified
+     */
+    public static int[] getOreIDs(ItemStack check) {
+        if (check.isEmpty()) {
+            return NO_IDS;
+        }
+        ItemInfo info = ItemInfo.get(check);
+        int[] cached = cachedIDs.get(info);
+        if (cached == null) {
+            cached = OreDictionary.getOreIDs(check);
+            Arrays.sort(cached);
+            cachedIDs.put(info, cached);
+        }
+        return cached;
+    }
+
+    /**
+     * @return the ID of the ore dictionary name, or -1 if there is no such name
+     */
+    public static int getOreID(String oreName) {
+        //getOreID would register names that don't exist yet
+        return OreDictionary.doesOreNameExist(oreName) ? OreDictionary.getOreID(oreName) : -1;
+    }
+
+    public static boolean hasOreID(ItemStack check, int id) {
+        return id >= 0 && Arrays.binarySearch(getOreIDs(check), id) >= 0;
+    }
+
+    public static boolean hasOreName(ItemStack check, String oreName) {
+        return hasOreID(check, getOreID(oreName));
+    }
+
+    /**
+     * @param pattern - an ore dictionary name, where a leading and/or trailing {@code *} matches anything
+     *
+     * @return the IDs of all ore dictionary names matching the pattern, the set must not be modified
+     */
+    public static BitSet getOreIDs(String pattern) {
+        BitSet ids = patternIDs.get(pattern);
+        if (ids == null) {
+            ids = new BitSet();
+            WildcardPattern compiled = WildcardPattern.compile(pattern);
+            for (String name : OreDictionary.getOreNames()) {
+                if (name != null && compiled.matches(name)) {
+                    ids.set(OreDictionary.getOreID(name));
+                }
+            }
+            patternIDs.put(pattern, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * @return whether the stack has any of the ore dictionary IDs in the set
+     */
+    public static boolean hasAnyOreID(ItemStack check, BitSet ids) {
+        for (int id : getOreIDs(check)) {
+            if (ids.get(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     public static List<String> getOreDictName(ItemStack check) {
         if (check.isEmpty()) {
@@ -26,9 +132,8 @@ public final class OreDictCache {
             return cached;
         }
 
-        int[] idsFound = OreDictionary.getOreIDs(check);
         List<String> ret = new ArrayList<>();
-        for (Integer id : idsFound) {
+        for (int id : getOreIDs(check)) {
             ret.add(OreDictionary.getOreName(id));
         }
         cachedKeys.put(info, ret);
@@ -36,37 +141,16 @@ public final class OreDictCache {
     }
 
     public static List<ItemStack> getOreDictStacks(String oreName, boolean forceBlock) {
-        if (oreDictStacks.get(oreName) != null) {
-            return oreDictStacks.get(oreName);
-        }
-
-        List<String> keys = new ArrayList<>();
-        for (String s : OreDictionary.getOreNames()) {
-            if (s == null) {
-                continue;
-            }
-            if (oreName.equals(s) || oreName.equals("*")) {
-                keys.add(s);
-            } else if (oreName.endsWith("*") && !oreName.startsWith("*")) {
-                if (s.startsWith(oreName.substring(0, oreName.length() - 1))) {
-                    keys.add(s);
-                }
-            } else if (oreName.startsWith("*") && !oreName.endsWith("*")) {
-                if (s.endsWith(oreName.substring(1))) {
-                    keys.add(s);
-                }
-            } else if (oreName.startsWith("*") && oreName.endsWith("*")) {
-                if (s.contains(oreName.substring(1, oreName.length() - 1))) {
-                    keys.add(s);
-                }
-            }
+        List<ItemStack> cached = oreDictStacks.get(oreName);
+        if (cached != null) {
+            return cached;
         }
 
+        BitSet ids = getOreIDs(oreName);
         List<ItemStack> stacks = new ArrayList<>();
-        for (String key : keys) {
-            for (ItemStack stack : OreDictionary.getOres(key, false)) {
-                ItemStack toAdd = stack.copy();
-                if (!stacks.contains(stack) && (!forceBlock || toAdd.getItem() instanceof ItemBlock)) {
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            for (ItemStack stack : OreDictionary.getOres(OreDictionary.getOreName(id), false)) {
+                if (!stacks.contains(stack) && (!forceBlock || stack.getItem() instanceof ItemBlock)) {
                     stacks.add(stack.copy());
                 }
             }
@@ -76,34 +160,20 @@ public final class OreDictCache {
     }
 
     public static List<ItemStack> getModIDStacks(String modName, boolean forceBlock) {
-        if (modIDStacks.get(modName) != null) {
-            return modIDStacks.get(modName);
+        List<ItemStack> cached = modIDStacks.get(modName);
+        if (cached != null) {
+            return cached;
         }
+        WildcardPattern pattern = WildcardPattern.compile(modName);
         List<ItemStack> stacks = new ArrayList<>();
         for (String key : OreDictionary.getOreNames()) {
             for (ItemStack stack : OreDictionary.getOres(key, false)) {
-                ItemStack toAdd = stack.copy();
-                String s = ItemRegistryUtils.getMod(toAdd);
-                if (!stacks.contains(stack) && toAdd.getItem() instanceof ItemBlock) {
-                    if (modName.equals(s) || modName.equals("*")) {
-                        stacks.add(stack.copy());
-                    } else if (modName.endsWith("*") && !modName.startsWith("*")) {
-                        if (s.startsWith(modName.substring(0, modName.length() - 1))) {
-                            stacks.add(stack.copy());
-                        }
-                    } else if (modName.startsWith("*") && !modName.endsWith("*")) {
-                        if (s.endsWith(modName.substring(1))) {
-                            stacks.add(stack.copy());
-                        }
-                    } else if (modName.startsWith("*") && modName.endsWith("*")) {
-                        if (s.contains(modName.substring(1, modName.length() - 1))) {
-                            stacks.add(stack.copy());
-                        }
-                    }
+                if (!stacks.contains(stack) && stack.getItem() instanceof ItemBlock && pattern.matches(ItemRegistryUtils.getMod(stack))) {
+                    stacks.add(stack.copy());
                 }
             }
         }
         modIDStacks.put(modName, stacks);
         return stacks;
     }
-}
\ No newline at end of file
+}
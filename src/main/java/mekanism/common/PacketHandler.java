@@ -9,6 +9,9 @@ import mekanism.api.Coord4D;
 import mekanism.api.Range4D;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketBatch;
+import mekanism.common.network.PacketBatch.BatchMessage;
+import mekanism.common.network.PacketBatcher;
 import mekanism.common.network.PacketBoxBlacklist;
 import mekanism.common.network.PacketBoxBlacklist.BoxBlacklistMessage;
 import mekanism.common.network.PacketConfigSync;
@@ -31,6 +34,8 @@ import mekanism.common.network.PacketFlamethrowerData;
 import mekanism.common.network.PacketFlamethrowerData.FlamethrowerDataMessage;
 import mekanism.common.network.PacketFreeRunnerData;
 import mekanism.common.network.PacketFreeRunnerData.FreeRunnerDataMessage;
+import mekanism.common.network.PacketFrequencyList;
+import mekanism.common.network.PacketFrequencyList.FrequencyListMessage;
 import mekanism.common.network.PacketItemStack;
 import mekanism.common.network.PacketItemStack.ItemStackMessage;
 import mekanism.common.network.PacketJetpackData;
@@ -63,24 +68,30 @@ import mekanism.common.network.PacketSimpleGui;
 import mekanism.common.network.PacketSimpleGui.SimpleGuiMessage;
 import mekanism.common.network.PacketTileEntity;
 import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.network.PacketTileSync;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
 import mekanism.common.network.PacketTransmitterUpdate;
 import mekanism.common.network.PacketTransmitterUpdate.TransmitterUpdateMessage;
+import mekanism.common.network.PlayerChunkIndex;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.PlayerChunkMap;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.network.ByteBufUtils;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.network.NetworkRegistry.TargetPoint;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import net.minecraftforge.fml.common.network.simpleimpl.SimpleNetworkWrapper;
 import net.minecraftforge.fml.relauncher.Side;
@@ -94,6 +105,9 @@ public class PacketHandler {
 
     public SimpleNetworkWrapper netHandler = NetworkRegistry.INSTANCE.newSimpleChannel("MEK");
 
+    public final PacketBatcher batcher = new PacketBatcher();
+    public final PlayerChunkIndex receivers = new PlayerChunkIndex();
+
     /**
      * Encodes an Object[] of data into a DataOutputStream.
      *
@@ -181,48 +195,59 @@ public class PacketHandler {
     }
 
     public void initialize() {
-        netHandler.registerMessage(PacketRobit.class, RobitMessage.class, 0, Side.SERVER);
-        netHandler.registerMessage(PacketTransmitterUpdate.class, TransmitterUpdateMessage.class, 1, Side.CLIENT);
-        //FREE ID 2
-        //FREE ID 3
-        netHandler.registerMessage(PacketItemStack.class, ItemStackMessage.class, 4, Side.SERVER);
-        netHandler.registerMessage(PacketTileEntity.class, TileEntityMessage.class, 5, Side.CLIENT);
-        netHandler.registerMessage(PacketTileEntity.class, TileEntityMessage.class, 5, Side.SERVER);
-        netHandler.registerMessage(PacketPortalFX.class, PortalFXMessage.class, 6, Side.CLIENT);
-        netHandler.registerMessage(PacketDataRequest.class, DataRequestMessage.class, 7, Side.SERVER);
-        netHandler.registerMessage(PacketOredictionificatorGui.class, OredictionificatorGuiMessage.class, 8, Side.CLIENT);
-        netHandler.registerMessage(PacketOredictionificatorGui.class, OredictionificatorGuiMessage.class, 8, Side.SERVER);
-        netHandler.registerMessage(PacketSecurityMode.class, SecurityModeMessage.class, 9, Side.SERVER);
-        netHandler.registerMessage(PacketPortableTeleporter.class, PortableTeleporterMessage.class, 10, Side.CLIENT);
-        netHandler.registerMessage(PacketPortableTeleporter.class, PortableTeleporterMessage.class, 10, Side.SERVER);
-        netHandler.registerMessage(PacketRemoveUpgrade.class, RemoveUpgradeMessage.class, 11, Side.SERVER);
-        netHandler.registerMessage(PacketRedstoneControl.class, RedstoneControlMessage.class, 12, Side.SERVER);
+        registerMessage(PacketRobit.class, RobitMessage.class, 0, Side.SERVER);
+        registerMessage(PacketTransmitterUpdate.class, TransmitterUpdateMessage.class, 1, Side.CLIENT);
+        registerMessage(PacketTileSync.class, TileSyncMessage.class, 2, Side.CLIENT);
+        netHandler.registerMessage(PacketBatch.class, BatchMessage.class, 3, Side.CLIENT);
+        registerMessage(PacketItemStack.class, ItemStackMessage.class, 4, Side.SERVER);
+        registerMessage(PacketTileEntity.class, TileEntityMessage.class, 5, Side.CLIENT);
+        registerMessage(PacketTileEntity.class, TileEntityMessage.class, 5, Side.SERVER);
+        registerMessage(PacketPortalFX.class, PortalFXMessage.class, 6, Side.CLIENT);
+        registerMessage(PacketDataRequest.class, DataRequestMessage.class, 7, Side.SERVER);
+        registerMessage(PacketOredictionificatorGui.class, OredictionificatorGuiMessage.class, 8, Side.CLIENT);
+        registerMessage(PacketOredictionificatorGui.class, OredictionificatorGuiMessage.class, 8, Side.SERVER);
+        registerMessage(PacketSecurityMode.class, SecurityModeMessage.class, 9, Side.SERVER);
+        registerMessage(PacketPortableTeleporter.class, PortableTeleporterMessage.class, 10, Side.CLIENT);
+        registerMessage(PacketPortableTeleporter.class, PortableTeleporterMessage.class, 10, Side.SERVER);
+        registerMessage(PacketRemoveUpgrade.class, RemoveUpgradeMessage.class, 11, Side.SERVER);
+        registerMessage(PacketRedstoneControl.class, RedstoneControlMessage.class, 12, Side.SERVER);
         //FREE ID 13
-        netHandler.registerMessage(PacketLogisticalSorterGui.class, LogisticalSorterGuiMessage.class, 14, Side.CLIENT);
-        netHandler.registerMessage(PacketLogisticalSorterGui.class, LogisticalSorterGuiMessage.class, 14, Side.SERVER);
-        netHandler.registerMessage(PacketNewFilter.class, NewFilterMessage.class, 15, Side.SERVER);
-        netHandler.registerMessage(PacketEditFilter.class, EditFilterMessage.class, 16, Side.SERVER);
-        netHandler.registerMessage(PacketConfigurationUpdate.class, ConfigurationUpdateMessage.class, 17, Side.SERVER);
-        netHandler.registerMessage(PacketSimpleGui.class, SimpleGuiMessage.class, 18, Side.CLIENT);
-        netHandler.registerMessage(PacketSimpleGui.class, SimpleGuiMessage.class, 18, Side.SERVER);
-        netHandler.registerMessage(PacketDigitalMinerGui.class, DigitalMinerGuiMessage.class, 19, Side.CLIENT);
-        netHandler.registerMessage(PacketDigitalMinerGui.class, DigitalMinerGuiMessage.class, 19, Side.SERVER);
-        netHandler.registerMessage(PacketJetpackData.class, JetpackDataMessage.class, 20, Side.CLIENT);
-        netHandler.registerMessage(PacketJetpackData.class, JetpackDataMessage.class, 20, Side.SERVER);
-        netHandler.registerMessage(PacketKey.class, KeyMessage.class, 21, Side.SERVER);
-        netHandler.registerMessage(PacketScubaTankData.class, ScubaTankDataMessage.class, 22, Side.CLIENT);
-        netHandler.registerMessage(PacketScubaTankData.class, ScubaTankDataMessage.class, 22, Side.SERVER);
-        netHandler.registerMessage(PacketConfigSync.class, ConfigSyncMessage.class, 23, Side.CLIENT);
-        netHandler.registerMessage(PacketBoxBlacklist.class, BoxBlacklistMessage.class, 24, Side.CLIENT);
-        //FREE ID 25
-        netHandler.registerMessage(PacketContainerEditMode.class, ContainerEditModeMessage.class, 26, Side.SERVER);
-        netHandler.registerMessage(PacketFlamethrowerData.class, FlamethrowerDataMessage.class, 27, Side.CLIENT);
-        netHandler.registerMessage(PacketFlamethrowerData.class, FlamethrowerDataMessage.class, 27, Side.SERVER);
-        netHandler.registerMessage(PacketDropperUse.class, DropperUseMessage.class, 28, Side.SERVER);
-        netHandler.registerMessage(PacketEntityMove.class, EntityMoveMessage.class, 29, Side.CLIENT);
-        netHandler.registerMessage(PacketSecurityUpdate.class, SecurityUpdateMessage.class, 30, Side.CLIENT);
-        netHandler.registerMessage(PacketFreeRunnerData.class, FreeRunnerDataMessage.class, 31, Side.CLIENT);
-        netHandler.registerMessage(PacketFreeRunnerData.class, FreeRunnerDataMessage.class, 31, Side.SERVER);
+        registerMessage(PacketLogisticalSorterGui.class, LogisticalSorterGuiMessage.class, 14, Side.CLIENT);
+        registerMessage(PacketLogisticalSorterGui.class, LogisticalSorterGuiMessage.class, 14, Side.SERVER);
+        registerMessage(PacketNewFilter.class, NewFilterMessage.class, 15, Side.SERVER);
+        registerMessage(PacketEditFilter.class, EditFilterMessage.class, 16, Side.SERVER);
+        registerMessage(PacketConfigurationUpdate.class, ConfigurationUpdateMessage.class, 17, Side.SERVER);
+        registerMessage(PacketSimpleGui.class, SimpleGuiMessage.class, 18, Side.CLIENT);
+        registerMessage(PacketSimpleGui.class, SimpleGuiMessage.class, 18, Side.SERVER);
+        registerMessage(PacketDigitalMinerGui.class, DigitalMinerGuiMessage.class, 19, Side.CLIENT);
+        registerMessage(PacketDigitalMinerGui.class, DigitalMinerGuiMessage.class, 19, Side.SERVER);
+        registerMessage(PacketJetpackData.class, JetpackDataMessage.class, 20, Side.CLIENT);
+        registerMessage(PacketJetpackData.class, JetpackDataMessage.class, 20, Side.SERVER);
+        registerMessage(PacketKey.class, KeyMessage.class, 21, Side.SERVER);
+        registerMessage(PacketScubaTankData.class, ScubaTankDataMessage.class, 22, Side.CLIENT);
+        registerMessage(PacketScubaTankData.class, ScubaTankDataMessage.class, 22, Side.SERVER);
+        registerMessage(PacketConfigSync.class, ConfigSyncMessage.class, 23, Side.CLIENT);
+        registerMessage(PacketBoxBlacklist.class, BoxBlacklistMessage.class, 24, Side.CLIENT);
+        registerMessage(PacketFrequencyList.class, FrequencyListMessage.class, 25, Side.CLIENT);
+        registerMessage(PacketFrequencyList.class, FrequencyListMessage.class, 25, Side.SERVER);
+        registerMessage(PacketContainerEditMode.class, ContainerEditModeMessage.class, 26, Side.SERVER);
+        registerMessage(PacketFlamethrowerData.class, FlamethrowerDataMessage.class, 27, Side.CLIENT);
+        registerMessage(PacketFlamethrowerData.class, FlamethrowerDataMessage.class, 27, Side.SERVER);
+        registerMessage(PacketDropperUse.class, DropperUseMessage.class, 28, Side.SERVER);
+        registerMessage(PacketEntityMove.class, EntityMoveMessage.class, 29, Side.CLIENT);
+        registerMessage(PacketSecurityUpdate.class, SecurityUpdateMessage.class, 30, Side.CLIENT);
+        registerMessage(PacketFreeRunnerData.class, FreeRunnerDataMessage.class, 31, Side.CLIENT);
+        registerMessage(PacketFreeRunnerData.class, FreeRunnerDataMessage.class, 31, Side.SERVER);
+        MinecraftForge.EVENT_BUS.register(batcher);
+        MinecraftForge.EVENT_BUS.register(receivers);
+    }
+
+    private <REQ extends IMessage, REPLY extends IMessage> void registerMessage(Class<? extends IMessageHandler<REQ, REPLY>> handler, Class<REQ> message, int id,
+          Side side) {
+        netHandler.registerMessage(handler, message, id, side);
+        if (side == Side.CLIENT) {
+            batcher.register(handler, message, id);
+        }
     }
 
     /**
@@ -232,6 +257,22 @@ public class PacketHandler {
      * @param player  - the player to send it to
      */
     public void sendTo(IMessage message, EntityPlayerMP player) {
+        if (!batcher.queue(message, player)) {
+            batcher.record(message);
+            netHandler.sendTo(message, player);
+        }
+    }
+
+    /**
+     * Send this message to the specified player right away, after anything queued for them this tick. Used for messages that vanilla packets sent straight after
+     * depend on, such as opening a GUI before its window contents get sent.
+     *
+     * @param message - the message to send
+     * @param player  - the player to send it to
+     */
+    public void sendToNow(IMessage message, EntityPlayerMP player) {
+        batcher.flush(player);
+        batcher.record(message);
         netHandler.sendTo(message, player);
     }
 
@@ -241,7 +282,15 @@ public class PacketHandler {
      * @param message - message to send
      */
     public void sendToAll(IMessage message) {
-        netHandler.sendToAll(message);
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (server != null && batcher.isActive()) {
+            //Queue it for each player, so it doesn't overtake messages already queued for them this tick
+            for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
+                sendTo(message, player);
+            }
+        } else {
+            netHandler.sendToAll(message);
+        }
     }
 
     /**
@@ -251,7 +300,20 @@ public class PacketHandler {
      * @param point   - the TargetPoint around which to send
      */
     public void sendToAllAround(IMessage message, TargetPoint point) {
-        netHandler.sendToAllAround(message, point);
+        if (batcher.isActive()) {
+            double rangeSq = point.range * point.range;
+            //The one extra chunk covers players that moved since the index was updated
+            int radius = MathHelper.ceil(point.range / 16) + 1;
+            int chunkX = MathHelper.floor(point.x) >> 4;
+            int chunkZ = MathHelper.floor(point.z) >> 4;
+            //Same check as sendToAllAround, so the messages can be batched per player
+            for (EntityPlayerMP player : receivers.getPlayers(point.dimension, chunkX - radius, chunkZ - radius, chunkX + radius, chunkZ + radius,
+                  player -> player.getDistanceSq(point.x, point.y, point.z) < rangeSq)) {
+                sendTo(message, player);
+            }
+        } else {
+            netHandler.sendToAllAround(message, point);
+        }
     }
 
     /**
@@ -261,7 +323,17 @@ public class PacketHandler {
      * @param dimensionId - the dimension id to target
      */
     public void sendToDimension(IMessage message, int dimensionId) {
-        netHandler.sendToDimension(message, dimensionId);
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (server != null && batcher.isActive()) {
+            //Queue it for each player, so it doesn't overtake messages already queued for them this tick
+            for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
+                if (player.dimension == dimensionId) {
+                    sendTo(message, player);
+                }
+            }
+        } else {
+            netHandler.sendToDimension(message, dimensionId);
+        }
     }
 
     /**
@@ -283,14 +355,28 @@ public class PacketHandler {
     public void sendToCuboid(IMessage message, AxisAlignedBB cuboid, int dimId) {
         MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
         if (server != null && cuboid != null) {
-            for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
-                if (player.dimension == dimId && cuboid.contains(new Vec3d(player.posX, player.posY, player.posZ))) {
+            if (server.isCallingFromMinecraftThread()) {
+                //The one extra chunk covers players that moved since the index was updated
+                for (EntityPlayerMP player : receivers.getPlayers(dimId, (MathHelper.floor(cuboid.minX) >> 4) - 1, (MathHelper.floor(cuboid.minZ) >> 4) - 1,
+                      (MathHelper.floor(cuboid.maxX) >> 4) + 1, (MathHelper.floor(cuboid.maxZ) >> 4) + 1, player -> isInside(player, cuboid))) {
                     sendTo(message, player);
                 }
+            } else {
+                for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
+                    if (player.dimension == dimId && isInside(player, cuboid)) {
+                        sendTo(message, player);
+                    }
+                }
             }
         }
     }
 
+    private static boolean isInside(EntityPlayerMP player, AxisAlignedBB cuboid) {
+        //Same as AxisAlignedBB#contains without creating a Vec3d for every player
+        return player.posX > cuboid.minX && player.posX < cuboid.maxX && player.posY > cuboid.minY && player.posY < cuboid.maxY && player.posZ > cuboid.minZ &&
+               player.posZ < cuboid.maxZ;
+    }
+
     public <TILE extends TileEntity & ITileNetwork> void sendUpdatePacket(TILE tile) {
         sendToAllTracking(new TileEntityMessage(tile), tile);
     }
@@ -310,17 +396,45 @@ public class PacketHandler {
     }
 
     public void sendToAllTracking(IMessage message, TargetPoint point) {
-        netHandler.sendToAllTracking(message, point);
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        if (server != null && batcher.isActive()) {
+            PlayerChunkMap chunkMap = server.getWorld(point.dimension).getPlayerChunkMap();
+            int chunkX = MathHelper.floor(point.x) >> 4;
+            int chunkZ = MathHelper.floor(point.z) >> 4;
+            //Only players within view distance can be watching the chunk, the one extra chunk covers players that moved since the index was updated
+            int radius = server.getPlayerList().getViewDistance() + 1;
+            //Find the players the same way sendToAllTracking does, so the messages can be batched per player
+            for (EntityPlayerMP player : receivers.getPlayers(point.dimension, chunkX - radius, chunkZ - radius, chunkX + radius, chunkZ + radius,
+                  player -> chunkMap.isPlayerWatchingChunk(player, chunkX, chunkZ))) {
+                sendTo(message, player);
+            }
+        } else {
+            netHandler.sendToAllTracking(message, point);
+        }
     }
 
-    //TODO: change Network stuff over to using this
+    /**
+     * Send this message to all players that have any part of the range within their view distance.
+     *
+     * @param message - the message to send
+     * @param range   - the range the message is about
+     */
     public void sendToReceivers(IMessage message, Range4D range) {
         MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
-        if (server != null) {
-            for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
-                if (range.hasPlayerInRange(player)) {
+        if (server != null && range != null) {
+            if (server.isCallingFromMinecraftThread()) {
+                //One chunk more than the view distance, as Range4D#hasPlayerInRange has some slack around the player
+                int radius = server.getPlayerList().getViewDistance() + 1;
+                for (EntityPlayerMP player : receivers.getPlayers(range.dimensionId, (range.xMin >> 4) - radius, (range.zMin >> 4) - radius,
+                      (range.xMax >> 4) + radius, (range.zMax >> 4) + radius, range::hasPlayerInRange)) {
                     sendTo(message, player);
                 }
+            } else {
+                for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
+                    if (range.hasPlayerInRange(player)) {
+                        sendTo(message, player);
+                    }
+                }
             }
         }
     }
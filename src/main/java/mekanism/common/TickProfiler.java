@@ -0,0 +1,297 @@
+package mekanism.common;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.transmitters.DynamicNetwork;
+import mekanism.api.transmitters.TransmitterNetworkRegistry;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketBatcher.MessageStats;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+/**
+ * Measures how long Mekanism's tiles, networks, multiblocks and frequencies take to tick on the server. Each call gets timed with a chance of one in
+ * {@code ProfilerSampleInterval}, the times are scaled back up when reported. The calls are picked at random, as a fixed every-Nth pattern would keep timing the same
+ * instances every tick. Timings are kept per type and per location, so both the most expensive kinds of machines and the most expensive builds can be found.
+ * <p>
+ * Everything is done on the server thread, the profiler does nothing until it gets started with {@code /mek profile start}.
+ */
+public final class TickProfiler {
+
+    private static final Map<String, Timing> byType = new HashMap<>();
+    private static final Map<Object, Timing> byLocation = new HashMap<>();
+
+    private static boolean enabled;
+    private static int sampleInterval = 1;
+    private static long ticks;
+    private static long lastDump;
+
+    private TickProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void start() {
+        sampleInterval = MekanismConfig.current().general.profilerSampleInterval.val();
+        lastDump = System.currentTimeMillis();
+        enabled = true;
+        TransmitterNetworkRegistry.setNetworkProfiler(new TransmitterNetworkRegistry.NetworkProfiler() {
+            @Override
+            public long begin() {
+                return TickProfiler.begin();
+            }
+
+            @Override
+            public void end(long start, DynamicNetwork<?, ?, ?> network) {
+                if (start != 0) {
+                    World world = network.getWorld();
+                    TickProfiler.end(start, Category.NETWORK, network.getClass().getSimpleName(), network.getClass().getSimpleName() + "#" +
+                          Integer.toHexString(System.identityHashCode(network)) + (world == null ? "" : " in dimension " + world.provider.getDimension()));
+                }
+            }
+        });
+    }
+
+    public static void stop() {
+        enabled = false;
+        TransmitterNetworkRegistry.setNetworkProfiler(null);
+    }
+
+    public static void reset() {
+        byType.clear();
+        byLocation.clear();
+        ticks = 0;
+        Mekanism.packetHandler.batcher.resetStats();
+    }
+
+    /**
+     * @return the time to pass to {@link #end}, or 0 if this call does not get sampled
+     */
+    public static long begin() {
+        if (!enabled) {
+            return 0;
+        }
+        if (sampleInterval > 1 && ThreadLocalRandom.current().nextInt(sampleInterval) != 0) {
+            return 0;
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * @param start    - what {@link #begin()} returned
+     * @param location - where the timed code ran, used to tell apart instances of the same type
+     */
+    public static void end(long start, Category category, String type, @Nullable Object location) {
+        if (start == 0) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        byType.computeIfAbsent(category.getName() + ":" + type, key -> new Timing(category, type, null)).add(elapsed);
+        if (location != null) {
+            byLocation.computeIfAbsent(location, key -> new Timing(category, type, key.toString())).add(elapsed);
+        }
+    }
+
+    public static void end(long start, Category category, Class<?> type, @Nullable Coord4D location) {
+        if (start != 0) {
+            end(start, category, type.getSimpleName(), location);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onTick(ServerTickEvent event) {
+        if (enabled && event.phase == Phase.END) {
+            ticks++;
+            int interval = MekanismConfig.current().general.profilerDumpInterval.val();
+            if (interval > 0 && System.currentTimeMillis() - lastDump >= interval * 1000L) {
+                lastDump = System.currentTimeMillis();
+                try {
+                    dump(true);
+                    dump(false);
+                } catch (IOException e) {
+                    Mekanism.logger.error("Failed to write tick profile", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param count      - maximum amount of entries to return
+     * @param byLocation - whether to get the most expensive locations instead of types
+     *
+     * @return the entries that took the most time, most expensive first
+     */
+    public static List<Timing> getTop(int count, boolean byLocation) {
+        List<Timing> sorted = new ArrayList<>(byLocation ? TickProfiler.byLocation.values() : byType.values());
+        sorted.sort(Comparator.comparingLong(Timing::getNanos).reversed());
+        return sorted.size() > count ? sorted.subList(0, count) : sorted;
+    }
+
+    public static long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * Writes every timing to a new file in the {@code mekanism/profiles} folder of the server.
+     *
+     * @return the file written
+     */
+    public static File dump(boolean json) throws IOException {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        File folder = server == null ? new File("mekanism", "profiles") : server.getFile("mekanism" + File.separator + "profiles");
+        if (!folder.isDirectory() && !folder.mkdirs()) {
+            throw new IOException("Could not create " + folder);
+        }
+        File file = new File(folder, "profile-" + new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.ROOT).format(new Date()) + (json ? ".json" : ".csv"));
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            if (json) {
+                writeJson(writer);
+            } else {
+                writeCsv(writer);
+            }
+        }
+        return file;
+    }
+
+    private static void writeJson(Writer writer) {
+        JsonObject root = new JsonObject();
+        root.addProperty("ticks", ticks);
+        root.addProperty("sampleInterval", sampleInterval);
+        root.add("types", toJson(getTop(Integer.MAX_VALUE, false)));
+        root.add("locations", toJson(getTop(Integer.MAX_VALUE, true)));
+        JsonObject packets = new JsonObject();
+        for (Map.Entry<String, MessageStats> entry : Mekanism.packetHandler.batcher.getStats().entrySet()) {
+            JsonObject stats = new JsonObject();
+            stats.addProperty("messages", entry.getValue().getMessages());
+            stats.addProperty("bytes", entry.getValue().getBytes());
+            packets.add(entry.getKey(), stats);
+        }
+        root.add("packets", packets);
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        gson.toJson(root, writer);
+    }
+
+    private static JsonArray toJson(Collection<Timing> timings) {
+        JsonArray array = new JsonArray();
+        for (Timing timing : timings) {
+            JsonObject object = new JsonObject();
+            object.addProperty("category", timing.category.getName());
+            object.addProperty("type", timing.type);
+            if (timing.location != null) {
+                object.addProperty("location", timing.location);
+            }
+            object.addProperty("samples", timing.samples);
+            object.addProperty("estimatedNanos", timing.getNanos());
+            object.addProperty("microsPerTick", timing.getMicrosPerTick());
+            object.addProperty("maxNanos", timing.maxNanos);
+            array.add(object);
+        }
+        return array;
+    }
+
+    private static void writeCsv(Writer writer) throws IOException {
+        writer.write("scope,category,type,location,samples,estimated_nanos,micros_per_tick,max_nanos\n");
+        writeCsv(writer, "type", getTop(Integer.MAX_VALUE, false));
+        writeCsv(writer, "location", getTop(Integer.MAX_VALUE, true));
+    }
+
+    private static void writeCsv(Writer writer, String scope, Collection<Timing> timings) throws IOException {
+        for (Timing timing : timings) {
+            writer.write(String.format(Locale.ROOT, "%s,%s,%s,\"%s\",%d,%d,%.3f,%d%n", scope, timing.category.getName(), timing.type,
+                  timing.location == null ? "" : timing.location.replace("\"", "\"\""), timing.samples, timing.getNanos(), timing.getMicrosPerTick(),
+                  timing.maxNanos));
+        }
+    }
+
+    public enum Category {
+        TILE("tile"),
+        NETWORK("network"),
+        MULTIBLOCK("multiblock"),
+        FREQUENCY("frequency");
+
+        private final String name;
+
+        Category(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public static class Timing {
+
+        private final Category category;
+        private final String type;
+        @Nullable
+        private final String location;
+        private long samples;
+        /**
+         * The sampled time, each sample scaled up by the sample interval it was taken with.
+         */
+        private long estimatedNanos;
+        private long maxNanos;
+
+        private Timing(Category category, String type, @Nullable String location) {
+            this.category = category;
+            this.type = type;
+            this.location = location;
+        }
+
+        private void add(long nanos) {
+            samples++;
+            estimatedNanos += nanos * sampleInterval;
+            maxNanos = Math.max(maxNanos, nanos);
+        }
+
+        public Category getCategory() {
+            return category;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        @Nullable
+        public String getLocation() {
+            return location;
+        }
+
+        /**
+         * @return the sampled time scaled up to an estimate of the total time taken
+         */
+        public long getNanos() {
+            return estimatedNanos;
+        }
+
+        public double getMicrosPerTick() {
+            return ticks == 0 ? 0 : getNanos() / 1000D / ticks;
+        }
+    }
+}
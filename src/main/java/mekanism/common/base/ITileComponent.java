@@ -17,4 +17,7 @@ public interface ITileComponent {
     void write(TileNetworkList data);
 
     void invalidate();
+
+    default void onChunkUnload() {
+    }
 }
\ No newline at end of file
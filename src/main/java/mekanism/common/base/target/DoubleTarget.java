@@ -0,0 +1,138 @@
+package mekanism.common.base.target;
+
+import java.util.Arrays;
+import net.minecraft.util.EnumFacing;
+
+/**
+ * A {@link Target} for types that get transferred as doubles, such as energy.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ */
+public abstract class DoubleTarget<HANDLER> extends Target<HANDLER> {
+
+    protected double[] needed = new double[handlers.length];
+    protected double[] planned = new double[handlers.length];
+    private double amountToSplit;
+
+    /**
+     * Splits the given amount between all the handlers of this target.
+     *
+     * @param amountToSplit The amount to split between the handlers.
+     *
+     * @return The amount that actually got sent.
+     */
+    public double split(double amountToSplit) {
+        if (size == 0) {
+            return 0;
+        }
+        prepare(amountToSplit);
+        sortByNeeded();
+
+        double amountLeft = amountToSplit;
+        double sent = 0;
+        int toSplitAmong = size;
+        double amountPerTarget = amountToSplit / toSplitAmong;
+        for (int i = 0; i < size; i++) {
+            //Everything before the first handler that wants more than the even share gets what it wants,
+            // everything after it gets the even share
+            double amount = Math.min(needed[i], amountPerTarget);
+            double accepted = amount > 0 ? acceptAmount(getHandler(i), sides[i], amount) : 0;
+            amountLeft -= accepted;
+            sent += accepted;
+            toSplitAmong--;
+            //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+            if (accepted != amountPerTarget && toSplitAmong != 0) {
+                amountPerTarget = amountLeft / toSplitAmong;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Snapshots how much each handler wants of the given amount. Must be called from the thread that owns the handlers.
+     */
+    public void prepare(double amountToSplit) {
+        this.amountToSplit = amountToSplit;
+        for (int i = 0; i < size; i++) {
+            needed[i] = simulate(getHandler(i), sides[i], amountToSplit);
+        }
+    }
+
+    /**
+     * Calculates how much each handler will be given based on the amounts snapshot by {@link #prepare(double)}, assuming every handler accepts what it asked for. This
+     * does not touch any handler, so it is safe to call from another thread.
+     *
+     * @return The total amount that is planned to be sent.
+     */
+    public double plan() {
+        sortByNeeded();
+        double amountLeft = amountToSplit;
+        int toSplitAmong = size;
+        for (int i = 0; i < size; i++) {
+            double amount = Math.min(needed[i], amountLeft / toSplitAmong);
+            planned[i] = amount;
+            amountLeft -= amount;
+            toSplitAmong--;
+        }
+        markPlanned();
+        return amountToSplit - amountLeft;
+    }
+
+    /**
+     * Gives each handler the amount calculated by {@link #plan()}. Must be called from the thread that owns the handlers. Anything a handler does not accept of its
+     * planned amount gets split between the handlers after it, the same way {@link #split(double)} does.
+     *
+     * @return The amount that actually got sent.
+     */
+    public double applyPlan() {
+        double sent = 0;
+        double refused = 0;
+        for (int i = 0; i < size; i++) {
+            double amount = Math.min(needed[i], planned[i] + refused / (size - i));
+            if (amount > 0) {
+                double accepted = acceptAmount(getHandler(i), sides[i], amount);
+                sent += accepted;
+                refused += planned[i] - accepted;
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @return The amount that was actually accepted.
+     */
+    protected abstract double acceptAmount(HANDLER handler, EnumFacing side, double amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param amount  The total amount being sent.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract double simulate(HANDLER handler, EnumFacing side, double amount);
+
+    @Override
+    protected void grow(int capacity) {
+        super.grow(capacity);
+        needed = Arrays.copyOf(needed, capacity);
+        planned = Arrays.copyOf(planned, capacity);
+    }
+
+    @Override
+    protected void swap(int a, int b) {
+        super.swap(a, b);
+        double temp = needed[a];
+        needed[a] = needed[b];
+        needed[b] = temp;
+    }
+
+    @Override
+    protected int compareNeeded(int a, int b) {
+        return Double.compare(needed[a], needed[b]);
+    }
+}
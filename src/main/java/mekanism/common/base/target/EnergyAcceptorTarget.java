@@ -1,18 +1,17 @@
 package mekanism.common.base.target;
 
 import mekanism.common.base.EnergyAcceptorWrapper;
-import mekanism.common.base.SplitInfo;
 import net.minecraft.util.EnumFacing;
 
-public class EnergyAcceptorTarget extends Target<EnergyAcceptorWrapper, Double, Double> {
+public class EnergyAcceptorTarget extends DoubleTarget<EnergyAcceptorWrapper> {
 
     @Override
-    protected void acceptAmount(EnumFacing side, SplitInfo<Double> splitInfo, Double amount) {
-        splitInfo.send(handlers.get(side).acceptEnergy(side, amount, false));
+    protected double acceptAmount(EnergyAcceptorWrapper wrapper, EnumFacing side, double amount) {
+        return wrapper.acceptEnergy(side, amount, false);
     }
 
     @Override
-    protected Double simulate(EnergyAcceptorWrapper wrapper, EnumFacing side, Double energyToSend) {
+    protected double simulate(EnergyAcceptorWrapper wrapper, EnumFacing side, double energyToSend) {
         return wrapper.acceptEnergy(side, energyToSend, true);
     }
-}
\ No newline at end of file
+}
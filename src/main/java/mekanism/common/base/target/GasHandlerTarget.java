@@ -2,22 +2,17 @@ package mekanism.common.base.target;
 
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.IGasHandler;
-import mekanism.common.base.SplitInfo;
 import net.minecraft.util.EnumFacing;
 
-public class GasHandlerTarget extends Target<IGasHandler, Integer, GasStack> {
-
-    public GasHandlerTarget(GasStack type) {
-        this.extra = type;
-    }
+public class GasHandlerTarget extends IntegerTarget<IGasHandler, GasStack> {
 
     @Override
-    protected void acceptAmount(EnumFacing side, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handlers.get(side).receiveGas(side, new GasStack(extra.getGas(), amount), true));
+    protected int acceptAmount(IGasHandler handler, EnumFacing side, GasStack gasStack, int amount) {
+        return handler.receiveGas(side, new GasStack(gasStack.getGas(), amount), true);
     }
 
     @Override
-    protected Integer simulate(IGasHandler handler, EnumFacing side, GasStack gasStack) {
+    protected int simulate(IGasHandler handler, EnumFacing side, GasStack gasStack) {
         return handler.receiveGas(side, gasStack, false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,148 @@
+package mekanism.common.base.target;
+
+import java.util.Arrays;
+import net.minecraft.util.EnumFacing;
+
+/**
+ * A {@link Target} for types that get transferred as integers, such as gases and fluids.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   The stack that is being transferred.
+ */
+public abstract class IntegerTarget<HANDLER, EXTRA> extends Target<HANDLER> {
+
+    protected int[] needed = new int[handlers.length];
+    protected int[] planned = new int[handlers.length];
+    private EXTRA toSend;
+    private int amountToSplit;
+
+    /**
+     * Splits the given amount between all the handlers of this target.
+     *
+     * @param toSend        The stack being sent, used for simulating how much each handler wants.
+     * @param amountToSplit The amount to split between the handlers.
+     *
+     * @return The amount that actually got sent.
+     */
+    public int split(EXTRA toSend, int amountToSplit) {
+        if (size == 0) {
+            return 0;
+        }
+        prepare(toSend, amountToSplit);
+        sortByNeeded();
+
+        int amountLeft = amountToSplit;
+        int sent = 0;
+        int toSplitAmong = size;
+        int amountPerTarget = amountToSplit / toSplitAmong;
+        for (int i = 0; i < size; i++) {
+            //Everything before the first handler that wants more than the even share gets what it wants,
+            // everything after it gets the even share
+            int amount = Math.min(needed[i], amountPerTarget);
+            int accepted = amount > 0 ? acceptAmount(getHandler(i), sides[i], toSend, amount) : 0;
+            amountLeft -= accepted;
+            sent += accepted;
+            toSplitAmong--;
+            //Only recalculate it if it is not willing to accept/doesn't want the full per side split
+            if (accepted != amountPerTarget && toSplitAmong != 0) {
+                amountPerTarget = amountLeft / toSplitAmong;
+            }
+        }
+        this.toSend = null;
+        return sent;
+    }
+
+    /**
+     * Snapshots how much each handler wants of the given stack. Must be called from the thread that owns the handlers.
+     */
+    public void prepare(EXTRA toSend, int amountToSplit) {
+        this.toSend = toSend;
+        this.amountToSplit = amountToSplit;
+        for (int i = 0; i < size; i++) {
+            needed[i] = simulate(getHandler(i), sides[i], toSend);
+        }
+    }
+
+    /**
+     * Calculates how much each handler will be given based on the amounts snapshot by {@link #prepare(Object, int)}, assuming every handler accepts what it asked for.
+     * This does not touch any handler, so it is safe to call from another thread.
+     *
+     * @return The total amount that is planned to be sent.
+     */
+    public int plan() {
+        sortByNeeded();
+        int amountLeft = amountToSplit;
+        int toSplitAmong = size;
+        int amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        for (int i = 0; i < size; i++) {
+            int amount = Math.min(needed[i], amountPerTarget);
+            planned[i] = amount;
+            amountLeft -= amount;
+            toSplitAmong--;
+            if (amount != amountPerTarget && toSplitAmong != 0) {
+                amountPerTarget = amountLeft / toSplitAmong;
+            }
+        }
+        markPlanned();
+        return amountToSplit - amountLeft;
+    }
+
+    /**
+     * Gives each handler the amount calculated by {@link #plan()}. Must be called from the thread that owns the handlers. Anything a handler does not accept of its
+     * planned amount gets split between the handlers after it, the same way {@link #split(Object, int)} does.
+     *
+     * @return The amount that actually got sent.
+     */
+    public int applyPlan() {
+        int sent = 0;
+        int refused = 0;
+        for (int i = 0; i < size; i++) {
+            int amount = Math.min(needed[i], planned[i] + refused / (size - i));
+            if (amount > 0) {
+                int accepted = acceptAmount(getHandler(i), sides[i], toSend, amount);
+                sent += accepted;
+                refused += planned[i] - accepted;
+            }
+        }
+        toSend = null;
+        return sent;
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @return The amount that was actually accepted.
+     */
+    protected abstract int acceptAmount(HANDLER handler, EnumFacing side, EXTRA toSend, int amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param side    The side we are simulating
+     * @param toSend  All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract int simulate(HANDLER handler, EnumFacing side, EXTRA toSend);
+
+    @Override
+    protected void grow(int capacity) {
+        super.grow(capacity);
+        needed = Arrays.copyOf(needed, capacity);
+        planned = Arrays.copyOf(planned, capacity);
+    }
+
+    @Override
+    protected void swap(int a, int b) {
+        super.swap(a, b);
+        int temp = needed[a];
+        needed[a] = needed[b];
+        needed[b] = temp;
+    }
+
+    @Override
+    protected int compareNeeded(int a, int b) {
+        return Integer.compare(needed[a], needed[b]);
+    }
+}
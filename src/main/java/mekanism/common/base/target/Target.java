@@ -1,118 +1,114 @@
 package mekanism.common.base.target;
 
-import java.util.EnumMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Map.Entry;
-import mekanism.common.base.SplitInfo;
+import java.util.Arrays;
 import net.minecraft.util.EnumFacing;
 
 /**
- * Keeps track of a target for emitting from various networks.
+ * Keeps track of the handlers to emit to from various networks. Handlers are stored in flat arrays so that a target can be reset and reused for every emit without
+ * creating any garbage.
+ *
+ * The amount is split the same way for every type: handlers that want less than an even share of what is left get what they want, smallest first, and whatever remains
+ * after that is split evenly between the handlers that want more. If a handler accepts less than it was offered the even share gets recalculated for the handlers that
+ * have not been given anything yet.
  *
  * @param <HANDLER> The Handler this target keeps track of.
- * @param <TYPE>    The type that is being transferred.
- * @param <EXTRA>   Any extra information this target may need to keep track of.
  */
-public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA> {
+public abstract class Target<HANDLER> {
 
-    /**
-     * Map of the sides to the handler for that side.
-     */
-    protected final Map<EnumFacing, HANDLER> handlers = new EnumMap<>(EnumFacing.class);
-    /**
-     * Map of sides that want more than we can/are willing to provide. Value is the amount they want.
-     */
-    protected final Map<EnumFacing, TYPE> needed = new EnumMap<>(EnumFacing.class);
+    private static final int INITIAL_CAPACITY = 8;
 
-    protected EXTRA extra;
+    protected Object[] handlers = new Object[INITIAL_CAPACITY];
+    protected EnumFacing[] sides = new EnumFacing[INITIAL_CAPACITY];
+    protected int size;
+    private boolean hasPlan;
 
     public void addHandler(EnumFacing side, HANDLER handler) {
-        handlers.put(side, handler);
+        if (size == handlers.length) {
+            grow(size * 2);
+        }
+        handlers[size] = handler;
+        sides[size] = side;
+        size++;
     }
 
-    public Map<EnumFacing, HANDLER> getHandlers() {
-        return handlers;
+    /**
+     * @return The number of handlers that have been added since the last reset.
+     */
+    public int getHandlerCount() {
+        return size;
     }
 
     /**
-     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
-     * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
-     * all connections, but get satisfied by our first connection).
-     *
-     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
+     * Clears the handlers of this target so that it can be reused for another emit.
      */
-    public void sendRemainingSplit(SplitInfo<TYPE> splitInfo) {
-        //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
-        for (EnumFacing side : needed.keySet()) {
-            acceptAmount(side, splitInfo, splitInfo.getAmountPerTarget());
-        }
+    public void reset() {
+        //Don't keep references to handlers that may belong to unloaded tiles
+        Arrays.fill(handlers, 0, size, null);
+        size = 0;
+        hasPlan = false;
     }
 
     /**
-     * Gives the handler on the specified side the given amount.
-     *
-     * @param side      Side of handler to give.
-     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
-     *                  amount.
-     * @param amount    Amount to give.
-     *
-     * @implNote Must call {@link SplitInfo#send(Number)} with the amount actually accepted.
+     * @return true if the split of this target has been planned ahead of time and just needs to be applied.
      */
-    protected abstract void acceptAmount(EnumFacing side, SplitInfo<TYPE> splitInfo, TYPE amount);
+    public boolean hasPlan() {
+        return hasPlan;
+    }
+
+    protected void markPlanned() {
+        hasPlan = true;
+    }
+
+    protected HANDLER getHandler(int index) {
+        return (HANDLER) handlers[index];
+    }
+
+    protected void grow(int capacity) {
+        handlers = Arrays.copyOf(handlers, capacity);
+        sides = Arrays.copyOf(sides, capacity);
+    }
+
+    protected void swap(int a, int b) {
+        Object handler = handlers[a];
+        handlers[a] = handlers[b];
+        handlers[b] = handler;
+        EnumFacing side = sides[a];
+        sides[a] = sides[b];
+        sides[b] = side;
+    }
 
     /**
-     * Simulate inserting into the handler.
-     *
-     * @param handler The handler (should correspond with the side we are simulating).
-     * @param side    The side we are simulating
-     * @param extra   All the information we are inserting.
-     *
-     * @return The amount it was actually willing to accept.
+     * @return A negative number, zero or a positive number if the handler at index a needs less than, the same as or more than the handler at index b.
      */
-    protected abstract TYPE simulate(HANDLER handler, EnumFacing side, EXTRA extra);
+    protected abstract int compareNeeded(int a, int b);
 
     /**
-     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
-     * requested amount to the handler via {@link #acceptAmount(EnumFacing, SplitInfo, Number)}
-     *
-     * @param toSend    The total amount getting sent.
-     * @param splitInfo Information about current overall split.
+     * Sorts the handlers by how much they need, smallest first. This is a heap sort so that the worst case stays O(n log n) without allocating anything.
      */
-    public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
-        for (Entry<EnumFacing, HANDLER> entry : handlers.entrySet()) {
-            TYPE amountNeeded = simulate(entry.getValue(), entry.getKey(), toSend);
-            if (amountNeeded.compareTo(splitInfo.getAmountPerTarget()) <= 0) {
-                //Add the amount, in case something changed from simulation only mark actual sent amount
-                // in split info
-                acceptAmount(entry.getKey(), splitInfo, amountNeeded);
-            } else {
-                needed.put(entry.getKey(), amountNeeded);
-            }
+    protected void sortByNeeded() {
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(i, size);
+        }
+        for (int end = size - 1; end > 0; end--) {
+            swap(0, end);
+            siftDown(0, end);
         }
     }
 
-    /**
-     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
-     *
-     * @param splitInfo The new split to (re)check.
-     */
-    public void shiftNeeded(SplitInfo<TYPE> splitInfo) {
-        Iterator<Entry<EnumFacing, TYPE>> iterator = needed.entrySet().iterator();
-        //Use an iterator rather than a copy of the keyset of the needed submap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            Entry<EnumFacing, TYPE> needInfo = iterator.next();
-            TYPE amountNeeded = needInfo.getValue();
-            if (amountNeeded.compareTo(splitInfo.getAmountPerTarget()) <= 0) {
-                acceptAmount(needInfo.getKey(), splitInfo, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
-                //Continue checking things in case we happen to be
-                // getting things in a bad order so that we don't recheck
-                // the same values many times
+    private void siftDown(int root, int end) {
+        while (true) {
+            int child = 2 * root + 1;
+            if (child >= end) {
+                return;
+            }
+            if (child + 1 < end && compareNeeded(child + 1, child) > 0) {
+                child++;
+            }
+            if (compareNeeded(root, child) >= 0) {
+                return;
             }
+            swap(root, child);
+            root = child;
         }
     }
-}
\ No newline at end of file
+}
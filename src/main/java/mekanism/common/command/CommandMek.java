@@ -30,6 +30,7 @@ public class CommandMek extends CommandTreeBase {
         addSubcommand(new Cmd("tp", "cmd.mek.tp", this::teleportPush));
         addSubcommand(new Cmd("tpop", "cmd.mek.tpop", this::teleportPop));
         addSubcommand(new CommandChunk());
+        addSubcommand(new CommandProfile());
     }
 
     public static void register(FMLServerStartingEvent event) {
@@ -0,0 +1,87 @@
+package mekanism.common.command;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import javax.annotation.Nonnull;
+import mekanism.common.Mekanism;
+import mekanism.common.TickProfiler;
+import mekanism.common.TickProfiler.Timing;
+import mekanism.common.command.CommandMek.Cmd;
+import mekanism.common.network.PacketBatcher.MessageStats;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.server.command.CommandTreeBase;
+
+public class CommandProfile extends CommandTreeBase {
+
+    public CommandProfile() {
+        addSubcommand(new Cmd("start", "cmd.mek.profile.start", this::start));
+        addSubcommand(new Cmd("stop", "cmd.mek.profile.stop", this::stop));
+        addSubcommand(new Cmd("reset", "cmd.mek.profile.reset", this::reset));
+        addSubcommand(new Cmd("top", "cmd.mek.profile.top", this::showTop));
+        addSubcommand(new Cmd("packets", "cmd.mek.profile.packets", this::showPackets));
+        addSubcommand(new Cmd("dump", "cmd.mek.profile.dump", this::dump));
+    }
+
+    @Nonnull
+    @Override
+    public String getName() {
+        return "profile";
+    }
+
+    @Nonnull
+    @Override
+    public String getUsage(@Nonnull ICommandSender sender) {
+        return "cmd.mek.profile.usage";
+    }
+
+    public void start(MinecraftServer server, ICommandSender sender, String[] args) {
+        TickProfiler.start();
+        CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.start");
+    }
+
+    public void stop(MinecraftServer server, ICommandSender sender, String[] args) {
+        TickProfiler.stop();
+        CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.stop", TickProfiler.getTicks());
+    }
+
+    public void reset(MinecraftServer server, ICommandSender sender, String[] args) {
+        TickProfiler.reset();
+        CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.reset");
+    }
+
+    public void showTop(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+        int count = args.length > 0 ? CommandBase.parseInt(args[0], 1, 100) : 10;
+        boolean byLocation = args.length > 1 && args[1].equalsIgnoreCase("locations");
+        CommandBase.notifyCommandListener(sender, this, byLocation ? "cmd.mek.profile.top.locations" : "cmd.mek.profile.top.types", TickProfiler.getTicks());
+        for (Timing timing : TickProfiler.getTop(count, byLocation)) {
+            sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%.1fus/t %s %s", timing.getMicrosPerTick(),
+                  timing.getCategory().getName(), byLocation ? timing.getLocation() : timing.getType())));
+        }
+    }
+
+    public void showPackets(MinecraftServer server, ICommandSender sender, String[] args) {
+        Map<String, MessageStats> stats = Mekanism.packetHandler.batcher.getStats();
+        CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.packets", stats.size());
+        for (Map.Entry<String, MessageStats> entry : stats.entrySet()) {
+            sender.sendMessage(new TextComponentString(String.format(Locale.ROOT, "%s: %d messages, %d bytes", entry.getKey(),
+                  entry.getValue().getMessages(), entry.getValue().getBytes())));
+        }
+    }
+
+    public void dump(MinecraftServer server, ICommandSender sender, String[] args) {
+        boolean json = args.length == 0 || !args[0].equalsIgnoreCase("csv");
+        try {
+            File file = TickProfiler.dump(json);
+            CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.dump", file.getPath());
+        } catch (IOException e) {
+            Mekanism.logger.error("Failed to write tick profile", e);
+            CommandBase.notifyCommandListener(sender, this, "cmd.mek.profile.dump.failed", e.getMessage());
+        }
+    }
+}
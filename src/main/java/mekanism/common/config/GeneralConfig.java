@@ -22,6 +22,13 @@ public class GeneralConfig extends BaseConfig {
     public final BooleanOption logPackets = new BooleanOption(this, "general", "LogPackets", false,
           "Log Mekanism packet names. Debug setting.");
 
+    public final BooleanOption packetBatching = new BooleanOption(this, "general", "PacketBatching", true,
+          "Send all Mekanism packets for a player in a tick together as one packet at the end of the tick.");
+
+    public final IntOption packetBatchCompressionThreshold = new IntOption(this, "general", "PacketBatchCompressionThreshold", 0,
+          "Batched packets of at least this many bytes get compressed. Minecraft already compresses large packets on servers with network compression enabled, "
+          + "so this is only useful when that is turned off. 0 disables it.", 0, Integer.MAX_VALUE);
+
     public final BooleanOption dynamicTankEasterEgg = new BooleanOption(this, "general", "DynamicTankEasterEgg", false,
           "Audible sparkles.");
 
@@ -184,6 +191,10 @@ public class GeneralConfig extends BaseConfig {
     public final IntOption maxPlenisherNodes = new IntOption(this, "general", "MaxPlenisherNodes", 4000,
           "Fluidic Plenisher stops after this many blocks.");
 
+    public final IntOption pumpNodesPerTick = new IntOption(this, "general", "PumpNodesPerTick", 64,
+          "Number of remembered positions the Electric Pump and Fluidic Plenisher check per tick while searching for the next block to pump or fill.", 1,
+          Integer.MAX_VALUE);
+
     public final DoubleOption evaporationHeatDissipation = new DoubleOption(this, "general", "EvaporationHeatDissipation", 0.02D,
           "Thermal Evaporation Tower heat loss per tick.");
 
@@ -263,6 +274,26 @@ public class GeneralConfig extends BaseConfig {
           "Maximum radius in blocks that the Digital Miner can reach. (Increasing this may have negative effects on stability and/or performance. "
           + "We strongly recommend you leave it at the default value.)", 1, Integer.MAX_VALUE);
 
+    public final IntOption parallelNetworkThreads = new IntOption(this, "general", "ParallelNetworkThreads", 0,
+          "Number of worker threads used to plan energy, gas and fluid network transfers in parallel each tick. Transfers are still applied on the server thread. "
+          + "0 disables parallel planning.", 0, 64);
+
+    public final IntOption minerSearchThreads = new IntOption(this, "general", "MinerSearchThreads", 0,
+          "Number of threads Digital Miners search their area on. This is also how many miners can search at the same time, the others wait for their turn. "
+          + "0 uses half of the available processors.", 0, 64);
+
+    public final IntOption multiblockCacheChecks = new IntOption(this, "general", "MultiblockCacheChecksPerTick", 256,
+          "Number of cached multiblock locations checked per world tick for blocks that were changed without being broken. Broken and reformed multiblocks "
+          + "update their caches right away.", 1, Integer.MAX_VALUE);
+
+    public final IntOption profilerSampleInterval = new IntOption(this, "general", "ProfilerSampleInterval", 10,
+          "While the tick profiler is running, only one in this many ticks of tiles, networks and multiblocks is timed. Higher values make profiling cheaper but "
+          + "less precise.", 1, Integer.MAX_VALUE);
+
+    public final IntOption profilerDumpInterval = new IntOption(this, "general", "ProfilerDumpInterval", 0,
+          "Seconds between automatic dumps of the tick profiler to the mekanism/profiles folder while it is running. 0 to only dump with the command.", 0,
+          Integer.MAX_VALUE);
+
     public final DoubleOption sawdustChancePlank = new DoubleOption(this, "general", "SawdustChancePlank", 0.25D,
           "Chance of producing sawdust per operation in the precision sawmill when turning planks into sticks.").setRequiresGameRestart(true);
 
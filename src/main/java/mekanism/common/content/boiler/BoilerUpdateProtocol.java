@@ -16,7 +16,6 @@ import mekanism.common.tile.TileEntityPressureDisperser;
 import mekanism.common.tile.TileEntitySuperheatingElement;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.math.BlockPos;
 
 public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData> {
 
@@ -29,7 +28,7 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return BasicBlockType.get(pointer.getWorld().getBlockState(new BlockPos(x, y, z))) == BasicBlockType.BOILER_CASING;
+        return BasicBlockType.get(getBlockState(x, y, z)) == BasicBlockType.BOILER_CASING;
     }
 
     @Override
@@ -37,7 +36,7 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension()).getTileEntity(pointer.getWorld());
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityPressureDisperser || tile instanceof TileEntitySuperheatingElement;
     }
 
@@ -48,8 +47,9 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
         }
         Set<Coord4D> dispersers = new HashSet<>();
         Set<Coord4D> elements = new HashSet<>();
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = coord.getTileEntity(pointer.getWorld());
+        for (long node : innerNodes) {
+            Coord4D coord = toCoord(node);
+            TileEntity tile = getTileEntity(node);
             if (tile instanceof TileEntityPressureDisperser) {
                 dispersers.add(coord);
             } else if (tile instanceof TileEntitySuperheatingElement) {
@@ -103,7 +103,7 @@ public class BoilerUpdateProtocol extends UpdateProtocol<SynchronizedBoilerData>
         for (int x = structure.renderLocation.x; x < structure.renderLocation.x + structure.volLength; x++) {
             for (int y = structure.renderLocation.y; y < initDisperser.y; y++) {
                 for (int z = structure.renderLocation.z; z < structure.renderLocation.z + structure.volWidth; z++) {
-                    if (pointer.getWorld().isAirBlock(new BlockPos(x, y, z)) || isViableNode(x, y, z)) {
+                    if (isAir(x, y, z) || isViableNode(x, y, z)) {
                         initAir = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension());
                         totalAir++;
                     }
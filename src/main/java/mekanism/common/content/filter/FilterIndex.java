@@ -0,0 +1,139 @@
+package mekanism.common.content.filter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import javax.annotation.Nullable;
+import mekanism.api.util.ItemInfo;
+import mekanism.common.util.ItemRegistryUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+
+/**
+ * A list of filters compiled so the filters accepting a stack can be found with one lookup instead of asking every filter. Ore dictionary, mod ID and material filters
+ * only look at the item and damage of a stack, so which of them accept an item and damage is worked out once and remembered. Item stack filters can also look at the
+ * count or NBT of a stack, so they are only indexed by item and still get checked against the actual stack.
+ * <p>
+ * An index has to be built again when the filters change, it can be used from several threads at once.
+ */
+public class FilterIndex<FILTER extends IFilter> {
+
+    private static final int[] NONE = new int[0];
+    private static final int MAX_CACHED = 1024;
+
+    private final List<FILTER> filters = new ArrayList<>();
+    private final BiPredicate<FILTER, ItemStack> check;
+
+    private final Map<Item, IntList> itemFilters = new IdentityHashMap<>();
+    private final Map<String, IntList> modFilters = new HashMap<>();
+    private final IntList otherFilters = new IntArrayList();
+
+    private final Map<ItemInfo, int[]> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * @param check - whether a filter accepts a stack
+     */
+    public FilterIndex(Iterable<FILTER> filters, BiPredicate<FILTER, ItemStack> check) {
+        this.check = check;
+        for (FILTER filter : filters) {
+            if (filter == null) {
+                continue;
+            }
+            int index = this.filters.size();
+            this.filters.add(filter);
+            if (filter instanceof IItemStackFilter) {
+                itemFilters.computeIfAbsent(((IItemStackFilter) filter).getItemStack().getItem(), item -> new IntArrayList()).add(index);
+            } else if (filter instanceof IModIDFilter && WildcardPattern.compile(((IModIDFilter) filter).getModID()).isExact()) {
+                modFilters.computeIfAbsent(((IModIDFilter) filter).getModID(), mod -> new IntArrayList()).add(index);
+            } else {
+                otherFilters.add(index);
+            }
+        }
+    }
+
+    public int size() {
+        return filters.size();
+    }
+
+    public boolean isEmpty() {
+        return filters.isEmpty();
+    }
+
+    public FILTER get(int index) {
+        return filters.get(index);
+    }
+
+    /**
+     * @return whether the filter at the given index still has to be checked against a stack it is a candidate for
+     */
+    public boolean needsCheck(int index) {
+        return filters.get(index) instanceof IItemStackFilter;
+    }
+
+    /**
+     * @return the indices of the filters that may accept the stack in the order of the filters, the ones {@link #needsCheck(int)} is true for still have to be checked
+     */
+    public int[] getCandidates(ItemStack stack) {
+        if (stack.isEmpty() || filters.isEmpty()) {
+            return NONE;
+        }
+        ItemInfo info = ItemInfo.get(stack);
+        int[] found = candidates.get(info);
+        if (found == null) {
+            found = findCandidates(stack);
+            if (candidates.size() >= MAX_CACHED) {
+                candidates.clear();
+            }
+            candidates.put(info, found);
+        }
+        return found;
+    }
+
+    /**
+     * @return the first filter accepting the stack, or null if none do
+     */
+    @Nullable
+    public FILTER getFirst(ItemStack stack) {
+        for (int index : getCandidates(stack)) {
+            FILTER filter = filters.get(index);
+            if (!needsCheck(index) || check.test(filter, stack)) {
+                return filter;
+            }
+        }
+        return null;
+    }
+
+    private int[] findCandidates(ItemStack stack) {
+        IntList found = new IntArrayList();
+        IntList sameItem = itemFilters.get(stack.getItem());
+        if (sameItem != null) {
+            found.addAll(sameItem);
+        }
+        if (!modFilters.isEmpty()) {
+            IntList sameMod = modFilters.get(ItemRegistryUtils.getMod(stack));
+            if (sameMod != null) {
+                addMatching(sameMod, stack, found);
+            }
+        }
+        addMatching(otherFilters, stack, found);
+        int[] sorted = found.toIntArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    private void addMatching(IntList indices, ItemStack stack, IntList found) {
+        for (int i = 0; i < indices.size(); i++) {
+            int index = indices.getInt(i);
+            if (check.test(filters.get(index), stack)) {
+                found.add(index);
+            }
+        }
+    }
+}
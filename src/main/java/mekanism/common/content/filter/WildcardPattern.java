@@ -0,0 +1,64 @@
+package mekanism.common.content.filter;
+
+/**
+ * A filter text such as {@code ingot*}, {@code *Copper} or {@code *ore*} parsed once, so matching a name no longer has to look at the wildcards again.
+ */
+public final class WildcardPattern {
+
+    private final String text;
+    private final Type type;
+    private final String part;
+
+    private WildcardPattern(String text, Type type, String part) {
+        this.text = text;
+        this.type = type;
+        this.part = part;
+    }
+
+    public static WildcardPattern compile(String text) {
+        if (text.equals("*")) {
+            return new WildcardPattern(text, Type.ANY, "");
+        } else if (text.endsWith("*") && !text.startsWith("*")) {
+            return new WildcardPattern(text, Type.PREFIX, text.substring(0, text.length() - 1));
+        } else if (text.startsWith("*") && !text.endsWith("*")) {
+            return new WildcardPattern(text, Type.SUFFIX, text.substring(1));
+        } else if (text.startsWith("*") && text.endsWith("*")) {
+            return new WildcardPattern(text, Type.CONTAINS, text.substring(1, text.length() - 1));
+        }
+        return new WildcardPattern(text, Type.EXACT, text);
+    }
+
+    public boolean matches(String name) {
+        switch (type) {
+            case ANY:
+                return true;
+            case PREFIX:
+                return name.startsWith(part) || name.equals(text);
+            case SUFFIX:
+                return name.endsWith(part) || name.equals(text);
+            case CONTAINS:
+                return name.contains(part);
+            default:
+                return name.equals(part);
+        }
+    }
+
+    /**
+     * @return whether this pattern matches only the exact text it was made from
+     */
+    public boolean isExact() {
+        return type == Type.EXACT;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    private enum Type {
+        EXACT,
+        ANY,
+        PREFIX,
+        SUFFIX,
+        CONTAINS
+    }
+}
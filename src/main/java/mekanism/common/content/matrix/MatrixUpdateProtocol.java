@@ -14,7 +14,6 @@ import mekanism.common.util.StackUtils;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
-import net.minecraft.util.math.BlockPos;
 
 public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData> {
 
@@ -24,7 +23,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        IBlockState state = pointer.getWorld().getBlockState(new BlockPos(x, y, z));
+        IBlockState state = getBlockState(x, y, z);
         return state.getBlock() == MekanismBlocks.BasicBlock2 && state.getBlock().getMetaFromState(state) == 1;
     }
 
@@ -33,7 +32,7 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension()).getTileEntity(pointer.getWorld());
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityInductionCell || tile instanceof TileEntityInductionProvider;
     }
 
@@ -66,14 +65,15 @@ public class MatrixUpdateProtocol extends UpdateProtocol<SynchronizedMatrixData>
     @Override
     protected void onStructureDestroyed(SynchronizedMatrixData structure) {
         //Save all energy changes before destroying the structure
-        structure.tick(pointer.getWorld());
+        structure.destroy(pointer.getWorld());
         super.onStructureDestroyed(structure);
     }
 
     @Override
     protected boolean canForm(SynchronizedMatrixData structure) {
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = coord.getTileEntity(pointer.getWorld());
+        for (long node : innerNodes) {
+            Coord4D coord = toCoord(node);
+            TileEntity tile = getTileEntity(node);
             if (tile instanceof TileEntityInductionCell) {
                 structure.addCell(coord, (TileEntityInductionCell) tile);
             } else if (tile instanceof TileEntityInductionProvider) {
@@ -26,6 +26,10 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     private double lastInput;
 
     private double cachedTotal;
+    /**
+     * Change to {@link #cachedTotal} that has not been spread over the cells yet.
+     */
+    private double pendingChange;
     private double transferCap;
     private double storageCap;
 
@@ -46,6 +50,7 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         cells.add(coord);
         storageCap += cell.tier.getMaxEnergy();
         cachedTotal += cell.getEnergy();
+        cell.setMatrix(this);
     }
 
     public void addProvider(Coord4D coord, TileEntityInductionProvider provider) {
@@ -60,14 +65,13 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
     public void tick(World world) {
         //See comment in getEnergyPostQueue for explanation of how lastChange is calculated.
         double lastChange = queuedInput - queuedOutput;
-        if (lastChange < 0) {
-            //We are removing energy
-            removeEnergy(world, -lastChange);
-        } else if (lastChange > 0) {
-            //we are adding energy
-            addEnergy(world, lastChange);
-        }
+        //Only keep track of the change, the cells get updated once something looks at them
         cachedTotal += lastChange;
+        if (lastChange != 0 && pendingChange == 0) {
+            //The cells are about to get out of date, make sure their chunks get saved so the change gets written to them
+            markCellsDirty(world);
+        }
+        pendingChange += lastChange;
 
         lastInput = queuedInput;
         queuedInput = 0;
@@ -75,6 +79,43 @@ public class SynchronizedMatrixData extends SynchronizedData<SynchronizedMatrixD
         queuedOutput = 0;
     }
 
+    /**
+     * Spreads the energy change since the last call over the cells, so that the energy stored in the cells matches the matrix again. This only needs to happen when a
+     * cell gets saved, broken or the matrix gets destroyed, instead of every tick.
+     */
+    public void updateCells(World world) {
+        double change = pendingChange;
+        //Reset it first as reading the energy of a cell updates the cells
+        pendingChange = 0;
+        if (change < 0) {
+            //We are removing energy
+            removeEnergy(world, -change);
+        } else if (change > 0) {
+            //we are adding energy
+            addEnergy(world, change);
+        }
+    }
+
+    private void markCellsDirty(World world) {
+        for (Coord4D coord : cells) {
+            MekanismUtils.saveChunk(coord.getTileEntity(world));
+        }
+    }
+
+    /**
+     * Writes the remaining energy change to the cells and detaches them, after this the cells are what the energy gets read from again.
+     */
+    public void destroy(World world) {
+        tick(world);
+        updateCells(world);
+        for (Coord4D coord : cells) {
+            TileEntity tile = coord.getTileEntity(world);
+            if (tile instanceof TileEntityInductionCell) {
+                ((TileEntityInductionCell) tile).removeMatrix(this);
+            }
+        }
+    }
+
     public double queueEnergyAddition(double energy, boolean simulate) {
         if (energy < 0) {
             //Ensure that the correct queue type gets called
@@ -13,12 +13,21 @@ public class MModIDFilter extends MinerFilter implements IModIDFilter {
 
     private String modID;
 
+    private ModIDFinder finder;
+
     @Override
     public boolean canFilter(ItemStack itemStack) {
         if (itemStack.isEmpty() || !(itemStack.getItem() instanceof ItemBlock)) {
             return false;
         }
-        return new ModIDFinder(modID).modifies(itemStack);
+        return getFinder().modifies(itemStack);
+    }
+
+    private ModIDFinder getFinder() {
+        if (finder == null) {
+            finder = new ModIDFinder(modID);
+        }
+        return finder;
     }
 
     @Override
@@ -33,6 +42,7 @@ public class MModIDFilter extends MinerFilter implements IModIDFilter {
     protected void read(NBTTagCompound nbtTags) {
         super.read(nbtTags);
         modID = nbtTags.getString("modID");
+        finder = null;
     }
 
     @Override
@@ -46,6 +56,7 @@ public class MModIDFilter extends MinerFilter implements IModIDFilter {
     protected void read(ByteBuf dataStream) {
         super.read(dataStream);
         modID = PacketHandler.readString(dataStream);
+        finder = null;
     }
 
     @Override
@@ -72,6 +83,7 @@ public class MModIDFilter extends MinerFilter implements IModIDFilter {
     @Override
     public void setModID(String id) {
         modID = id;
+        finder = null;
     }
 
     @Override
@@ -13,12 +13,21 @@ public class MOreDictFilter extends MinerFilter implements IOreDictFilter {
 
     private String oreDictName;
 
+    private OreDictFinder finder;
+
     @Override
     public boolean canFilter(ItemStack itemStack) {
         if (itemStack.isEmpty() || !(itemStack.getItem() instanceof ItemBlock)) {
             return false;
         }
-        return new OreDictFinder(oreDictName).modifies(itemStack);
+        return getFinder().modifies(itemStack);
+    }
+
+    private OreDictFinder getFinder() {
+        if (finder == null) {
+            finder = new OreDictFinder(oreDictName);
+        }
+        return finder;
     }
 
     @Override
@@ -33,6 +42,7 @@ public class MOreDictFilter extends MinerFilter implements IOreDictFilter {
     protected void read(NBTTagCompound nbtTags) {
         super.read(nbtTags);
         oreDictName = nbtTags.getString("oreDictName");
+        finder = null;
     }
 
     @Override
@@ -46,6 +56,7 @@ public class MOreDictFilter extends MinerFilter implements IOreDictFilter {
     protected void read(ByteBuf dataStream) {
         super.read(dataStream);
         oreDictName = PacketHandler.readString(dataStream);
+        finder = null;
     }
 
     @Override
@@ -72,6 +83,7 @@ public class MOreDictFilter extends MinerFilter implements IOreDictFilter {
     @Override
     public void setOreDictName(String name) {
         oreDictName = name;
+        finder = null;
     }
 
     @Override
@@ -0,0 +1,88 @@
+package mekanism.common.content.miner;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the area searches of all Digital Miners on one shared pool of threads. Only as many searches as there are threads run at once, the rest wait in a queue in the
+ * order they were started, so a server starting with many miners does not flood the machine with search work.
+ */
+public final class MinerSearchScheduler {
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    private static final Queue<ThreadMinerSearch> queued = new ArrayDeque<>();
+    private static final Set<ThreadMinerSearch> running = new HashSet<>();
+
+    private static ExecutorService executor;
+    private static int threads = getDefaultThreads();
+
+    private MinerSearchScheduler() {
+    }
+
+    /**
+     * Sets how many threads searches run on, which is also how many searches run at the same time. Searches that are already running finish on the old threads.
+     *
+     * @param count - number of threads, or 0 to use half of the available processors
+     */
+    public static synchronized void setThreads(int count) {
+        count = count > 0 ? count : getDefaultThreads();
+        if (count != threads) {
+            threads = count;
+            if (executor != null) {
+                executor.shutdown();
+                executor = null;
+            }
+            schedule();
+        }
+    }
+
+    private static int getDefaultThreads() {
+        return Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    }
+
+    static synchronized void submit(ThreadMinerSearch search) {
+        queued.add(search);
+        schedule();
+    }
+
+    /**
+     * Removes a search that has not started yet from the queue. Searches that already started stop on their own once they notice they were cancelled.
+     */
+    static synchronized void cancel(ThreadMinerSearch search) {
+        queued.remove(search);
+    }
+
+    static synchronized void onFinished(ThreadMinerSearch search) {
+        running.remove(search);
+        schedule();
+    }
+
+    static synchronized boolean isQueued(ThreadMinerSearch search) {
+        return queued.contains(search);
+    }
+
+    private static void schedule() {
+        while (running.size() < threads && !queued.isEmpty()) {
+            ThreadMinerSearch search = queued.poll();
+            running.add(search);
+            search.run(getExecutor());
+        }
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Miner Search #" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
@@ -1,11 +1,19 @@
 package mekanism.common.content.miner;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.Chunk3D;
 import mekanism.api.Coord4D;
 import mekanism.api.util.BlockInfo;
+import mekanism.common.Mekanism;
+import mekanism.common.content.filter.FilterIndex;
 import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.TileEntityDigitalMiner;
 import mekanism.common.util.MekanismUtils;
@@ -13,21 +21,34 @@ import net.minecraft.block.BlockLiquid;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.world.ChunkCache;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. The area is split into one task per chunk column, which get run by the {@link MinerSearchScheduler} together
+ * with the searches of all other miners.
+ */
+public class ThreadMinerSearch {
 
     private TileEntityDigitalMiner tileEntity;
 
-    public State state = State.IDLE;
+    public volatile State state = State.IDLE;
 
     private Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
-    private Map<Integer, MinerFilter> replaceMap = new HashMap<>();
-    private Map<BlockInfo, MinerFilter> acceptedItems = new HashMap<>();
+    private Int2ObjectMap<MinerFilter> replaceMap = new Int2ObjectOpenHashMap<>();
     private ChunkCache chunkCache;
-
-    public int found = 0;
+    private FilterIndex<MinerFilter> filterIndex;
+    /**
+     * The replace stacks of the filters when the search started, as the filters can change while the chunks get searched.
+     */
+    private List<ItemStack> replaceStacks;
+
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger remainingChunks = new AtomicInteger();
+    private volatile int totalChunks;
+    private volatile boolean cancelled;
+    private volatile boolean failed;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         tileEntity = tile;
@@ -37,71 +58,170 @@ public class ThreadMinerSearch extends Thread {
         this.chunkCache = chunkCache;
     }
 
-    @Override
-    public void run() {
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * @return how far along the search is in percent, or -1 if it is still waiting for other searches to finish
+     */
+    public int getProgress() {
+        if (state != State.SEARCHING) {
+            return state == State.FINISHED ? 100 : 0;
+        } else if (MinerSearchScheduler.isQueued(this)) {
+            return -1;
+        } else if (totalChunks == 0) {
+            //Started but the chunks have not been counted yet
+            return 0;
+        }
+        return (totalChunks - remainingChunks.get()) * 100 / totalChunks;
+    }
+
+    public void start() {
         state = State.SEARCHING;
-        if (!tileEntity.inverse && tileEntity.filters.isEmpty()) {
+        filterIndex = tileEntity.getFilterIndex();
+        if (!tileEntity.inverse && filterIndex.isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        Coord4D coord = tileEntity.getStartingCoord();
+        replaceStacks = new ArrayList<>();
+        for (int i = 0; i < filterIndex.size(); i++) {
+            ItemStack replaceStack = filterIndex.get(i).replaceStack;
+            if (!replaceStack.isEmpty()) {
+                replaceStacks.add(replaceStack.copy());
+            }
+        }
+        MinerSearchScheduler.submit(this);
+    }
+
+    void run(Executor executor) {
+        Coord4D start = tileEntity.getStartingCoord();
         int diameter = tileEntity.getDiameter();
-        int size = tileEntity.getTotalSize();
-        BlockInfo info = new BlockInfo(null, 0);
+        int minChunkX = start.x >> 4;
+        int maxChunkX = (start.x + diameter - 1) >> 4;
+        int minChunkZ = start.z >> 4;
+        int maxChunkZ = (start.z + diameter - 1) >> 4;
+        totalChunks = (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        remainingChunks.set(totalChunks);
+        FilterIndex<MinerFilter> filters = filterIndex;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                int x = chunkX;
+                int z = chunkZ;
+                executor.execute(() -> {
+                    try {
+                        searchChunk(start, diameter, x, z, filters);
+                    } catch (Exception e) {
+                        Mekanism.logger.error("Digital Miner search failed at {}", tileEntity.getPos(), e);
+                        failed = true;
+                        cancel();
+                    } finally {
+                        if (remainingChunks.decrementAndGet() == 0) {
+                            MinerSearchScheduler.onFinished(this);
+                            finish();
+                        }
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Stops the search, chunks that are already being searched finish but their results are thrown away.
+     */
+    public void cancel() {
+        cancelled = true;
+        MinerSearchScheduler.cancel(this);
+    }
+
+    private void searchChunk(Coord4D start, int diameter, int chunkX, int chunkZ, FilterIndex<MinerFilter> filters) {
+        int minX = Math.max(start.x, chunkX << 4);
+        int maxX = Math.min(start.x + diameter - 1, (chunkX << 4) + 15);
+        int minZ = Math.max(start.z, chunkZ << 4);
+        int maxZ = Math.min(start.z + diameter - 1, (chunkZ << 4) + 15);
+        int height = tileEntity.getTotalSize() / diameter / diameter;
         BlockPos minerPos = tileEntity.getPos();
 
-        for (int i = 0; i < size; i++) {
-            if (tileEntity.isInvalid()) {
+        BitSet chunkOres = new BitSet();
+        Int2ObjectMap<MinerFilter> chunkReplace = new Int2ObjectOpenHashMap<>();
+        Map<BlockInfo, MinerFilter> acceptedItems = new HashMap<>();
+        BlockInfo info = new BlockInfo(null, 0);
+        MutableBlockPos testPos = new MutableBlockPos();
+
+        for (int dy = 0; dy < height; dy++) {
+            if (cancelled || tileEntity.isInvalid()) {
                 //Make sure the miner is still valid and something hasn't gone wrong
                 return;
             }
-            int x = coord.x + i % diameter;
-            int z = coord.z + (i / diameter) % diameter;
-            int y = coord.y + (i / diameter / diameter);
-            if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
-                //Skip the miner itself
-                continue;
-            }
+            int y = start.y + dy;
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    if (minerPos.getX() == x && minerPos.getY() == y && minerPos.getZ() == z) {
+                        //Skip the miner itself
+                        continue;
+                    }
 
-            BlockPos testPos = new BlockPos(x, y, z);
-            if (chunkCache.getTileEntity(testPos) instanceof TileEntityBoundingBlock) {
-                //If it is not loaded or it is a bounding block skip it
-                continue;
-            }
+                    testPos.setPos(x, y, z);
+                    if (chunkCache.getTileEntity(testPos) instanceof TileEntityBoundingBlock) {
+                        //If it is not loaded or it is a bounding block skip it
+                        continue;
+                    }
 
-            IBlockState state = chunkCache.getBlockState(testPos);
-            info.block = state.getBlock();
-            info.meta = state.getBlock().getMetaFromState(state);
+                    IBlockState state = chunkCache.getBlockState(testPos);
+                    info.block = state.getBlock();
+                    info.meta = state.getBlock().getMetaFromState(state);
 
-            if (info.block == null || info.block instanceof BlockLiquid || info.block instanceof IFluidBlock || info.block.isAir(state, chunkCache, testPos)) {
-                //Skip air and liquids
-                continue;
-            }
+                    if (info.block == null || info.block instanceof BlockLiquid || info.block instanceof IFluidBlock || info.block.isAir(state, chunkCache, testPos)) {
+                        //Skip air and liquids
+                        continue;
+                    }
 
-            MinerFilter filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                ItemStack stack = new ItemStack(info.block, 1, info.meta);
-                if (tileEntity.isReplaceStack(stack)) {
-                    continue;
-                }
-                for (MinerFilter filter : tileEntity.filters) {
-                    if (filter.canFilter(stack)) {
-                        filterFound = filter;
-                        break;
+                    MinerFilter filterFound = null;
+                    if (acceptedItems.containsKey(info)) {
+                        filterFound = acceptedItems.get(info);
+                    } else {
+                        ItemStack stack = new ItemStack(info.block, 1, info.meta);
+                        if (isReplaceStack(stack)) {
+                            continue;
+                        }
+                        filterFound = filters.getFirst(stack);
+                        acceptedItems.put(new BlockInfo(info.block, info.meta), filterFound);
+                    }
+                    if (tileEntity.inverse == (filterFound == null)) {
+                        int index = (x - start.x) + (z - start.z) * diameter + dy * diameter * diameter;
+                        chunkOres.set(index);
+                        chunkReplace.put(index, filterFound);
+                        found.incrementAndGet();
                     }
                 }
-                acceptedItems.put(info, filterFound);
             }
-            if (tileEntity.inverse == (filterFound == null)) {
-                set(i, new Coord4D(x, y, z, tileEntity.getWorld().provider.getDimension()));//I Really hope this is threadsafe..
-                replaceMap.put(i, filterFound);
-                found++;
+        }
+
+        synchronized (this) {
+            if (!chunkOres.isEmpty()) {
+                oresToMine.put(new Chunk3D(chunkX, chunkZ, start.dimensionId), chunkOres);
+                replaceMap.putAll(chunkReplace);
             }
         }
+    }
 
+    private boolean isReplaceStack(ItemStack stack) {
+        for (ItemStack replaceStack : replaceStacks) {
+            if (replaceStack.isItemEqual(stack)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    private synchronized void finish() {
+        if (failed) {
+            //Let the miner be started again instead of staying in the searching state
+            reset();
+            return;
+        } else if (cancelled || tileEntity.isInvalid()) {
+            return;
+        }
         state = State.FINISHED;
         tileEntity.oresToMine = oresToMine;
         tileEntity.replaceMap = replaceMap;
@@ -109,12 +229,6 @@ public class ThreadMinerSearch extends Thread {
         MekanismUtils.saveChunk(tileEntity);
     }
 
-    public void set(int i, Coord4D location) {
-        Chunk3D chunk = new Chunk3D(location);
-        oresToMine.computeIfAbsent(chunk, k -> new BitSet());
-        oresToMine.get(chunk).set(i);
-    }
-
     public void reset() {
         state = State.IDLE;
         chunkCache = null;
@@ -132,4 +246,4 @@ public class ThreadMinerSearch extends Thread {
             desc = s;
         }
     }
-}
\ No newline at end of file
+}
@@ -15,7 +15,6 @@ import mekanism.common.tile.TileEntityDynamicValve;
 import mekanism.common.util.StackUtils;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.item.ItemStack;
-import net.minecraft.util.math.BlockPos;
 
 public class TankUpdateProtocol extends UpdateProtocol<SynchronizedTankData> {
 
@@ -27,7 +26,7 @@ public class TankUpdateProtocol extends UpdateProtocol<SynchronizedTankData> {
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        IBlockState state = pointer.getWorld().getBlockState(new BlockPos(x, y, z));
+        IBlockState state = getBlockState(x, y, z);
         return state.getBlock() == MekanismBlocks.BasicBlock && state.getValue(((BlockBasic) state.getBlock()).getTypeProperty()) == BasicBlockType.DYNAMIC_TANK;
     }
 
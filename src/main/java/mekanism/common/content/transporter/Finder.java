@@ -1,7 +1,8 @@
 package mekanism.common.content.transporter;
 
-import java.util.List;
+import java.util.BitSet;
 import mekanism.common.OreDictCache;
+import mekanism.common.content.filter.WildcardPattern;
 import mekanism.common.util.ItemRegistryUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.block.Block;
@@ -25,35 +26,30 @@ public abstract class Finder {
 
         public String oreDictName;
 
+        private volatile BitSet oreIDs;
+        private volatile int cacheVersion;
+
         public OreDictFinder(String name) {
             oreDictName = name;
         }
 
         @Override
         public boolean modifies(ItemStack stack) {
-            List<String> oreKeys = OreDictCache.getOreDictName(stack);
+            return !stack.isEmpty() && OreDictCache.hasAnyOreID(stack, getOreIDs());
+        }
 
-            if (oreKeys.isEmpty()) {
-                return false;
-            }
-            for (String oreKey : oreKeys) {
-                if (oreDictName.equals(oreKey) || oreDictName.equals("*")) {
-                    return true;
-                } else if (oreDictName.endsWith("*") && !oreDictName.startsWith("*")) {
-                    if (oreKey.startsWith(oreDictName.substring(0, oreDictName.length() - 1))) {
-                        return true;
-                    }
-                } else if (oreDictName.startsWith("*") && !oreDictName.endsWith("*")) {
-                    if (oreKey.endsWith(oreDictName.substring(1))) {
-                        return true;
-                    }
-                } else if (oreDictName.startsWith("*") && oreDictName.endsWith("*")) {
-                    if (oreKey.contains(oreDictName.substring(1, oreDictName.length() - 1))) {
-                        return true;
-                    }
-                }
+        /**
+         * @return the IDs of all ore dictionary names matching this finder, kept until the ore dictionary changes
+         */
+        private BitSet getOreIDs() {
+            BitSet ids = oreIDs;
+            int currentVersion = OreDictCache.getVersion();
+            if (ids == null || cacheVersion != currentVersion) {
+                ids = OreDictCache.getOreIDs(oreDictName);
+                oreIDs = ids;
+                cacheVersion = currentVersion;
             }
-            return false;
+            return ids;
         }
     }
 
@@ -92,26 +88,16 @@ public abstract class Finder {
 
         public String modID;
 
+        private final WildcardPattern pattern;
+
         public ModIDFinder(String mod) {
             modID = mod;
+            pattern = WildcardPattern.compile(mod);
         }
 
         @Override
         public boolean modifies(ItemStack stack) {
-            if (stack.isEmpty()) {
-                return false;
-            }
-            String id = ItemRegistryUtils.getMod(stack);
-            if (modID.equals(id) || modID.equals("*")) {
-                return true;
-            } else if (modID.endsWith("*") && !modID.startsWith("*")) {
-                return id.startsWith(modID.substring(0, modID.length() - 1));
-            } else if (modID.startsWith("*") && !modID.endsWith("*")) {
-                return id.endsWith(modID.substring(1));
-            } else if (modID.startsWith("*") && modID.endsWith("*")) {
-                return id.contains(modID.substring(1, modID.length() - 1));
-            }
-            return false;
+            return !stack.isEmpty() && pattern.matches(ItemRegistryUtils.getMod(stack));
         }
     }
 }
\ No newline at end of file
@@ -1,25 +1,69 @@
 package mekanism.common.content.transporter;
 
-import java.util.HashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import net.minecraft.util.EnumFacing;
 
+/**
+ * Paths found between the transporters and acceptors of a single inventory network. Every cached path is indexed by the packed position of every block it passes through, so a
+ * change to a transporter only drops the paths that actually go through it.
+ */
 public class PathfinderCache {
 
-    private static Map<PathData, List<Coord4D>> cachedPaths = new HashMap<>();
+    /**
+     * Maximum amount of paths kept per network, the least recently used path gets dropped first when there are more.
+     */
+    private static final int MAX_CACHED_PATHS = 1024;
 
-    public static void onChanged(Coord4D location) {
-        reset();
+    private final Map<PathData, List<Coord4D>> cachedPaths = new LinkedHashMap<PathData, List<Coord4D>>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(Entry<PathData, List<Coord4D>> eldest) {
+            if (size() > MAX_CACHED_PATHS) {
+                unindex(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private final Long2ObjectMap<Set<PathData>> pathsThrough = new Long2ObjectOpenHashMap<>();
+
+    public void onChanged(Coord4D location) {
+        Set<PathData> affected = pathsThrough.remove(PackedPos.pack(location));
+        if (affected != null) {
+            for (PathData data : affected) {
+                List<Coord4D> path = cachedPaths.remove(data);
+                if (path != null) {
+                    unindex(data, path);
+                }
+            }
+        }
     }
 
-    public static void addCachedPath(PathData data, List<Coord4D> coords) {
-        cachedPaths.put(data, coords);
+    public void addCachedPath(PathData data, List<Coord4D> coords) {
+        List<Coord4D> previous = cachedPaths.put(data, coords);
+        if (previous != null) {
+            unindex(data, previous);
+        }
+        for (Coord4D coord : coords) {
+            long pos = PackedPos.pack(coord);
+            Set<PathData> paths = pathsThrough.get(pos);
+            if (paths == null) {
+                pathsThrough.put(pos, paths = new HashSet<>());
+            }
+            paths.add(data);
+        }
     }
 
-    public static List<Coord4D> getCache(Coord4D start, Coord4D end, Set<EnumFacing> sides) {
+    public List<Coord4D> getCache(Coord4D start, Coord4D end, Set<EnumFacing> sides) {
         List<Coord4D> ret = null;
         for (EnumFacing side : sides) {
             List<Coord4D> test = cachedPaths.get(new PathData(start, end, side));
@@ -30,8 +74,22 @@ public class PathfinderCache {
         return ret;
     }
 
-    public static void reset() {
+    public void reset() {
         cachedPaths.clear();
+        pathsThrough.clear();
+    }
+
+    private void unindex(PathData data, List<Coord4D> path) {
+        for (Coord4D coord : path) {
+            long pos = PackedPos.pack(coord);
+            Set<PathData> paths = pathsThrough.get(pos);
+            if (paths != null) {
+                paths.remove(data);
+                if (paths.isEmpty()) {
+                    pathsThrough.remove(pos);
+                }
+            }
+        }
     }
 
     public static class PathData {
@@ -66,4 +124,4 @@ public class PathfinderCache {
             return hash;
         }
     }
-}
\ No newline at end of file
+}
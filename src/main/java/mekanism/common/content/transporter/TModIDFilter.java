@@ -12,14 +12,19 @@ public class TModIDFilter extends TransporterFilter implements IModIDFilter {
 
     private String modID;
 
+    private ModIDFinder finder;
+
     @Override
     public boolean canFilter(ItemStack itemStack, boolean strict) {
-        return super.canFilter(itemStack, strict) && new ModIDFinder(modID).modifies(itemStack);
+        return super.canFilter(itemStack, strict) && getFinder().modifies(itemStack);
     }
 
     @Override
-    public Finder getFinder() {
-        return new ModIDFinder(modID);
+    public ModIDFinder getFinder() {
+        if (finder == null) {
+            finder = new ModIDFinder(modID);
+        }
+        return finder;
     }
 
     @Override
@@ -33,6 +38,7 @@ public class TModIDFilter extends TransporterFilter implements IModIDFilter {
     protected void read(NBTTagCompound nbtTags) {
         super.read(nbtTags);
         modID = nbtTags.getString("modID");
+        finder = null;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class TModIDFilter extends TransporterFilter implements IModIDFilter {
     protected void read(ByteBuf dataStream) {
         super.read(dataStream);
         modID = PacketHandler.readString(dataStream);
+        finder = null;
     }
 
     @Override
@@ -73,6 +80,7 @@ public class TModIDFilter extends TransporterFilter implements IModIDFilter {
     @Override
     public void setModID(String id) {
         modID = id;
+        finder = null;
     }
 
     @Override
@@ -12,14 +12,19 @@ public class TOreDictFilter extends TransporterFilter implements IOreDictFilter
 
     private String oreDictName;
 
+    private OreDictFinder finder;
+
     @Override
     public boolean canFilter(ItemStack itemStack, boolean strict) {
-        return super.canFilter(itemStack, strict) && new OreDictFinder(oreDictName).modifies(itemStack);
+        return super.canFilter(itemStack, strict) && getFinder().modifies(itemStack);
     }
 
     @Override
-    public Finder getFinder() {
-        return new OreDictFinder(oreDictName);
+    public OreDictFinder getFinder() {
+        if (finder == null) {
+            finder = new OreDictFinder(oreDictName);
+        }
+        return finder;
     }
 
     @Override
@@ -33,6 +38,7 @@ public class TOreDictFilter extends TransporterFilter implements IOreDictFilter
     protected void read(NBTTagCompound nbtTags) {
         super.read(nbtTags);
         oreDictName = nbtTags.getString("oreDictName");
+        finder = null;
     }
 
     @Override
@@ -46,6 +52,7 @@ public class TOreDictFilter extends TransporterFilter implements IOreDictFilter
     protected void read(ByteBuf dataStream) {
         super.read(dataStream);
         oreDictName = PacketHandler.readString(dataStream);
+        finder = null;
     }
 
     @Override
@@ -73,6 +80,7 @@ public class TOreDictFilter extends TransporterFilter implements IOreDictFilter
     @Override
     public void setOreDictName(String name) {
         oreDictName = name;
+        finder = null;
     }
 
     @Override
@@ -1,7 +1,10 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -9,6 +12,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
+import mekanism.api.PackedPos;
 import mekanism.common.Mekanism;
 import mekanism.common.base.ISideConfiguration;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
@@ -25,22 +29,43 @@ import org.apache.commons.lang3.tuple.Pair;
 
 public class TransporterManager {
 
-    private static Map<Coord4D, Set<TransporterStack>> flowingStacks = new HashMap<>();
+    /**
+     * Stacks on their way to each destination, grouped by dimension and keyed by the packed position of the destination.
+     */
+    private static Int2ObjectMap<Long2ObjectMap<Set<TransporterStack>>> flowingStacks = new Int2ObjectOpenHashMap<>();
 
     public static void reset() {
         flowingStacks.clear();
     }
 
     public static void add(TransporterStack stack) {
-        flowingStacks.computeIfAbsent(stack.getDest(), k -> new HashSet<>()).add(stack);
+        Coord4D dest = stack.getDest();
+        Long2ObjectMap<Set<TransporterStack>> dimensionStacks = flowingStacks.get(dest.dimensionId);
+        if (dimensionStacks == null) {
+            flowingStacks.put(dest.dimensionId, dimensionStacks = new Long2ObjectOpenHashMap<>());
+        }
+        long pos = PackedPos.pack(dest);
+        Set<TransporterStack> stacks = dimensionStacks.get(pos);
+        if (stacks == null) {
+            dimensionStacks.put(pos, stacks = new HashSet<>());
+        }
+        stacks.add(stack);
     }
 
     public static void remove(TransporterStack stack) {
         if (stack.hasPath() && stack.getPathType() != Path.NONE) {
-            flowingStacks.get(stack.getDest()).remove(stack);
+            Set<TransporterStack> stacks = getFlowingStacks(stack.getDest().dimensionId, PackedPos.pack(stack.getDest()));
+            if (stacks != null) {
+                stacks.remove(stack);
+            }
         }
     }
 
+    private static Set<TransporterStack> getFlowingStacks(int dimension, long pos) {
+        Long2ObjectMap<Set<TransporterStack>> dimensionStacks = flowingStacks.get(dimension);
+        return dimensionStacks == null ? null : dimensionStacks.get(pos);
+    }
+
     private static int simulateInsert(IItemHandler handler, InventoryInfo inventoryInfo, ItemStack stack, int count) {
         //IMPL NOTE: Make sure to set stack size back to the originalCount when returning from this method
         int originalCount = stack.getCount();
@@ -154,7 +179,7 @@ public class TransporterManager {
 
         //For each of the in-flight stacks, simulate their insert into the tile entity. Note that stackSizes
         // for inventoryInfo is updated each time
-        Set<TransporterStack> transporterStacks = flowingStacks.get(Coord4D.get(tileEntity));
+        Set<TransporterStack> transporterStacks = getFlowingStacks(tileEntity.getWorld().provider.getDimension(), PackedPos.pack(tileEntity.getPos()));
         if (transporterStacks != null) {
             for (TransporterStack stack : transporterStacks) {
                 if (stack != null && stack.getPathType() != Path.NONE) {
@@ -36,7 +36,7 @@ public final class TransporterPathfinder {
             return Collections.emptyList();
         }
         List<AcceptorData> acceptors = network.calculateAcceptors(request, stack);
-        return acceptors.stream().map(data -> getPath(data, start, stack, min)).filter(Objects::nonNull).sorted().collect(Collectors.toList());
+        return acceptors.stream().map(data -> getPath(network, data, start, stack, min)).filter(Objects::nonNull).sorted().collect(Collectors.toList());
     }
 
     private static boolean checkPath(World world, List<Coord4D> path, TransporterStack stack) {
@@ -50,11 +50,11 @@ public final class TransporterPathfinder {
         return true;
     }
 
-    private static Destination getPath(AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min) {
+    private static Destination getPath(InventoryNetwork network, AcceptorData data, ILogisticalTransporter start, TransporterStack stack, int min) {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             Coord4D dest = data.getLocation();
-            List<Coord4D> test = PathfinderCache.getCache(start.coord(), dest, data.getSides());
+            List<Coord4D> test = network.getPathCache().getCache(start.coord(), dest, data.getSides());
             if (test != null && checkPath(start.world(), test, stack)) {
                 return new Destination(test, false, response, 0).calculateScore(start.world());
             }
@@ -66,7 +66,7 @@ public final class TransporterPathfinder {
             }, start.world(), dest, start.coord(), stack);
             List<Coord4D> path = p.getPath();
             if (path.size() >= 2) {
-                PathfinderCache.addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
+                network.getPathCache().addCachedPath(new PathData(start.coord(), dest, p.getSide()), path);
                 return new Destination(path, false, response, p.finalScore);
             }
         }
@@ -37,6 +37,11 @@ public class TransporterStack {
     private Coord4D clientPrev;
     private Path pathType;
     private List<Coord4D> pathToTarget = new ArrayList<>();
+    /**
+     * Index in the path of the transporter the stack was last looked up at. Stacks travel towards the start of the path one transporter at a time, so this lets every
+     * hop be found without searching the path.
+     */
+    private int pathIndex = -1;
 
     public static TransporterStack readFromNBT(NBTTagCompound nbtTags) {
         TransporterStack stack = new TransporterStack();
@@ -61,7 +66,7 @@ public class TransporterStack {
         originalLocation.write(data);
         data.add(pathType.ordinal());
 
-        if (pathToTarget.indexOf(transporter.coord()) > 0) {
+        if (getPathIndex(transporter.coord()) > 0) {
             data.add(true);
             getNext(transporter).write(data);
         } else {
@@ -133,6 +138,7 @@ public class TransporterStack {
             TransporterManager.remove(this);
         }
         pathToTarget = path;
+        pathIndex = path == null ? -1 : path.size() - 1;
         pathType = type;
         if (pathType != Path.NONE) {
             TransporterManager.add(this);
@@ -147,6 +153,23 @@ public class TransporterStack {
         return pathToTarget;
     }
 
+    /**
+     * @param coord - location of a transporter
+     *
+     * @return the index of the given transporter in the path, or -1 if it is not part of the path
+     */
+    public int getPathIndex(Coord4D coord) {
+        //Check the transporter the stack was last at and the one after it before falling back to searching the whole path
+        for (int i = Math.min(pathIndex, pathToTarget.size() - 1); i >= 0 && i >= pathIndex - 1; i--) {
+            if (pathToTarget.get(i).equals(coord)) {
+                pathIndex = i;
+                return i;
+            }
+        }
+        pathIndex = pathToTarget.indexOf(coord);
+        return pathIndex;
+    }
+
     public Path getPathType() {
         return pathType;
     }
@@ -188,12 +211,12 @@ public class TransporterStack {
     }
 
     public boolean isFinal(ILogisticalTransporter transporter) {
-        return pathToTarget.indexOf(transporter.coord()) == (pathType == Path.NONE ? 0 : 1);
+        return getPathIndex(transporter.coord()) == (pathType == Path.NONE ? 0 : 1);
     }
 
     public Coord4D getNext(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) - 1;
+            int index = getPathIndex(transporter.coord()) - 1;
             if (index < 0) {
                 return null;
             }
@@ -204,7 +227,7 @@ public class TransporterStack {
 
     public Coord4D getPrev(ILogisticalTransporter transporter) {
         if (!transporter.world().isRemote) {
-            int index = pathToTarget.indexOf(transporter.coord()) + 1;
+            int index = getPathIndex(transporter.coord()) + 1;
             if (index < pathToTarget.size()) {
                 return pathToTarget.get(index);
             }
@@ -0,0 +1,151 @@
+package mekanism.common.frequency;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketFrequencyList.FrequencyListMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.tileentity.TileEntity;
+
+/**
+ * The frequency list of a frequency GUI, sent a page at a time instead of sending every frequency each tick. The client asks for the public or private list, a page of
+ * it and optionally a search text, and the server sends that page. After that the page only gets sent again when the frequencies of the manager change, and then only
+ * the entries the client doesn't have yet get sent in full.
+ * <p>
+ * On the server this holds the page each player last got sent, on the client the page last received.
+ */
+public class FrequencyListSync {
+
+    public static final int PAGE_SIZE = 32;
+
+    private final Map<EntityPlayer, View> views = new HashMap<>();
+
+    private List<Frequency> entries = Collections.emptyList();
+    private boolean publicList = true;
+    private String search = "";
+    private int page;
+    private int total;
+    private int requestId;
+
+    /**
+     * Asks the server for a page of the frequency list, the entries received so far are dropped.
+     */
+    public void request(TileEntity tile, boolean publicFreqs, String searchText, int pageIndex) {
+        publicList = publicFreqs;
+        search = searchText;
+        page = pageIndex;
+        entries = Collections.emptyList();
+        total = 0;
+        requestId++;
+        Mekanism.packetHandler.sendToServer(FrequencyListMessage.request(Coord4D.get(tile), requestId, publicFreqs, searchText, pageIndex));
+    }
+
+    /**
+     * Applies a page received from the server, unless it is for an earlier request.
+     */
+    public void apply(FrequencyListMessage message) {
+        if (message.requestId != requestId) {
+            return;
+        }
+        entries = message.getEntries(entries);
+        page = message.page;
+        total = message.total;
+    }
+
+    public List<Frequency> getEntries() {
+        return entries;
+    }
+
+    public boolean isPublicList() {
+        return publicList;
+    }
+
+    public String getSearch() {
+        return search;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageCount() {
+        return Math.max(1, (total + PAGE_SIZE - 1) / PAGE_SIZE);
+    }
+
+    /**
+     * Sets which page the player wants to see, it gets sent on the next {@link #sync(TileEntity, Set)}.
+     */
+    public void setView(EntityPlayer player, int id, boolean publicFreqs, String searchText, int pageIndex) {
+        views.put(player, new View(id, publicFreqs, searchText, pageIndex));
+    }
+
+    /**
+     * Sends the players whose page changed the new version of it, and forgets players that stopped using the tile.
+     */
+    public <TILE extends TileEntity & IFrequencyListHandler> void sync(TILE tile, Set<EntityPlayer> players) {
+        if (views.isEmpty()) {
+            return;
+        }
+        views.keySet().retainAll(players);
+        for (Map.Entry<EntityPlayer, View> entry : views.entrySet()) {
+            View view = entry.getValue();
+            FrequencyManager manager = tile.getFrequencyManager(view.publicFreqs);
+            int version = manager == null ? -1 : manager.getVersion();
+            if (view.sent != null && view.manager == manager && view.version == version) {
+                continue;
+            }
+            List<Frequency> matching = manager == null ? Collections.emptyList() : view.filter(manager.getSortedFrequencies());
+            int pageCount = Math.max(1, (matching.size() + PAGE_SIZE - 1) / PAGE_SIZE);
+            int pageIndex = Math.max(0, Math.min(view.page, pageCount - 1));
+            List<Frequency> current = new ArrayList<>(matching.subList(Math.min(pageIndex * PAGE_SIZE, matching.size()),
+                  Math.min((pageIndex + 1) * PAGE_SIZE, matching.size())));
+            Mekanism.packetHandler.sendTo(FrequencyListMessage.page(Coord4D.get(tile), view.requestId, pageIndex, matching.size(), current, view.sent),
+                  (EntityPlayerMP) entry.getKey());
+            view.sent = current;
+            view.manager = manager;
+            view.version = version;
+        }
+    }
+
+    private static class View {
+
+        private final int requestId;
+        private final boolean publicFreqs;
+        private final String search;
+        private final int page;
+
+        /**
+         * The entries last sent, or null if nothing was sent for this request yet.
+         */
+        private List<Frequency> sent;
+        private FrequencyManager manager;
+        private int version;
+
+        private View(int requestId, boolean publicFreqs, String search, int page) {
+            this.requestId = requestId;
+            this.publicFreqs = publicFreqs;
+            this.search = search.toLowerCase(Locale.ROOT);
+            this.page = page;
+        }
+
+        private List<Frequency> filter(List<Frequency> frequencies) {
+            if (search.isEmpty()) {
+                return frequencies;
+            }
+            List<Frequency> matching = new ArrayList<>();
+            for (Frequency freq : frequencies) {
+                if (freq.name.toLowerCase(Locale.ROOT).contains(search)) {
+                    matching.add(freq);
+                }
+            }
+            return matching;
+        }
+    }
+}
@@ -1,11 +1,17 @@
 package mekanism.common.frequency;
 
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import javax.annotation.Nonnull;
@@ -14,7 +20,6 @@ import mekanism.api.TileNetworkList;
 import mekanism.common.Mekanism;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
-import net.minecraft.tileentity.TileEntity;
 import net.minecraft.world.World;
 import net.minecraft.world.storage.WorldSavedData;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -30,6 +35,24 @@ public class FrequencyManager {
 
     private Set<Frequency> frequencies = new HashSet<>();
 
+    /**
+     * The frequencies by name and then owner, so looking one up does not have to go through all of them.
+     */
+    private Map<String, Map<UUID, Frequency>> frequenciesByName = new HashMap<>();
+
+    /**
+     * The frequency each active location is using, by dimension. Locations get removed when the tile at them is unloaded, broken or switches frequency.
+     */
+    private Int2ObjectMap<Map<Coord4D, Frequency>> activeByDimension = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Changes whenever a frequency gets added or removed, so lists of frequencies sent to clients know when they have to be sent again.
+     */
+    private int version;
+
+    private List<Frequency> sorted;
+    private int sortedVersion = -1;
+
     private FrequencyDataHandler dataHandler;
 
     private UUID ownerUUID;
@@ -60,72 +83,91 @@ public class FrequencyManager {
         if (!loaded) {
             load(world);
         }
-        for (FrequencyManager manager : managers) {
-            manager.tickSelf(world);
-        }
     }
 
     public static void reset() {
         for (FrequencyManager manager : managers) {
             manager.frequencies.clear();
+            manager.frequenciesByName.clear();
+            manager.activeByDimension.clear();
             manager.dataHandler = null;
+            manager.version++;
         }
         loaded = false;
     }
 
     public Frequency update(Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                dataHandler.markDirty();
-                return iterFreq;
-            }
+        Frequency found = getFrequency(freq);
+        if (found != null) {
+            activate(coord, found);
+            return found;
         }
         deactivate(coord);
         return null;
     }
 
     public void remove(String name, UUID owner) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
-            Frequency iterFreq = iter.next();
-            if (iterFreq.name.equals(name) && iterFreq.ownerUUID.equals(owner)) {
-                iter.remove();
-                dataHandler.markDirty();
-            }
+        Map<UUID, Frequency> byOwner = frequenciesByName.get(name);
+        if (byOwner != null && byOwner.containsKey(owner)) {
+            remove(byOwner.get(owner));
         }
     }
 
     public void remove(String name) {
-        for (Iterator<Frequency> iter = getFrequencies().iterator(); iter.hasNext(); ) {
-            Frequency iterFreq = iter.next();
-            if (iterFreq.name.equals(name)) {
-                iter.remove();
-                dataHandler.markDirty();
+        Map<UUID, Frequency> byOwner = frequenciesByName.get(name);
+        if (byOwner != null) {
+            for (Frequency freq : byOwner.values().toArray(new Frequency[0])) {
+                remove(freq);
+            }
+        }
+    }
+
+    private void remove(Frequency freq) {
+        frequencies.remove(freq);
+        version++;
+        unindex(freq);
+        for (Coord4D coord : freq.activeCoords) {
+            Map<Coord4D, Frequency> active = activeByDimension.get(coord.dimensionId);
+            if (active != null) {
+                active.remove(coord, freq);
+            }
+        }
+        freq.activeCoords.clear();
+        dataHandler.markDirty();
+    }
+
+    /**
+     * Marks the given location as using the given frequency, and stops it from using any other frequency of this manager.
+     */
+    public void activate(Coord4D coord, Frequency freq) {
+        Frequency previous = activeByDimension.computeIfAbsent(coord.dimensionId, dimension -> new HashMap<>()).put(coord, freq);
+        if (previous != freq) {
+            if (previous != null) {
+                previous.activeCoords.remove(coord);
             }
+            freq.activeCoords.add(coord);
         }
     }
 
     public void deactivate(Coord4D coord) {
-        for (Frequency freq : frequencies) {
+        Map<Coord4D, Frequency> active = activeByDimension.get(coord.dimensionId);
+        Frequency freq = active == null ? null : active.remove(coord);
+        if (freq != null) {
             freq.activeCoords.remove(coord);
-            dataHandler.markDirty();
         }
     }
 
     public Frequency validateFrequency(UUID uuid, Coord4D coord, Frequency freq) {
-        for (Frequency iterFreq : frequencies) {
-            if (freq.equals(iterFreq)) {
-                iterFreq.activeCoords.add(coord);
-                dataHandler.markDirty();
-                return iterFreq;
-            }
+        Frequency found = getFrequency(freq);
+        if (found != null) {
+            activate(coord, found);
+            return found;
         }
 
         if (uuid.equals(freq.ownerUUID)) {
-            freq.activeCoords.add(coord);
             freq.valid = true;
-            frequencies.add(freq);
-            dataHandler.markDirty();
+            addFrequency(freq);
+            activate(coord, freq);
             return freq;
         }
         return null;
@@ -147,43 +189,76 @@ public class FrequencyManager {
     }
 
     public Set<Frequency> getFrequencies() {
-        return frequencies;
+        return Collections.unmodifiableSet(frequencies);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the frequencies of this manager sorted by name and then owner, the list is only sorted again after frequencies were added or removed
+     */
+    public List<Frequency> getSortedFrequencies() {
+        if (sorted == null || sortedVersion != version) {
+            List<Frequency> list = new ArrayList<>(frequencies);
+            list.sort(Comparator.comparing((Frequency freq) -> freq.name, String.CASE_INSENSITIVE_ORDER).thenComparing(freq -> freq.ownerUUID));
+            sorted = Collections.unmodifiableList(list);
+            sortedVersion = version;
+        }
+        return sorted;
+    }
+
+    /**
+     * @return the frequency of this manager that is equal to the given one, or null if there is none
+     */
+    public Frequency getFrequency(Frequency freq) {
+        Frequency found = getFrequency(freq.name, freq.ownerUUID);
+        return freq.equals(found) ? found : null;
+    }
+
+    public Frequency getFrequency(String name, UUID owner) {
+        Map<UUID, Frequency> byOwner = frequenciesByName.get(name);
+        return byOwner == null ? null : byOwner.get(owner);
+    }
+
+    /**
+     * @return a frequency with the given name, of any owner, or null if there is none
+     */
+    public Frequency getFrequency(String name) {
+        Map<UUID, Frequency> byOwner = frequenciesByName.get(name);
+        return byOwner == null ? null : byOwner.values().iterator().next();
     }
 
     public void addFrequency(Frequency freq) {
-        frequencies.add(freq);
+        if (frequencies.add(freq)) {
+            index(freq);
+            version++;
+        }
         dataHandler.markDirty();
     }
 
     public boolean containsFrequency(String name) {
+        return frequenciesByName.containsKey(name);
+    }
+
+    private void setFrequencies(Set<Frequency> loaded) {
+        frequencies = loaded;
+        version++;
+        frequenciesByName.clear();
         for (Frequency freq : frequencies) {
-            if (freq.name.equals(name)) {
-                return true;
-            }
+            index(freq);
         }
-        return false;
     }
 
-    public void tickSelf(World world) {
-        for (Frequency iterFreq : frequencies) {
-            for (Iterator<Coord4D> iter = iterFreq.activeCoords.iterator(); iter.hasNext(); ) {
-                Coord4D coord = iter.next();
-                if (coord.dimensionId == world.provider.getDimension()) {
-                    if (!coord.exists(world)) {
-                        iter.remove();
-                    } else {
-                        TileEntity tile = coord.getTileEntity(world);
-                        if (!(tile instanceof IFrequencyHandler)) {
-                            iter.remove();
-                        } else {
-                            Frequency freq = ((IFrequencyHandler) tile).getFrequency(this);
-                            if (freq == null || !freq.equals(iterFreq)) {
-                                iter.remove();
-                            }
-                        }
-                    }
-                }
-            }
+    private void index(Frequency freq) {
+        frequenciesByName.computeIfAbsent(freq.name, name -> new HashMap<>()).put(freq.ownerUUID, freq);
+    }
+
+    private void unindex(Frequency freq) {
+        Map<UUID, Frequency> byOwner = frequenciesByName.get(freq.name);
+        if (byOwner != null && byOwner.remove(freq.ownerUUID, freq) && byOwner.isEmpty()) {
+            frequenciesByName.remove(freq.name);
         }
     }
 
@@ -230,7 +305,7 @@ public class FrequencyManager {
 
         public void syncManager() {
             if (loadedFrequencies != null) {
-                manager.frequencies = loadedFrequencies;
+                manager.setFrequencies(loadedFrequencies);
                 manager.ownerUUID = loadedOwner;
             }
         }
@@ -0,0 +1,17 @@
+package mekanism.common.frequency;
+
+import javax.annotation.Nullable;
+
+/**
+ * A block whose GUI lists frequencies, sent to the players using it a page at a time by its {@link FrequencyListSync}.
+ */
+public interface IFrequencyListHandler {
+
+    FrequencyListSync getFrequencyList();
+
+    /**
+     * @return the manager holding the public or private frequencies this block can use, or null if there is none
+     */
+    @Nullable
+    FrequencyManager getFrequencyManager(boolean publicFreq);
+}
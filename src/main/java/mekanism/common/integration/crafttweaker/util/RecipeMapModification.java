@@ -17,11 +17,13 @@ public abstract class RecipeMapModification<INPUT extends MachineInput<INPUT>, R
 
     protected final Map<INPUT, RECIPE> recipes;
     protected final Map<INPUT, RECIPE> map;
+    private final Recipe<INPUT, ?, RECIPE> recipeType;
     protected final String name;
     protected boolean add;
 
     protected RecipeMapModification(String name, boolean add, Recipe<INPUT, ?, RECIPE> recipeType) {
         this.name = name;
+        this.recipeType = recipeType;
         this.map = recipeType.get();
         this.add = add;
         this.recipes = new HashMap<>();
@@ -46,6 +48,7 @@ public abstract class RecipeMapModification<INPUT extends MachineInput<INPUT>, R
                     }
                 }
             }
+            recipeType.invalidateIndex();
         }
     }
 
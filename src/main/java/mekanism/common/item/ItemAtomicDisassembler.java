@@ -390,7 +390,7 @@ public class ItemAtomicDisassembler extends ItemEnergized {
             location = loc;
             startBlock = loc.getBlock(world);
             rayTraceResult = traceResult;
-            isWood = OreDictCache.getOreDictName(stack).contains("logWood");
+            isWood = OreDictCache.hasOreName(stack, "logWood");
             maxRange = range;
             maxCount = MekanismConfig.current().general.disassemblerMiningCount.val() - 1;
         }
@@ -82,12 +82,12 @@ public class ItemNetworkReader extends ItemEnergized {
                         if (CapabilityUtils.hasCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, iterSide.getOpposite())) {
                             IGridTransmitter transmitter = CapabilityUtils.getCapability(tile, Capabilities.GRID_TRANSMITTER_CAPABILITY, iterSide.getOpposite());
 
-                            if (transmitter.getTransmitterNetwork().getPossibleAcceptors().contains(coord.offset(iterSide.getOpposite())) &&
+                            if (transmitter.getTransmitterNetwork().getAcceptorDirections(coord.offset(iterSide.getOpposite())) != null &&
                                 !iteratedNetworks.contains(transmitter.getTransmitterNetwork())) {
                                 player.sendMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[" +
                                                                            transmitter.getTransmissionType().getName() + "]" + EnumColor.GREY + " -------------"));
                                 player.sendMessage(new TextComponentString(EnumColor.GREY + " *Connected sides: " + EnumColor.DARK_GREY +
-                                                                           transmitter.getTransmitterNetwork().getAcceptorDirections().get(coord.offset(iterSide.getOpposite()))));
+                                                                           transmitter.getTransmitterNetwork().getAcceptorDirections(coord.offset(iterSide.getOpposite()))));
                                 player.sendMessage(new TextComponentString(EnumColor.GREY + "------------- " + EnumColor.DARK_BLUE + "[=======]" + EnumColor.GREY + " -------------"));
                                 iteratedNetworks.add(transmitter.getTransmitterNetwork());
                             }
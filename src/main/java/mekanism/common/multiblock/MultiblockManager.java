@@ -1,10 +1,10 @@
 package mekanism.common.multiblock;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
@@ -17,6 +17,11 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
 
     private static Set<MultiblockManager<?>> managers = new HashSet<>();
 
+    /**
+     * How many cached locations get checked per world tick, see {@link #tickSelf(World)}.
+     */
+    private static int verifyBudget = 256;
+
     public String name;
 
     /**
@@ -24,6 +29,11 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
      */
     public Map<String, MultiblockCache<T>> inventories = new HashMap<>();
 
+    /**
+     * Inventory IDs in the order their caches get checked in, the first one is the next to check.
+     */
+    private Set<String> idsToVerify = new LinkedHashSet<>();
+
     public MultiblockManager(String s) {
         name = s;
         managers.add(this);
@@ -49,9 +59,18 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
     public static void reset() {
         for (MultiblockManager<?> manager : managers) {
             manager.inventories.clear();
+            manager.idsToVerify.clear();
         }
     }
 
+    /**
+     * Sets how many cached locations get checked each world tick. Locations of broken or reformed multiblocks are removed as that happens, so this only catches
+     * changes made some other way.
+     */
+    public static void setVerifyBudget(int budget) {
+        verifyBudget = budget;
+    }
+
     /**
      * Grabs an inventory from the world's caches, and removes all the world's references to it.
      *
@@ -82,41 +101,60 @@ public class MultiblockManager<T extends SynchronizedData<T>> {
         return UUID.randomUUID().toString();
     }
 
+    /**
+     * Checks the next cached structures in line for locations that are no longer part of them, and removes caches that are left without any locations. At most
+     * {@link #verifyBudget} loaded locations get checked per tick, though a cache always gets checked as a whole.
+     */
     public void tickSelf(World world) {
-        ArrayList<String> idsToKill = new ArrayList<>();
-        Map<String, Set<Coord4D>> tilesToKill = new HashMap<>();
-        for (Entry<String, MultiblockCache<T>> entry : inventories.entrySet()) {
-            String inventoryID = entry.getKey();
-            for (Coord4D obj : entry.getValue().locations) {
-                if (obj.dimensionId == world.provider.getDimension() && obj.exists(world)) {
+        int dimension = world.provider.getDimension();
+        int checked = 0;
+        //Only go through the line once per tick, as most caches may be in other dimensions
+        for (int remaining = idsToVerify.size(); remaining > 0 && checked < verifyBudget; remaining--) {
+            Iterator<String> next = idsToVerify.iterator();
+            String inventoryID = next.next();
+            next.remove();
+            MultiblockCache<T> cache = inventories.get(inventoryID);
+            if (cache == null) {
+                //It got pulled in the meantime
+                continue;
+            }
+            for (Iterator<Coord4D> iter = cache.locations.iterator(); iter.hasNext(); ) {
+                Coord4D obj = iter.next();
+                if (obj.dimensionId == dimension && obj.exists(world)) {
+                    checked++;
                     TileEntity tileEntity = obj.getTileEntity(world);
                     if (!(tileEntity instanceof TileEntityMultiblock) || ((TileEntityMultiblock) tileEntity).getManager() != this ||
                         (getStructureId(((TileEntityMultiblock<?>) tileEntity)) != null && !Objects.equals(getStructureId(((TileEntityMultiblock) tileEntity)), inventoryID))) {
-                        if (!tilesToKill.containsKey(inventoryID)) {
-                            tilesToKill.put(inventoryID, new HashSet<>());
-                        }
-                        tilesToKill.get(inventoryID).add(obj);
+                        iter.remove();
                     }
                 }
             }
-            if (entry.getValue().locations.isEmpty()) {
-                idsToKill.add(inventoryID);
+            if (cache.locations.isEmpty()) {
+                inventories.remove(inventoryID);
+            } else {
+                idsToVerify.add(inventoryID);
             }
         }
-        for (Entry<String, Set<Coord4D>> entry : tilesToKill.entrySet()) {
-            for (Coord4D obj : entry.getValue()) {
-                inventories.get(entry.getKey()).locations.remove(obj);
+    }
+
+    /**
+     * Removes a location from the given cache, for when the multiblock at it gets broken or becomes part of a different structure.
+     */
+    public void removeLocation(String inventoryID, Coord4D coord) {
+        MultiblockCache<T> cache = inventories.get(inventoryID);
+        if (cache != null) {
+            cache.locations.remove(coord);
+            if (cache.locations.isEmpty()) {
+                inventories.remove(inventoryID);
             }
         }
-        for (String inventoryID : idsToKill) {
-            inventories.remove(inventoryID);
-        }
     }
 
     public void updateCache(TileEntityMultiblock<T> tile) {
         if (!inventories.containsKey(tile.cachedID)) {
             tile.cachedData.locations.add(Coord4D.get(tile));
             inventories.put(tile.cachedID, tile.cachedData);
+            idsToVerify.add(tile.cachedID);
         } else {
             inventories.get(tile.cachedID).locations.add(Coord4D.get(tile));
         }
@@ -1,26 +1,43 @@
 package mekanism.common.multiblock;
 
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.BitSet;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.common.tile.TileEntityMultiblock;
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.init.Blocks;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.Chunk.EnumCreateEntityType;
 
 public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
 
     /**
-     * The multiblock nodes that have already been iterated over.
+     * Structures are at most this many blocks away from the pointer, so only nodes this close get their viability remembered.
      */
-    public Set<Coord4D> iteratedNodes = new HashSet<>();
+    private static final int NODE_CACHE_RADIUS = 18;
+    private static final int NODE_CACHE_SIZE = 2 * NODE_CACHE_RADIUS + 1;
 
-    public Set<Coord4D> innerNodes = new HashSet<>();
+    /**
+     * The multiblock nodes that have already been iterated over, as {@link PackedPos packed} positions.
+     */
+    public LongSet iteratedNodes = new LongOpenHashSet();
+
+    /**
+     * The non-air blocks inside the structure, as {@link PackedPos packed} positions.
+     */
+    public LongSet innerNodes = new LongOpenHashSet();
 
     /**
      * The structures found, all connected by some nodes to the pointer.
@@ -32,82 +49,61 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      */
     public TileEntityMultiblock<T> pointer;
 
+    /**
+     * Nodes around the pointer that have been checked for viability, and the ones of those that are viable. Indexed by {@link #getNodeCacheIndex(int, int, int)}.
+     */
+    private final BitSet checkedNodes = new BitSet(NODE_CACHE_SIZE * NODE_CACHE_SIZE * NODE_CACHE_SIZE);
+    private final BitSet viableNodes = new BitSet(NODE_CACHE_SIZE * NODE_CACHE_SIZE * NODE_CACHE_SIZE);
+
+    private final MutableBlockPos mutablePos = new MutableBlockPos();
+    private Chunk lastChunk;
+
     public UpdateProtocol(TileEntityMultiblock<T> tileEntity) {
         pointer = tileEntity;
     }
 
     /**
-     * Recursively loops through each node connected to the given TileEntity.
+     * Checks if the given node is the corner of a valid structure, and queues its neighbours to get checked if it is not.
      *
-     * @param coord - coord to start with
+     * @param x     - x coordinate of the node
+     * @param y     - y coordinate of the node
+     * @param z     - z coordinate of the node
      * @param queue - the queue to add next nodes to to avoid recursion
      */
-    public void loopThrough(Coord4D coord, Deque<Coord4D> queue) {
-        int origX = coord.x, origY = coord.y, origZ = coord.z;
-        if (isCorner(origX, origY, origZ)) {
+    public void loopThrough(int x, int y, int z, LongArrayFIFOQueue queue) {
+        if (isCorner(x, y, z)) {
             int xmin = 0, xmax = 0, ymin = 0, ymax = 0, zmin = 0, zmax = 0;
-            if (isViableNode(origX + 1, origY, origZ)) {
-                xmax = findViableNode(coord, 1, 0, 0);
+            if (isViableNode(x + 1, y, z)) {
+                xmax = findViableNode(x, y, z, 1, 0, 0);
             } else {
-                xmin = findViableNode(coord, -1, 0, 0);
+                xmin = findViableNode(x, y, z, -1, 0, 0);
             }
-            if (isViableNode(origX, origY + 1, origZ)) {
-                ymax = findViableNode(coord, 0, 1, 0);
+            if (isViableNode(x, y + 1, z)) {
+                ymax = findViableNode(x, y, z, 0, 1, 0);
             } else {
-                ymin = findViableNode(coord, 0, -1, 0);
+                ymin = findViableNode(x, y, z, 0, -1, 0);
             }
-            if (isViableNode(origX, origY, origZ + 1)) {
-                zmax = findViableNode(coord, 0, 0, 1);
+            if (isViableNode(x, y, z + 1)) {
+                zmax = findViableNode(x, y, z, 0, 0, 1);
             } else {
-                zmin = findViableNode(coord, 0, 0, -1);
+                zmin = findViableNode(x, y, z, 0, 0, -1);
             }
 
-            Set<Coord4D> locations = new HashSet<>();
-            boolean isValid = true;
-
-            int minX = origX + xmin;
-            int maxX = origX + xmax;
-            int minY = origY + ymin;
-            int maxY = origY + ymax;
-            int minZ = origZ + zmin;
-            int maxZ = origZ + zmax;
-            for (int x = xmin; x <= xmax; x++) {
-                int xPos = origX + x;
-                for (int y = ymin; y <= ymax; y++) {
-                    int yPos = origY + y;
-                    for (int z = zmin; z <= zmax; z++) {
-                        int zPos = origZ + z;
-                        if (x == xmin || x == xmax || y == ymin || y == ymax || z == zmin || z == zmax) {
-                            if (!isViableNode(xPos, yPos, zPos) || isFrame(coord.translate(x, y, z), minX, maxX, minY, maxY, minZ, maxZ) && !isValidFrame(xPos, yPos, zPos)) {
-                                //If it is not a valid node or if it is supposed to be a frame but is invalid
-                                // then we are not valid over all
-                                isValid = false;
-                                break;
-                            } else {
-                                locations.add(coord.translate(x, y, z));
-                            }
-                        } else if (!isValidInnerNode(xPos, yPos, zPos)) {
-                            isValid = false;
-                            break;
-                        } else if (!isAir(xPos, yPos, zPos)) {
-                            innerNodes.add(new Coord4D(xPos, yPos, zPos, pointer.getWorld().provider.getDimension()));
-                        }
-                    }
-                    if (!isValid) {
-                        break;
-                    }
-                }
-                if (!isValid) {
-                    break;
-                }
-            }
-
-            if (isValid) {
-                //Check the boolean values before performing other calculations
-                int length = Math.abs(xmax - xmin) + 1;
-                int height = Math.abs(ymax - ymin) + 1;
-                int width = Math.abs(zmax - zmin) + 1;
-                if (length <= 18 && height <= 18 && width <= 18) {
+            int minX = x + xmin;
+            int maxX = x + xmax;
+            int minY = y + ymin;
+            int maxY = y + ymax;
+            int minZ = z + zmin;
+            int maxZ = z + zmax;
+            int length = maxX - minX + 1;
+            int height = maxY - minY + 1;
+            int width = maxZ - minZ + 1;
+            //Check the size and whether the pointer is on the outside of the box before checking every block in it
+            if (length >= 3 && height >= 3 && width >= 3 && length <= 18 && height <= 18 && width <= 18 && x == minX && y == minY && z == minZ &&
+                isOnShell(pointer.getPos(), minX, maxX, minY, maxY, minZ, maxZ)) {
+                Set<Coord4D> locations = getStructureLocations(minX, maxX, minY, maxY, minZ, maxZ);
+                if (locations != null) {
+                    Coord4D coord = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension());
                     T structure = getNewStructure();
                     structure.locations = locations;
                     structure.volLength = length;
@@ -118,36 +114,81 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                     structure.minLocation = coord.translate(xmin, ymin, zmin);
                     structure.maxLocation = coord.translate(xmax, ymax, zmax);
 
-                    if (structure.volLength >= 3 && structure.volHeight >= 3 && structure.volWidth >= 3) {
-                        onStructureCreated(structure, origX, origY, origZ, xmin, xmax, ymin, ymax, zmin, zmax);
-                        if (structure.locations.contains(Coord4D.get(pointer)) && isCorrectCorner(coord, minX, minY, minZ)) {
-                            if (canForm(structure)) {
-                                structureFound = structure;
-                                return;
-                            }
-                        }
+                    onStructureCreated(structure, x, y, z, xmin, xmax, ymin, ymax, zmin, zmax);
+                    if (canForm(structure)) {
+                        structureFound = structure;
+                        return;
                     }
                 }
             }
         }
 
         innerNodes.clear();
-        iteratedNodes.add(coord);
+        iteratedNodes.add(PackedPos.pack(x, y, z));
 
         if (iteratedNodes.size() > 2048) {
             return;
         }
 
         for (EnumFacing side : EnumFacing.VALUES) {
-            Coord4D sideCoord = coord.offset(side);
-            if (isViableNode(sideCoord.getPos())) {
-                if (!iteratedNodes.contains(sideCoord)) {
-                    queue.addLast(sideCoord);
+            int sideX = x + side.getXOffset();
+            int sideY = y + side.getYOffset();
+            int sideZ = z + side.getZOffset();
+            if (isViableNode(sideX, sideY, sideZ)) {
+                long sidePos = PackedPos.pack(sideX, sideY, sideZ);
+                if (!iteratedNodes.contains(sidePos)) {
+                    queue.enqueue(sidePos);
                 }
             }
         }
     }
 
+    /**
+     * Checks every block of the box in a single pass, collecting the outside of it and the inner nodes.
+     *
+     * @return the outside of the box, or null if any of the blocks in the box is not valid for the part of the structure it is in
+     */
+    private Set<Coord4D> getStructureLocations(int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        int dimension = pointer.getWorld().provider.getDimension();
+        Set<Coord4D> locations = new HashSet<>();
+        for (int x = minX; x <= maxX; x++) {
+            boolean xFace = x == minX || x == maxX;
+            for (int y = minY; y <= maxY; y++) {
+                boolean yFace = y == minY || y == maxY;
+                for (int z = minZ; z <= maxZ; z++) {
+                    boolean zFace = z == minZ || z == maxZ;
+                    if (xFace || yFace || zFace) {
+                        boolean isFrame = xFace && yFace || xFace && zFace || yFace && zFace;
+                        if (!isViableNode(x, y, z) || isFrame && !isValidFrame(x, y, z)) {
+                            //If it is not a valid node or if it is supposed to be a frame but is invalid
+                            // then we are not valid over all
+                            innerNodes.clear();
+                            return null;
+                        }
+                        locations.add(new Coord4D(x, y, z, dimension));
+                    } else if (!isValidInnerNode(x, y, z)) {
+                        innerNodes.clear();
+                        return null;
+                    } else if (!isAir(x, y, z)) {
+                        innerNodes.add(PackedPos.pack(x, y, z));
+                    }
+                }
+            }
+        }
+        return locations;
+    }
+
+    private static boolean isOnShell(BlockPos pos, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        return isOnShell(pos.getX(), pos.getY(), pos.getZ(), minX, maxX, minY, maxY, minZ, maxZ);
+    }
+
+    private static boolean isOnShell(int x, int y, int z, int minX, int maxX, int minY, int maxY, int minZ, int maxZ) {
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+            return false;
+        }
+        return x == minX || x == maxX || y == minY || y == maxY || z == minZ || z == maxZ;
+    }
+
     protected boolean canForm(T structure) {
         return true;
     }
@@ -177,7 +218,42 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is an air block.
      */
     protected boolean isAir(int x, int y, int z) {
-        return pointer.getWorld().isAirBlock(new BlockPos(x, y, z));
+        IBlockState state = getBlockState(x, y, z);
+        return state.getBlock().isAir(state, pointer.getWorld(), mutablePos.setPos(x, y, z));
+    }
+
+    /**
+     * Gets the block state at the given position without loading chunks or allocating a position, unloaded blocks count as air.
+     */
+    protected IBlockState getBlockState(int x, int y, int z) {
+        Chunk chunk = getLoadedChunk(x, z);
+        return chunk == null ? Blocks.AIR.getDefaultState() : chunk.getBlockState(x, y, z);
+    }
+
+    /**
+     * Gets the tile entity at the given position without loading chunks or allocating a position.
+     */
+    protected TileEntity getTileEntity(int x, int y, int z) {
+        Chunk chunk = getLoadedChunk(x, z);
+        return chunk == null ? null : chunk.getTileEntity(mutablePos.setPos(x, y, z), EnumCreateEntityType.CHECK);
+    }
+
+    protected TileEntity getTileEntity(long node) {
+        return getTileEntity(PackedPos.getX(node), PackedPos.getY(node), PackedPos.getZ(node));
+    }
+
+    protected Coord4D toCoord(long node) {
+        return PackedPos.toCoord(node, pointer.getWorld().provider.getDimension());
+    }
+
+    private Chunk getLoadedChunk(int x, int z) {
+        int chunkX = x >> 4;
+        int chunkZ = z >> 4;
+        if (lastChunk == null || lastChunk.x != chunkX || lastChunk.z != chunkZ) {
+            //Neighbouring checks are almost always in the same chunk, so remember the last one
+            lastChunk = pointer.getWorld().getChunkProvider().getLoadedChunk(chunkX, chunkZ);
+        }
+        return lastChunk;
     }
 
     protected boolean isValidInnerNode(int x, int y, int z) {
@@ -187,7 +263,9 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     /**
      * Helper method for reducing duplicate code in loopThrough.
      *
-     * @param orig   Starting position
+     * @param origX  Starting x coordinate
+     * @param origY  Starting y coordinate
+     * @param origZ  Starting z coordinate
      * @param xShift Direction x is being changed, 1 is increasing, 0 means not changing, -1 means decreasing. Only one of xShift, yShift, and zShift should not be 0
      *               during any call. A value of 1 also implies that it is a viable node so we start checking at 1 instead of 0.
      * @param yShift Direction y is being changed, 1 is increasing, 0 means not changing, -1 means decreasing. Only one of xShift, yShift, and zShift should not be 0
@@ -197,11 +275,11 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      *
      * @return x, y, or z depending on which one is not zero.
      */
-    private int findViableNode(Coord4D orig, int xShift, int yShift, int zShift) {
+    private int findViableNode(int origX, int origY, int origZ, int xShift, int yShift, int zShift) {
         int x = xShift == 1 ? 1 : 0;
         int y = yShift == 1 ? 1 : 0;
         int z = zShift == 1 ? 1 : 0;
-        while (isViableNode(orig.x + x + xShift, orig.y + y + yShift, orig.z + z + zShift)) {
+        while (isViableNode(origX + x + xShift, origY + y + yShift, origZ + z + zShift)) {
             x += xShift;
             y += yShift;
             z += zShift;
@@ -223,12 +301,37 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * @return Whether or not the block at the specified location is a viable node for a multiblock structure.
      */
     public boolean isViableNode(int x, int y, int z) {
-        TileEntity tile = new Coord4D(x, y, z, pointer.getWorld().provider.getDimension()).getTileEntity(pointer.getWorld());
+        int index = getNodeCacheIndex(x, y, z);
+        if (index == -1) {
+            return checkViableNode(x, y, z);
+        } else if (!checkedNodes.get(index)) {
+            //Every node gets looked at many times as a neighbour of other nodes, so only check it once per update
+            checkedNodes.set(index);
+            viableNodes.set(index, checkViableNode(x, y, z));
+        }
+        return viableNodes.get(index);
+    }
+
+    private boolean checkViableNode(int x, int y, int z) {
+        TileEntity tile = getTileEntity(x, y, z);
         if (tile instanceof IStructuralMultiblock && ((IStructuralMultiblock) tile).canInterface(pointer)) {
             return true;
         }
         return MultiblockManager.areEqual(tile, pointer);
+    }
 
+    /**
+     * @return the index of the given position in the node cache, or -1 if it is too far from the pointer to be cached
+     */
+    private int getNodeCacheIndex(int x, int y, int z) {
+        BlockPos pos = pointer.getPos();
+        int dx = x - pos.getX() + NODE_CACHE_RADIUS;
+        int dy = y - pos.getY() + NODE_CACHE_RADIUS;
+        int dz = z - pos.getZ() + NODE_CACHE_RADIUS;
+        if (dx < 0 || dx >= NODE_CACHE_SIZE || dy < 0 || dy >= NODE_CACHE_SIZE || dz < 0 || dz >= NODE_CACHE_SIZE) {
+            return -1;
+        }
+        return (dx * NODE_CACHE_SIZE + dy) * NODE_CACHE_SIZE + dz;
     }
 
     /**
@@ -240,36 +343,6 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         return isViableNode(pos.getX(), pos.getY(), pos.getZ());
     }
 
-    /**
-     * @param obj  - location to check
-     * @param xmin - minimum x value
-     * @param ymin - minimum y value
-     * @param zmin - minimum z value
-     *
-     * @return If the block at the specified location is on the minimum of all angles of this multiblock structure, and the one to use for the actual calculation.
-     */
-    private boolean isCorrectCorner(Coord4D obj, int xmin, int ymin, int zmin) {
-        return obj.x == xmin && obj.y == ymin && obj.z == zmin;
-    }
-
-    /**
-     * @param obj  - location to check
-     * @param xmin - minimum x value
-     * @param xmax - maximum x value
-     * @param ymin - minimum y value
-     * @param ymax - maximum y value
-     * @param zmin - minimum z value
-     * @param zmax - maximum z value
-     *
-     * @return Whether or not the block at the specified location is considered a frame on the multiblock structure.
-     */
-    private boolean isFrame(Coord4D obj, int xmin, int xmax, int ymin, int ymax, int zmin, int zmax) {
-        boolean xMatches = obj.x == xmin || obj.x == xmax;
-        boolean yMatches = obj.y == ymin || obj.y == ymax;
-        boolean zMatches = obj.z == zmin || obj.z == zmax;
-        return xMatches && yMatches || xMatches && zMatches || yMatches && zMatches;
-    }
-
     /**
      * @param x - x coordinate
      * @param y - y coordinate
@@ -306,7 +379,14 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
     }
 
     private void killInnerNode(Coord4D coord) {
-        TileEntity tile = coord.getTileEntity(pointer.getWorld());
+        killInnerNode(coord.getTileEntity(pointer.getWorld()));
+    }
+
+    private void killInnerNode(long node) {
+        killInnerNode(getTileEntity(node));
+    }
+
+    private void killInnerNode(TileEntity tile) {
         if (tile instanceof TileEntityInternalMultiblock) {
             ((TileEntityInternalMultiblock) tile).setMultiblock(null);
         }
@@ -316,28 +396,30 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
      * Runs the protocol and updates all nodes that make a part of the multiblock.
      */
     public void doUpdate() {
-        Deque<Coord4D> pathingQueue = new LinkedList<>();
-        pathingQueue.add(Coord4D.get(pointer));
-        while (pathingQueue.peek() != null) {
-            Coord4D next = pathingQueue.removeFirst();
+        LongArrayFIFOQueue pathingQueue = new LongArrayFIFOQueue();
+        pathingQueue.enqueue(PackedPos.pack(pointer.getPos()));
+        while (!pathingQueue.isEmpty()) {
+            long next = pathingQueue.dequeueLong();
             if (!iteratedNodes.contains(next)) {
-                loopThrough(next, pathingQueue);
+                loopThrough(PackedPos.getX(next), PackedPos.getY(next), PackedPos.getZ(next), pathingQueue);
             }
         }
 
         if (structureFound != null) {
-            for (Coord4D coord : iteratedNodes) {
-                if (!structureFound.locations.contains(coord)) {
-                    for (Coord4D newCoord : iteratedNodes) {
-                        TileEntity tile = newCoord.getTileEntity(pointer.getWorld());
+            Coord4D min = structureFound.minLocation;
+            Coord4D max = structureFound.maxLocation;
+            for (long node : iteratedNodes) {
+                if (!isOnShell(PackedPos.getX(node), PackedPos.getY(node), PackedPos.getZ(node), min.x, max.x, min.y, max.y, min.z, max.z)) {
+                    for (long newNode : iteratedNodes) {
+                        TileEntity tile = getTileEntity(newNode);
                         if (tile instanceof TileEntityMultiblock) {
                             ((TileEntityMultiblock<?>) tile).structure = null;
                         } else if (tile instanceof IStructuralMultiblock) {
                             ((IStructuralMultiblock) tile).setController(null);
                         }
                     }
-                    for (Coord4D newCoord : innerNodes) {
-                        killInnerNode(newCoord);
+                    for (long innerNode : innerNodes) {
+                        killInnerNode(innerNode);
                     }
                     return;
                 }
@@ -399,8 +481,8 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                 structureFound.locations.remove(Coord4D.get((TileEntity) node));
             }
         } else {
-            for (Coord4D coord : iteratedNodes) {
-                TileEntity tile = coord.getTileEntity(pointer.getWorld());
+            for (long node : iteratedNodes) {
+                TileEntity tile = getTileEntity(node);
                 if (tile instanceof TileEntityMultiblock) {
                     TileEntityMultiblock<T> tileEntity = (TileEntityMultiblock<T>) tile;
                     if (tileEntity.structure != null && !tileEntity.structure.destroyed) {
@@ -412,8 +494,8 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
                     ((IStructuralMultiblock) tile).setController(null);
                 }
             }
-            for (Coord4D coord : innerNodes) {
-                killInnerNode(coord);
+            for (long innerNode : innerNodes) {
+                killInnerNode(innerNode);
             }
         }
     }
@@ -429,7 +511,7 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
 
     public static class NodeCounter {
 
-        public Set<Coord4D> iterated = new HashSet<>();
+        public LongSet iterated = new LongOpenHashSet();
 
         public NodeChecker checker;
 
@@ -438,17 +520,19 @@ public abstract class UpdateProtocol<T extends SynchronizedData<T>> {
         }
 
         public void loop(Coord4D pos) {
-            iterated.add(pos);
+            long packed = PackedPos.pack(pos);
+            iterated.add(packed);
 
             if (!checker.shouldContinue(iterated.size())) {
                 return;
             }
 
             for (EnumFacing side : EnumFacing.VALUES) {
-                Coord4D coord = pos.offset(side);
-
-                if (!iterated.contains(coord) && checker.isValid(coord)) {
-                    loop(coord);
+                if (!iterated.contains(PackedPos.offset(packed, side))) {
+                    Coord4D coord = pos.offset(side);
+                    if (checker.isValid(coord)) {
+                        loop(coord);
+                    }
                 }
             }
         }
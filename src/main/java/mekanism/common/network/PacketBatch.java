@@ -0,0 +1,83 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import mekanism.common.Mekanism;
+import mekanism.common.network.PacketBatch.BatchMessage;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+public class PacketBatch implements IMessageHandler<BatchMessage, IMessage> {
+
+    @Override
+    public IMessage onMessage(BatchMessage message, MessageContext context) {
+        ByteBuf frame = Unpooled.wrappedBuffer(message.frame);
+        int count = ByteBufUtils.readVarInt(frame, 5);
+        for (int i = 0; i < count; i++) {
+            int id = frame.readUnsignedByte();
+            ByteBuf data = frame.readSlice(ByteBufUtils.readVarInt(frame, 5));
+            try {
+                Mekanism.packetHandler.batcher.handle(id, data, context);
+            } catch (Exception e) {
+                Mekanism.logger.error("FIXME: Packet handling error", e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Several messages for the same player put into one frame, see {@link PacketBatcher}.
+     */
+    public static class BatchMessage implements IMessage {
+
+        /**
+         * The count of messages followed by the discriminator, length and data of each message.
+         */
+        public byte[] frame;
+
+        /**
+         * Length of the frame before it was compressed, or 0 if it is not compressed.
+         */
+        public int uncompressedLength;
+
+        public BatchMessage() {
+        }
+
+        public BatchMessage(byte[] frameData, int length) {
+            frame = frameData;
+            uncompressedLength = length;
+        }
+
+        @Override
+        public void toBytes(ByteBuf dataStream) {
+            ByteBufUtils.writeVarInt(dataStream, uncompressedLength, 5);
+            ByteBufUtils.writeVarInt(dataStream, frame.length, 5);
+            dataStream.writeBytes(frame);
+        }
+
+        @Override
+        public void fromBytes(ByteBuf dataStream) {
+            uncompressedLength = ByteBufUtils.readVarInt(dataStream, 5);
+            byte[] data = new byte[ByteBufUtils.readVarInt(dataStream, 5)];
+            dataStream.readBytes(data);
+            if (uncompressedLength == 0) {
+                frame = data;
+            } else {
+                frame = new byte[uncompressedLength];
+                Inflater inflater = new Inflater();
+                try {
+                    inflater.setInput(data);
+                    inflater.inflate(frame);
+                } catch (DataFormatException e) {
+                    throw new RuntimeException("Invalid compressed packet batch", e);
+                } finally {
+                    inflater.end();
+                }
+            }
+        }
+    }
+}
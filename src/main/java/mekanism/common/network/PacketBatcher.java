@@ -0,0 +1,313 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.zip.Deflater;
+import mekanism.common.Mekanism;
+import mekanism.common.TickProfiler;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.network.PacketBatch.BatchMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
+import net.minecraftforge.event.entity.player.PlayerEvent.Clone;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * Collects the messages sent to each player during a server tick and sends them as one {@link BatchMessage} at the end of the tick, so a busy area does not send a
+ * separate packet for every transporter, valve and machine that changed. Frames above the configured size get compressed.
+ */
+public class PacketBatcher {
+
+    private final Map<Class<? extends IMessage>, Integer> discriminators = new HashMap<>();
+    private final Int2ObjectMap<RegisteredMessage<?>> registered = new Int2ObjectOpenHashMap<>();
+
+    private final Map<EntityPlayerMP, List<QueuedMessage>> queued = new LinkedHashMap<>();
+    /**
+     * Messages encoded this tick, as the same message often gets sent to several players.
+     */
+    private final Map<IMessage, byte[]> encoded = new IdentityHashMap<>();
+
+    private final Map<Class<? extends IMessage>, MessageStats> stats = new HashMap<>();
+
+    /**
+     * Allows messages of the given type to be batched, only messages sent to the client can be.
+     */
+    public <REQ extends IMessage> void register(Class<? extends IMessageHandler<REQ, ? extends IMessage>> handler, Class<REQ> message, int discriminator) {
+        try {
+            discriminators.put(message, discriminator);
+            registered.put(discriminator, new RegisteredMessage<>(message, handler.newInstance()));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * @return whether messages sent right now get batched
+     */
+    public boolean isActive() {
+        return MekanismConfig.current().general.packetBatching.val() && isServerThread();
+    }
+
+    private static boolean isServerThread() {
+        MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+        return server != null && server.isCallingFromMinecraftThread();
+    }
+
+    /**
+     * Counts a message that gets sent to a player without being batched in the per-type stats. Only done while the profiler is running, as it means encoding the
+     * message an extra time. Messages sent from other threads are not counted.
+     */
+    public void record(IMessage message) {
+        if (TickProfiler.isEnabled() && isServerThread()) {
+            ByteBuf buffer = Unpooled.buffer();
+            try {
+                message.toBytes(buffer);
+                addStats(message, buffer.readableBytes());
+            } finally {
+                buffer.release();
+            }
+        }
+    }
+
+    private void addStats(IMessage message, int size) {
+        stats.computeIfAbsent(message.getClass(), type -> new MessageStats()).add(size);
+    }
+
+    /**
+     * Queues a message to be sent to the player at the end of the tick.
+     *
+     * @return false if the message can't be batched and should be sent right away instead
+     */
+    public boolean queue(IMessage message, EntityPlayerMP player) {
+        Integer discriminator = discriminators.get(message.getClass());
+        if (discriminator == null || !isActive()) {
+            return false;
+        }
+        byte[] data = encode(message);
+        queued.computeIfAbsent(player, p -> new ArrayList<>()).add(new QueuedMessage(message, discriminator, data));
+        if (TickProfiler.isEnabled()) {
+            addStats(message, data.length);
+        }
+        return true;
+    }
+
+    private byte[] encode(IMessage message) {
+        return encoded.computeIfAbsent(message, msg -> {
+            ByteBuf buffer = Unpooled.buffer();
+            try {
+                msg.toBytes(buffer);
+                byte[] bytes = new byte[buffer.readableBytes()];
+                buffer.readBytes(bytes);
+                return bytes;
+            } finally {
+                buffer.release();
+            }
+        });
+    }
+
+    @SubscribeEvent
+    public void onTick(ServerTickEvent event) {
+        if (event.phase == Phase.END) {
+            flush();
+        }
+    }
+
+    /**
+     * Messages queued before a dimension change are about the world the player is leaving, so they have to arrive before the client switches worlds.
+     */
+    @SubscribeEvent
+    public void onTravelToDimension(EntityTravelToDimensionEvent event) {
+        if (event.getEntity() instanceof EntityPlayerMP) {
+            flush((EntityPlayerMP) event.getEntity());
+        }
+    }
+
+    /**
+     * Respawning replaces the player and sends the client a new world, flush what was queued for the old player before that happens.
+     */
+    @SubscribeEvent
+    public void onPlayerClone(Clone event) {
+        if (event.getOriginal() instanceof EntityPlayerMP) {
+            flush((EntityPlayerMP) event.getOriginal());
+        }
+    }
+
+    public void flush() {
+        for (Entry<EntityPlayerMP, List<QueuedMessage>> entry : queued.entrySet()) {
+            send(entry.getKey(), entry.getValue());
+        }
+        queued.clear();
+        encoded.clear();
+    }
+
+    /**
+     * Sends the messages queued for the player right away, so a message that has to reach the player before vanilla packets isn't overtaken by them.
+     */
+    public void flush(EntityPlayerMP player) {
+        List<QueuedMessage> playerMessages = queued.remove(player);
+        if (playerMessages != null) {
+            send(player, playerMessages);
+        }
+    }
+
+    private void send(EntityPlayerMP player, List<QueuedMessage> playerMessages) {
+        if (player.hasDisconnected()) {
+            return;
+        }
+        if (playerMessages.size() == 1) {
+            //Nothing to batch with
+            send(playerMessages.get(0).message, player);
+            return;
+        }
+        ByteBuf frame = Unpooled.buffer();
+        try {
+            ByteBufUtils.writeVarInt(frame, playerMessages.size(), 5);
+            for (QueuedMessage queuedMessage : playerMessages) {
+                frame.writeByte(queuedMessage.discriminator);
+                ByteBufUtils.writeVarInt(frame, queuedMessage.data.length, 5);
+                frame.writeBytes(queuedMessage.data);
+            }
+            byte[] frameData = new byte[frame.readableBytes()];
+            frame.readBytes(frameData);
+            int compressionThreshold = MekanismConfig.current().general.packetBatchCompressionThreshold.val();
+            if (compressionThreshold > 0 && frameData.length >= compressionThreshold) {
+                send(new BatchMessage(compress(frameData), frameData.length), player);
+            } else {
+                send(new BatchMessage(frameData, 0), player);
+            }
+        } finally {
+            frame.release();
+        }
+    }
+
+    private void send(IMessage message, EntityPlayerMP player) {
+        Mekanism.packetHandler.netHandler.sendTo(message, player);
+    }
+
+    private static byte[] compress(byte[] data) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            byte[] buffer = new byte[Math.max(64, data.length / 2)];
+            ByteBuf output = Unpooled.buffer(buffer.length);
+            try {
+                while (!deflater.finished()) {
+                    output.writeBytes(buffer, 0, deflater.deflate(buffer));
+                }
+                byte[] compressed = new byte[output.readableBytes()];
+                output.readBytes(compressed);
+                return compressed;
+            } finally {
+                output.release();
+            }
+        } finally {
+            deflater.end();
+        }
+    }
+
+    /**
+     * Decodes a message of a received batch and passes it to its handler.
+     */
+    void handle(int discriminator, ByteBuf data, MessageContext context) {
+        RegisteredMessage<?> message = registered.get(discriminator);
+        if (message == null) {
+            throw new IllegalStateException("Unknown batched message " + discriminator);
+        }
+        message.handle(data, context);
+    }
+
+    /**
+     * @return how many messages and bytes of each type have been sent to players while the profiler was running since the last reset, by message name
+     */
+    public Map<String, MessageStats> getStats() {
+        Map<String, MessageStats> copy = new TreeMap<>();
+        for (Entry<Class<? extends IMessage>, MessageStats> entry : stats.entrySet()) {
+            copy.put(entry.getKey().getSimpleName(), entry.getValue().copy());
+        }
+        return Collections.unmodifiableMap(copy);
+    }
+
+    public void resetStats() {
+        stats.clear();
+    }
+
+    public static class MessageStats {
+
+        private long messages;
+        private long bytes;
+
+        private void add(int size) {
+            messages++;
+            bytes += size;
+        }
+
+        private MessageStats copy() {
+            MessageStats copy = new MessageStats();
+            copy.messages = messages;
+            copy.bytes = bytes;
+            return copy;
+        }
+
+        public long getMessages() {
+            return messages;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    private static class QueuedMessage {
+
+        private final IMessage message;
+        private final int discriminator;
+        private final byte[] data;
+
+        private QueuedMessage(IMessage message, int discriminator, byte[] data) {
+            this.message = message;
+            this.discriminator = discriminator;
+            this.data = data;
+        }
+    }
+
+    private static class RegisteredMessage<REQ extends IMessage> {
+
+        private final Class<REQ> type;
+        private final IMessageHandler<REQ, ? extends IMessage> handler;
+
+        private RegisteredMessage(Class<REQ> type, IMessageHandler<REQ, ? extends IMessage> handler) {
+            this.type = type;
+            this.handler = handler;
+        }
+
+        private void handle(ByteBuf data, MessageContext context) {
+            try {
+                REQ message = type.newInstance();
+                message.fromBytes(data);
+                handler.onMessage(message, context);
+            } catch (ReflectiveOperationException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
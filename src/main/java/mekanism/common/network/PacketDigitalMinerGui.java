@@ -123,9 +123,9 @@ public class PacketDigitalMinerGui implements IMessageHandler<DigitalMinerGuiMes
             playerMP.getNextWindowId();
             int window = playerMP.currentWindowId;
             if (t == MinerGuiPacket.SERVER) {
-                Mekanism.packetHandler.sendTo(new DigitalMinerGuiMessage(MinerGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
+                Mekanism.packetHandler.sendToNow(new DigitalMinerGuiMessage(MinerGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
             } else if (t == MinerGuiPacket.SERVER_INDEX) {
-                Mekanism.packetHandler.sendTo(new DigitalMinerGuiMessage(MinerGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
+                Mekanism.packetHandler.sendToNow(new DigitalMinerGuiMessage(MinerGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
             }
             playerMP.openContainer = container;
             playerMP.openContainer.windowId = window;
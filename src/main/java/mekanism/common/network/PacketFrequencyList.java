@@ -0,0 +1,178 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import mekanism.api.Coord4D;
+import mekanism.common.PacketHandler;
+import mekanism.common.frequency.Frequency;
+import mekanism.common.frequency.IFrequencyListHandler;
+import mekanism.common.network.PacketFrequencyList.FrequencyListMessage;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
+import mekanism.common.util.MekanismUtils;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+public class PacketFrequencyList implements IMessageHandler<FrequencyListMessage, IMessage> {
+
+    @Override
+    public IMessage onMessage(FrequencyListMessage message, MessageContext context) {
+        EntityPlayer player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return null;
+        }
+        PacketHandler.handlePacket(() -> {
+            TileEntity tile = message.coord4D.getTileEntity(player.world);
+            if (tile instanceof IFrequencyListHandler) {
+                IFrequencyListHandler handler = (IFrequencyListHandler) tile;
+                if (message.packetType == FrequencyListPacket.PAGE) {
+                    handler.getFrequencyList().apply(message);
+                } else if (tile instanceof TileEntityBasicBlock && ((TileEntityBasicBlock) tile).playersUsing.contains(player)) {
+                    //Only players that have the GUI open get to see the list
+                    handler.getFrequencyList().setView(player, message.requestId, message.publicFreqs, message.search, message.page);
+                }
+            }
+        }, player);
+        return null;
+    }
+
+    public enum FrequencyListPacket {
+        REQUEST,
+        PAGE
+    }
+
+    public static class FrequencyListMessage implements IMessage {
+
+        public FrequencyListPacket packetType;
+
+        public Coord4D coord4D;
+
+        public int requestId;
+
+        public int page;
+
+        public boolean publicFreqs;
+        public String search;
+
+        public int total;
+
+        /**
+         * For every entry of the page, the index it had in the page sent before, or -1 if it is in {@link #added}.
+         */
+        private int[] previousIndices;
+        private List<Frequency> added;
+
+        public FrequencyListMessage() {
+        }
+
+        public static FrequencyListMessage request(Coord4D coord, int requestId, boolean publicFreqs, String search, int page) {
+            FrequencyListMessage message = new FrequencyListMessage();
+            message.packetType = FrequencyListPacket.REQUEST;
+            message.coord4D = coord;
+            message.requestId = requestId;
+            message.publicFreqs = publicFreqs;
+            message.search = search;
+            message.page = page;
+            return message;
+        }
+
+        /**
+         * @param previous - the entries sent for the same request before, or null if nothing was sent for it yet
+         */
+        public static FrequencyListMessage page(Coord4D coord, int requestId, int page, int total, List<Frequency> entries, List<Frequency> previous) {
+            FrequencyListMessage message = new FrequencyListMessage();
+            message.packetType = FrequencyListPacket.PAGE;
+            message.coord4D = coord;
+            message.requestId = requestId;
+            message.page = page;
+            message.total = total;
+            message.previousIndices = new int[entries.size()];
+            message.added = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                Frequency freq = entries.get(i);
+                message.previousIndices[i] = previous == null ? -1 : previous.indexOf(freq);
+                if (message.previousIndices[i] == -1) {
+                    message.added.add(freq);
+                }
+            }
+            return message;
+        }
+
+        /**
+         * @param previous - the entries received for the same request before
+         *
+         * @return the entries of the page, taking the ones that didn't change from the previous entries
+         */
+        public List<Frequency> getEntries(List<Frequency> previous) {
+            List<Frequency> entries = new ArrayList<>(previousIndices.length);
+            int addedIndex = 0;
+            for (int index : previousIndices) {
+                if (index == -1) {
+                    entries.add(added.get(addedIndex++));
+                } else if (index < previous.size()) {
+                    entries.add(previous.get(index));
+                }
+            }
+            return entries;
+        }
+
+        @Override
+        public void toBytes(ByteBuf dataStream) {
+            dataStream.writeByte(packetType.ordinal());
+            coord4D.write(dataStream);
+            ByteBufUtils.writeVarInt(dataStream, requestId, 5);
+            ByteBufUtils.writeVarInt(dataStream, page, 5);
+            if (packetType == FrequencyListPacket.REQUEST) {
+                dataStream.writeBoolean(publicFreqs);
+                ByteBufUtils.writeUTF8String(dataStream, search);
+            } else {
+                ByteBufUtils.writeVarInt(dataStream, total, 5);
+                ByteBufUtils.writeVarInt(dataStream, previousIndices.length, 5);
+                int addedIndex = 0;
+                for (int index : previousIndices) {
+                    //0 means the entry follows, anything else is its index in the previous page plus one
+                    ByteBufUtils.writeVarInt(dataStream, index + 1, 5);
+                    if (index == -1) {
+                        Frequency freq = added.get(addedIndex++);
+                        ByteBufUtils.writeUTF8String(dataStream, freq.name);
+                        PacketHandler.writeUUID(dataStream, freq.ownerUUID);
+                        ByteBufUtils.writeUTF8String(dataStream, MekanismUtils.getLastKnownUsername(freq.ownerUUID));
+                        dataStream.writeBoolean(freq.publicFreq);
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void fromBytes(ByteBuf dataStream) {
+            packetType = FrequencyListPacket.values()[dataStream.readByte()];
+            coord4D = Coord4D.read(dataStream);
+            requestId = ByteBufUtils.readVarInt(dataStream, 5);
+            page = ByteBufUtils.readVarInt(dataStream, 5);
+            if (packetType == FrequencyListPacket.REQUEST) {
+                publicFreqs = dataStream.readBoolean();
+                search = ByteBufUtils.readUTF8String(dataStream);
+            } else {
+                total = ByteBufUtils.readVarInt(dataStream, 5);
+                previousIndices = new int[ByteBufUtils.readVarInt(dataStream, 5)];
+                added = new ArrayList<>();
+                for (int i = 0; i < previousIndices.length; i++) {
+                    previousIndices[i] = ByteBufUtils.readVarInt(dataStream, 5) - 1;
+                    if (previousIndices[i] == -1) {
+                        String name = ByteBufUtils.readUTF8String(dataStream);
+                        UUID owner = PacketHandler.readUUID(dataStream);
+                        String ownerName = ByteBufUtils.readUTF8String(dataStream);
+                        Frequency freq = new Frequency(name, owner).setPublic(dataStream.readBoolean());
+                        freq.clientOwner = ownerName;
+                        added.add(freq);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -110,9 +110,9 @@ public class PacketLogisticalSorterGui implements IMessageHandler<LogisticalSort
             playerMP.getNextWindowId();
             int window = playerMP.currentWindowId;
             if (t == SorterGuiPacket.SERVER) {
-                Mekanism.packetHandler.sendTo(new LogisticalSorterGuiMessage(SorterGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
+                Mekanism.packetHandler.sendToNow(new LogisticalSorterGuiMessage(SorterGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
             } else if (t == SorterGuiPacket.SERVER_INDEX) {
-                Mekanism.packetHandler.sendTo(new LogisticalSorterGuiMessage(SorterGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
+                Mekanism.packetHandler.sendToNow(new LogisticalSorterGuiMessage(SorterGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
             }
             playerMP.openContainer = container;
             playerMP.openContainer.windowId = window;
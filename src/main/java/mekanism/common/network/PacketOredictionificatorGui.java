@@ -105,9 +105,9 @@ public class PacketOredictionificatorGui implements IMessageHandler<Oredictionif
             int window = playerMP.currentWindowId;
 
             if (t == OredictionificatorGuiPacket.SERVER) {
-                Mekanism.packetHandler.sendTo(new OredictionificatorGuiMessage(OredictionificatorGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
+                Mekanism.packetHandler.sendToNow(new OredictionificatorGuiMessage(OredictionificatorGuiPacket.CLIENT, obj, guiType, window, 0), playerMP);
             } else if (t == OredictionificatorGuiPacket.SERVER_INDEX) {
-                Mekanism.packetHandler.sendTo(new OredictionificatorGuiMessage(OredictionificatorGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
+                Mekanism.packetHandler.sendToNow(new OredictionificatorGuiMessage(OredictionificatorGuiPacket.CLIENT_INDEX, obj, guiType, window, i), playerMP);
             }
 
             playerMP.openContainer = container;
@@ -72,7 +72,7 @@ public class PacketSimpleGui implements IMessageHandler<SimpleGuiMessage, IMessa
             playerMP.closeContainer();
             playerMP.getNextWindowId();
             int window = playerMP.currentWindowId;
-            Mekanism.packetHandler.sendTo(new SimpleGuiMessage(obj, handler, id, window), playerMP);
+            Mekanism.packetHandler.sendToNow(new SimpleGuiMessage(obj, handler, id, window), playerMP);
             playerMP.openContainer = handlers.get(handler).getServerGui(id, playerMP, world, obj.getPos());
             playerMP.openContainer.windowId = window;
             playerMP.openContainer.addListener(playerMP);
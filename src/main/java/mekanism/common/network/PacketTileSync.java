@@ -0,0 +1,106 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import java.util.BitSet;
+import mekanism.api.Coord4D;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.fml.common.network.ByteBufUtils;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessageHandler;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+public class PacketTileSync implements IMessageHandler<TileSyncMessage, IMessage> {
+
+    @Override
+    public IMessage onMessage(TileSyncMessage message, MessageContext context) {
+        EntityPlayer player = PacketHandler.getPlayer(context);
+        if (player == null) {
+            return null;
+        }
+        PacketHandler.handlePacket(() -> {
+            TileEntity tileEntity = message.coord4D.getTileEntity(player.world);
+            if (tileEntity instanceof TileEntityBasicBlock) {
+                TileEntityBasicBlock tile = (TileEntityBasicBlock) tileEntity;
+                ByteBuf data = tile.syncState.apply(message);
+                if (data != null) {
+                    try {
+                        tile.handlePacketData(data);
+                    } catch (Exception e) {
+                        Mekanism.logger.error("FIXME: Packet handling error", e);
+                    }
+                    data.release();
+                }
+            }
+        }, player);
+        return null;
+    }
+
+    /**
+     * The encoded fields of a tile's networked data, either all of them or only the ones that changed since the last message.
+     */
+    public static class TileSyncMessage implements IMessage {
+
+        public Coord4D coord4D;
+
+        public int fieldCount;
+
+        /**
+         * Indices of the fields in this message, or null if it contains all fields.
+         */
+        public BitSet changed;
+
+        public byte[][] fields;
+
+        public TileSyncMessage() {
+        }
+
+        public TileSyncMessage(Coord4D coord, int count, BitSet changedFields, byte[][] fieldData) {
+            coord4D = coord;
+            fieldCount = count;
+            changed = changedFields;
+            fields = fieldData;
+        }
+
+        @Override
+        public void toBytes(ByteBuf dataStream) {
+            coord4D.write(dataStream);
+            ByteBufUtils.writeVarInt(dataStream, fieldCount, 5);
+            dataStream.writeBoolean(changed != null);
+            if (changed != null) {
+                long[] mask = changed.toLongArray();
+                ByteBufUtils.writeVarInt(dataStream, mask.length, 5);
+                for (long word : mask) {
+                    dataStream.writeLong(word);
+                }
+            }
+            ByteBufUtils.writeVarInt(dataStream, fields.length, 5);
+            for (byte[] field : fields) {
+                ByteBufUtils.writeVarInt(dataStream, field.length, 5);
+                dataStream.writeBytes(field);
+            }
+        }
+
+        @Override
+        public void fromBytes(ByteBuf dataStream) {
+            coord4D = Coord4D.read(dataStream);
+            fieldCount = ByteBufUtils.readVarInt(dataStream, 5);
+            if (dataStream.readBoolean()) {
+                long[] mask = new long[ByteBufUtils.readVarInt(dataStream, 5)];
+                for (int i = 0; i < mask.length; i++) {
+                    mask[i] = dataStream.readLong();
+                }
+                changed = BitSet.valueOf(mask);
+            }
+            fields = new byte[ByteBufUtils.readVarInt(dataStream, 5)][];
+            for (int i = 0; i < fields.length; i++) {
+                fields[i] = new byte[ByteBufUtils.readVarInt(dataStream, 5)];
+                dataStream.readBytes(fields[i]);
+            }
+        }
+    }
+}
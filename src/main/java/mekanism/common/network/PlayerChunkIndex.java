@@ -0,0 +1,176 @@
+package mekanism.common.network;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.common.util.FakePlayer;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerChangedDimensionEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedOutEvent;
+import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerRespawnEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.PlayerTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * Keeps track of which chunk of which dimension each player on the server is in, so the players that should receive a message about an area can be found by looking
+ * at the chunks around it instead of checking every player on the server. Players are moved to their new chunk at the end of each of their ticks.
+ * <p>
+ * Only to be used from the server thread.
+ */
+public class PlayerChunkIndex {
+
+    private final Map<UUID, TrackedPlayer> tracked = new HashMap<>();
+    private final Int2ObjectMap<DimensionPlayers> dimensions = new Int2ObjectOpenHashMap<>();
+
+    @SubscribeEvent
+    public void onPlayerTick(PlayerTickEvent event) {
+        if (event.phase == Phase.END && event.side == Side.SERVER) {
+            update(event.player);
+        }
+    }
+
+    @SubscribeEvent
+    public void onPlayerChangedDimension(PlayerChangedDimensionEvent event) {
+        update(event.player);
+    }
+
+    @SubscribeEvent
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        update(event.player);
+    }
+
+    @SubscribeEvent
+    public void onPlayerLogout(PlayerLoggedOutEvent event) {
+        remove(tracked.remove(event.player.getUniqueID()));
+    }
+
+    public void update(EntityPlayer entity) {
+        if (!(entity instanceof EntityPlayerMP) || entity instanceof FakePlayer) {
+            return;
+        }
+        EntityPlayerMP player = (EntityPlayerMP) entity;
+        int dimension = player.dimension;
+        long chunk = ChunkPos.asLong(MathHelper.floor(player.posX) >> 4, MathHelper.floor(player.posZ) >> 4);
+        TrackedPlayer previous = tracked.get(player.getUniqueID());
+        if (previous != null) {
+            //Respawning creates a new player entity, so the entity is compared too
+            if (previous.player == player && previous.dimension == dimension && previous.chunk == chunk) {
+                return;
+            }
+            remove(previous);
+        }
+        TrackedPlayer current = new TrackedPlayer(player, dimension, chunk);
+        tracked.put(player.getUniqueID(), current);
+        DimensionPlayers players = dimensions.get(dimension);
+        if (players == null) {
+            dimensions.put(dimension, players = new DimensionPlayers());
+        }
+        players.add(current);
+    }
+
+    private void remove(TrackedPlayer player) {
+        if (player != null) {
+            DimensionPlayers players = dimensions.get(player.dimension);
+            if (players != null && players.remove(player)) {
+                dimensions.remove(player.dimension);
+            }
+        }
+    }
+
+    public void clear() {
+        tracked.clear();
+        dimensions.clear();
+    }
+
+    /**
+     * Finds the players in the given chunks that pass the check. If there are fewer players in the dimension than chunks to look at, every player of the dimension gets
+     * checked instead, so this never does more work than checking each player.
+     *
+     * @param check - the exact check for each player in the chunks
+     */
+    public List<EntityPlayerMP> getPlayers(int dimension, int minChunkX, int minChunkZ, int maxChunkX, int maxChunkZ, Predicate<EntityPlayerMP> check) {
+        DimensionPlayers players = dimensions.get(dimension);
+        if (players == null) {
+            return Collections.emptyList();
+        }
+        List<EntityPlayerMP> found = new ArrayList<>();
+        long chunks = (long) (maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1);
+        if (chunks > players.all.size()) {
+            addMatching(players.all, check, found);
+        } else {
+            for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+                for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                    List<EntityPlayerMP> inChunk = players.byChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                    if (inChunk != null) {
+                        addMatching(inChunk, check, found);
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    private static void addMatching(List<EntityPlayerMP> players, Predicate<EntityPlayerMP> check, List<EntityPlayerMP> found) {
+        for (EntityPlayerMP player : players) {
+            if (check.test(player)) {
+                found.add(player);
+            }
+        }
+    }
+
+    private static class TrackedPlayer {
+
+        private final EntityPlayerMP player;
+        private final int dimension;
+        private final long chunk;
+
+        private TrackedPlayer(EntityPlayerMP player, int dimension, long chunk) {
+            this.player = player;
+            this.dimension = dimension;
+            this.chunk = chunk;
+        }
+    }
+
+    private static class DimensionPlayers {
+
+        private final List<EntityPlayerMP> all = new ArrayList<>();
+        private final Long2ObjectMap<List<EntityPlayerMP>> byChunk = new Long2ObjectOpenHashMap<>();
+
+        private void add(TrackedPlayer player) {
+            all.add(player.player);
+            List<EntityPlayerMP> inChunk = byChunk.get(player.chunk);
+            if (inChunk == null) {
+                byChunk.put(player.chunk, inChunk = new ArrayList<>());
+            }
+            inChunk.add(player.player);
+        }
+
+        /**
+         * @return whether there are no players left in the dimension
+         */
+        private boolean remove(TrackedPlayer player) {
+            all.remove(player.player);
+            List<EntityPlayerMP> inChunk = byChunk.get(player.chunk);
+            if (inChunk != null) {
+                inChunk.remove(player.player);
+                if (inChunk.isEmpty()) {
+                    byChunk.remove(player.chunk);
+                }
+            }
+            return all.isEmpty();
+        }
+    }
+}
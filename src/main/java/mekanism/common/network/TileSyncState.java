@@ -0,0 +1,112 @@
+package mekanism.common.network;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Set;
+import javax.annotation.Nullable;
+import mekanism.api.Coord4D;
+import mekanism.api.TileNetworkList;
+import mekanism.common.Mekanism;
+import mekanism.common.PacketHandler;
+import mekanism.common.network.PacketTileSync.TileSyncMessage;
+import mekanism.common.tile.prefab.TileEntityBasicBlock;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+
+/**
+ * Keeps a tile's networked data in sync with the players that have its GUI open. Every element of {@link TileEntityBasicBlock#getSyncData(TileNetworkList)} is a
+ * field; only the fields whose encoded value changed get sent, and nothing gets sent on ticks where nothing changed. Players that just started using the tile, or any
+ * change to the amount of fields, get all fields instead.
+ * <p>
+ * On the server this holds the fields last sent, on the client the fields last received, so the full data can be put back together for
+ * {@link TileEntityBasicBlock#handlePacketData(ByteBuf)}.
+ */
+public class TileSyncState {
+
+    private byte[][] fields;
+
+    private final Set<EntityPlayer> syncedPlayers = new HashSet<>();
+
+    public void sync(TileEntityBasicBlock tile, Set<EntityPlayer> players) {
+        byte[][] current = encode(tile.getSyncData(new TileNetworkList()));
+        syncedPlayers.retainAll(players);
+        Coord4D coord = Coord4D.get(tile);
+        TileSyncMessage full = null;
+        TileSyncMessage delta = null;
+        if (fields != null && fields.length == current.length) {
+            BitSet changed = new BitSet(current.length);
+            for (int i = 0; i < current.length; i++) {
+                if (!Arrays.equals(fields[i], current[i])) {
+                    changed.set(i);
+                }
+            }
+            if (!changed.isEmpty()) {
+                byte[][] changedFields = new byte[changed.cardinality()][];
+                int index = 0;
+                for (int i = changed.nextSetBit(0); i >= 0; i = changed.nextSetBit(i + 1)) {
+                    changedFields[index++] = current[i];
+                }
+                delta = new TileSyncMessage(coord, current.length, changed, changedFields);
+            }
+        } else {
+            //The fields changed, so everyone needs all of them again
+            syncedPlayers.clear();
+        }
+        for (EntityPlayer player : players) {
+            if (!syncedPlayers.contains(player)) {
+                if (full == null) {
+                    full = new TileSyncMessage(coord, current.length, null, current);
+                }
+                Mekanism.packetHandler.sendTo(full, (EntityPlayerMP) player);
+            } else if (delta != null) {
+                Mekanism.packetHandler.sendTo(delta, (EntityPlayerMP) player);
+            }
+        }
+        syncedPlayers.addAll(players);
+        fields = current;
+    }
+
+    public void reset() {
+        fields = null;
+        syncedPlayers.clear();
+    }
+
+    /**
+     * Applies the fields of a received message.
+     *
+     * @return all fields put back together, or null if the message only has changes and there is nothing to apply them to
+     */
+    @Nullable
+    public ByteBuf apply(TileSyncMessage message) {
+        if (message.changed == null) {
+            fields = message.fields;
+        } else if (fields != null && fields.length == message.fieldCount) {
+            int index = 0;
+            for (int i = message.changed.nextSetBit(0); i >= 0; i = message.changed.nextSetBit(i + 1)) {
+                fields[i] = message.fields[index++];
+            }
+        } else {
+            return null;
+        }
+        return Unpooled.wrappedBuffer(fields);
+    }
+
+    private static byte[][] encode(TileNetworkList data) {
+        byte[][] encoded = new byte[data.size()][];
+        ByteBuf buffer = Unpooled.buffer();
+        try {
+            for (int i = 0; i < encoded.length; i++) {
+                buffer.clear();
+                PacketHandler.encode(new Object[]{data.get(i)}, buffer);
+                encoded[i] = new byte[buffer.readableBytes()];
+                buffer.readBytes(encoded[i]);
+            }
+        } finally {
+            buffer.release();
+        }
+        return encoded;
+    }
+}
@@ -0,0 +1,116 @@
+package mekanism.common.recipe;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import mekanism.common.recipe.inputs.AdvancedMachineInput;
+import mekanism.common.recipe.inputs.DoubleMachineInput;
+import mekanism.common.recipe.inputs.InfusionInput;
+import mekanism.common.recipe.inputs.ItemStackInput;
+import mekanism.common.recipe.inputs.MachineInput;
+import mekanism.common.recipe.inputs.PressurizedInput;
+import mekanism.common.recipe.machines.MachineRecipe;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.oredict.OreDictionary;
+
+/**
+ * Recipes grouped by the item and metadata of their main item input, so that finding the recipes a stack can be used in only has to look at recipes for the same item.
+ * Every item input of a machine recipe is a concrete stack, ore dictionary entries get expanded into one recipe per stack when the recipes are added.
+ */
+public class ItemStackRecipeIndex<RECIPE extends MachineRecipe<?, ?, ?>> {
+
+    private final Map<Item, ItemRecipes<RECIPE>> recipesByItem = new HashMap<>();
+
+    public ItemStackRecipeIndex(Collection<RECIPE> recipes) {
+        for (RECIPE recipe : recipes) {
+            ItemStack stack = getItemInput(recipe.getInput());
+            if (!stack.isEmpty()) {
+                recipesByItem.computeIfAbsent(stack.getItem(), item -> new ItemRecipes<>()).add(stack.getMetadata(), recipe);
+            }
+        }
+    }
+
+    /**
+     * @return the stack of the given input that recipes get indexed by, or an empty stack if the input does not contain an item
+     */
+    public static ItemStack getItemInput(MachineInput<?> input) {
+        if (input instanceof ItemStackInput) {
+            return ((ItemStackInput) input).ingredient;
+        } else if (input instanceof AdvancedMachineInput) {
+            return ((AdvancedMachineInput) input).itemStack;
+        } else if (input instanceof DoubleMachineInput) {
+            return ((DoubleMachineInput) input).itemStack;
+        } else if (input instanceof InfusionInput) {
+            return ((InfusionInput) input).inputStack;
+        } else if (input instanceof PressurizedInput) {
+            return ((PressurizedInput) input).getSolid();
+        }
+        return ItemStack.EMPTY;
+    }
+
+    /**
+     * Checks the recipes whose item input has the same item as the given stack and a matching metadata.
+     *
+     * @param stack     - stack to look up, a wildcard metadata matches recipes of any metadata
+     * @param predicate - extra check for each candidate recipe
+     *
+     * @return whether any of the candidate recipes passed the check
+     */
+    public boolean anyMatch(ItemStack stack, Predicate<RECIPE> predicate) {
+        if (stack.isEmpty()) {
+            return false;
+        }
+        ItemRecipes<RECIPE> recipes = recipesByItem.get(stack.getItem());
+        if (recipes == null) {
+            return false;
+        }
+        if (stack.getMetadata() == OreDictionary.WILDCARD_VALUE) {
+            return anyMatch(recipes.all, predicate);
+        }
+        List<RECIPE> exact = recipes.byMeta.get(stack.getMetadata());
+        return (exact != null && anyMatch(exact, predicate)) || anyMatch(recipes.wildcard, predicate);
+    }
+
+    public boolean contains(ItemStack stack) {
+        return anyMatch(stack, recipe -> true);
+    }
+
+    /**
+     * @return whether there are any recipes for the item of the given stack that accept every metadata
+     */
+    public boolean hasWildcardRecipes(ItemStack stack) {
+        ItemRecipes<RECIPE> recipes = stack.isEmpty() ? null : recipesByItem.get(stack.getItem());
+        return recipes != null && !recipes.wildcard.isEmpty();
+    }
+
+    private static <RECIPE> boolean anyMatch(List<RECIPE> recipes, Predicate<RECIPE> predicate) {
+        for (RECIPE recipe : recipes) {
+            if (predicate.test(recipe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class ItemRecipes<RECIPE> {
+
+        private final Int2ObjectMap<List<RECIPE>> byMeta = new Int2ObjectOpenHashMap<>();
+        private final List<RECIPE> wildcard = new ArrayList<>();
+        private final List<RECIPE> all = new ArrayList<>();
+
+        private void add(int meta, RECIPE recipe) {
+            if (meta == OreDictionary.WILDCARD_VALUE) {
+                wildcard.add(recipe);
+            } else {
+                byMeta.computeIfAbsent(meta, m -> new ArrayList<>()).add(recipe);
+            }
+            all.add(recipe);
+        }
+    }
+}
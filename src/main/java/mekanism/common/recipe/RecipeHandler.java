@@ -53,7 +53,6 @@ import mekanism.common.recipe.outputs.GasOutput;
 import mekanism.common.recipe.outputs.ItemStackOutput;
 import mekanism.common.recipe.outputs.MachineOutput;
 import mekanism.common.recipe.outputs.PressurizedOutput;
-import mekanism.common.util.StackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.NonNullList;
@@ -83,6 +82,7 @@ public final class RecipeHandler {
         for (INPUT iterInput : toRemove) {
             recipeMap.get().remove(iterInput);
         }
+        recipeMap.invalidateIndex();
     }
 
     /**
@@ -380,7 +380,7 @@ public final class RecipeHandler {
     RECIPE getRecipe(@Nonnull INPUT input, @Nonnull Map<INPUT, RECIPE> recipes) {
         if (input.isValid()) {
             RECIPE recipe = recipes.get(input);
-            if (recipe == null && input instanceof IWildInput) {
+            if (recipe == null && input instanceof IWildInput && mayHaveWildcardRecipe(input, recipes)) {
                 //noinspection unchecked
                 IWildInput<INPUT> wildInput = (IWildInput<INPUT>) input;
                 recipe = recipes.get(wildInput.wildCopy());
@@ -438,6 +438,10 @@ public final class RecipeHandler {
      */
     public static <RECIPE extends MachineRecipe<ItemStackInput, ?, RECIPE>> boolean isInRecipe(@Nonnull ItemStack itemstack, @Nonnull Map<ItemStackInput, RECIPE> recipes) {
         if (!itemstack.isEmpty()) {
+            Recipe<ItemStackInput, ?, RECIPE> type = Recipe.fromMap(recipes);
+            if (type != null) {
+                return type.getItemIndex().anyMatch(itemstack, recipe -> MachineInput.inputContains(itemstack, recipe.getInput().ingredient));
+            }
             for (RECIPE recipe : recipes.values()) {
                 ItemStackInput required = recipe.getInput();
                 NonNullList<ItemStack> list = NonNullList.create();
@@ -450,15 +454,17 @@ public final class RecipeHandler {
         return false;
     }
 
+    /**
+     * The wildcard copy of an input can only match recipes whose item input accepts every metadata, so skip building and looking it up when there are none for the item.
+     */
+    private static <INPUT extends MachineInput<INPUT>, RECIPE extends MachineRecipe<INPUT, ?, RECIPE>>
+    boolean mayHaveWildcardRecipe(@Nonnull INPUT input, @Nonnull Map<INPUT, RECIPE> recipes) {
+        Recipe<INPUT, ?, RECIPE> type = Recipe.fromMap(recipes);
+        return type == null || type.getItemIndex().hasWildcardRecipes(ItemStackRecipeIndex.getItemInput(input));
+    }
+
     public static boolean isInPressurizedRecipe(@Nonnull ItemStack stack) {
-        if (!stack.isEmpty()) {
-            for (PressurizedInput key : Recipe.PRESSURIZED_REACTION_CHAMBER.get().keySet()) {
-                if (key.containsType(stack)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return Recipe.PRESSURIZED_REACTION_CHAMBER.getItemIndex().anyMatch(stack, recipe -> recipe.getInput().containsType(stack));
     }
 
     public static class Recipe<INPUT extends MachineInput<INPUT>, OUTPUT extends MachineOutput<OUTPUT>, RECIPE extends MachineRecipe<INPUT, OUTPUT, RECIPE>> {
@@ -531,6 +537,7 @@ public final class RecipeHandler {
         }
 
         private final HashMap<INPUT, RECIPE> recipes = new HashMap<>();
+        private volatile ItemStackRecipeIndex<RECIPE> itemIndex;
         private final String recipeName;
         @Nonnull
         private final String jeiCategory;
@@ -556,10 +563,53 @@ public final class RecipeHandler {
 
         public void put(@Nonnull RECIPE recipe) {
             recipes.put(recipe.getInput(), recipe);
+            invalidateIndex();
         }
 
         public void remove(@Nonnull RECIPE recipe) {
             recipes.remove(recipe.getInput());
+            invalidateIndex();
+        }
+
+        /**
+         * Gets the recipe type that stores its recipes in the given map.
+         *
+         * @return the recipe type, or null if the map does not belong to any
+         */
+        @Nullable
+        public static <INPUT extends MachineInput<INPUT>, RECIPE extends MachineRecipe<INPUT, ?, RECIPE>> Recipe<INPUT, ?, RECIPE> fromMap(Map<INPUT, RECIPE> map) {
+            for (Recipe recipe : values) {
+                if (recipe.recipes == map) {
+                    //noinspection unchecked
+                    return recipe;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Marks the item index of every recipe type as outdated, for when the recipe maps may have been changed directly.
+         */
+        public static void invalidateIndexes() {
+            for (Recipe recipe : values) {
+                recipe.invalidateIndex();
+            }
+        }
+
+        /**
+         * Gets the recipes of this type indexed by their item input. This gets rebuilt the next time it is needed after recipes were added or removed.
+         */
+        @Nonnull
+        public ItemStackRecipeIndex<RECIPE> getItemIndex() {
+            ItemStackRecipeIndex<RECIPE> index = itemIndex;
+            if (index == null) {
+                itemIndex = index = new ItemStackRecipeIndex<>(recipes.values());
+            }
+            return index;
+        }
+
+        public void invalidateIndex() {
+            itemIndex = null;
         }
 
         public String getRecipeName() {
@@ -601,21 +651,14 @@ public final class RecipeHandler {
 
         public boolean containsRecipe(ItemStack input) {
             //TODO: Support other input types
+            if (inputClass == ItemStackInput.class || inputClass == AdvancedMachineInput.class) {
+                return getItemIndex().contains(input);
+            }
             for (Entry<INPUT, RECIPE> entry : recipes.entrySet()) {
-                if (entry.getKey() instanceof ItemStackInput) {
-                    ItemStack stack = ((ItemStackInput) entry.getKey()).ingredient;
-                    if (StackUtils.equalsWildcard(stack, input)) {
-                        return true;
-                    }
-                } else if (entry.getKey() instanceof FluidInput) {
+                if (entry.getKey() instanceof FluidInput) {
                     if (((FluidInput) entry.getKey()).ingredient.isFluidEqual(input)) {
                         return true;
                     }
-                } else if (entry.getKey() instanceof AdvancedMachineInput) {
-                    ItemStack stack = ((AdvancedMachineInput) entry.getKey()).itemStack;
-                    if (StackUtils.equalsWildcard(stack, input)) {
-                        return true;
-                    }
                 }
             }
             return false;
@@ -21,7 +21,7 @@ public class OredictMekIngredient implements IMekanismIngredient<ItemStack> {
 
     @Override
     public boolean contains(@Nonnull ItemStack stack) {
-        return OreDictCache.getOreDictName(stack).contains(oreDict);
+        return OreDictCache.hasOreName(stack, oreDict);
     }
 
     @Override
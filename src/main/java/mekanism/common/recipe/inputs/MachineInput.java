@@ -49,7 +49,7 @@ public abstract class MachineInput<INPUT extends MachineInput<INPUT>> {
     }
 
     private static boolean inputItemMatchesDefault(ItemStack container, ItemStack contained) {
-        if (OreDictCache.getOreDictName(container).contains("treeSapling")) {
+        if (OreDictCache.hasOreName(container, "treeSapling")) {
             return StackUtils.equalsWildcard(container, contained);
         }
         return StackUtils.equalsWildcardWithNBT(container, contained);
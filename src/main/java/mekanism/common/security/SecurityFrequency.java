@@ -23,7 +23,7 @@ public class SecurityFrequency extends Frequency {
     public SecurityMode securityMode;
 
     public SecurityFrequency(UUID uuid) {
-        super("Security", uuid);
+        super(SECURITY, uuid);
         trusted = new HashList<>();
         securityMode = SecurityMode.PUBLIC;
     }
@@ -1,6 +1,8 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +31,7 @@ import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.filter.FilterIndex;
 import mekanism.common.content.miner.MItemStackFilter;
 import mekanism.common.content.miner.MOreDictFilter;
 import mekanism.common.content.miner.MinerFilter;
@@ -89,7 +92,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
     private static final int[] INV_SLOTS = IntStream.range(0, 28).toArray();
 
     public Map<Chunk3D, BitSet> oresToMine = new HashMap<>();
-    public Map<Integer, MinerFilter> replaceMap = new HashMap<>();
+    public Int2ObjectMap<MinerFilter> replaceMap = new Int2ObjectOpenHashMap<>();
     public HashList<MinerFilter> filters = new HashList<>();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
     public final double BASE_ENERGY_USAGE = MachineType.DIGITAL_MINER.getUsage();
@@ -114,6 +117,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
     public int delayLength = BASE_DELAY;
 
     public int clientToMine;
+    public int clientSearchProgress;
 
     public boolean isActive;
     public boolean clientActive;
@@ -122,6 +126,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
     public boolean running;
 
+    private FilterIndex<MinerFilter> filterIndex;
+    private int filterIndexVersion;
+
     public double prevEnergy;
 
     public int delayTicks;
@@ -219,14 +226,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
                                 continue;
                             }
 
-                            boolean hasFilter = false;
-                            ItemStack is = new ItemStack(block, 1, meta);
-                            for (MinerFilter filter : filters) {
-                                if (filter.canFilter(is)) {
-                                    hasFilter = true;
-                                    break;
-                                }
-                            }
+                            boolean hasFilter = getFilterIndex().getFirst(new ItemStack(block, 1, meta)) != null;
 
                             if (inverse == hasFilter || !canMine(coord)) {
                                 set.clear(index);
@@ -278,12 +278,6 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
             } else if (delayTicks > 0) {
                 delayTicks--;
             }
-
-            if (playersUsing.size() > 0) {
-                for (EntityPlayer player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new TileEntityMessage(this, getSmallPacket(new TileNetworkList())), (EntityPlayerMP) player);
-                }
-            }
             prevEnergy = getEnergy();
         }
     }
@@ -488,7 +482,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
+            searcher.cancel();
             reset();
             return;
         } else if (searcher.state == State.FINISHED) {
@@ -497,7 +491,20 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
         MekanismUtils.saveChunk(this);
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        searcher.cancel();
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        searcher.cancel();
+    }
+
     public void reset() {
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         oresToMine.clear();
@@ -507,6 +514,17 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
         MekanismUtils.saveChunk(this);
     }
 
+    /**
+     * @return the filters compiled for looking up which of them accept a block, built again whenever the filters changed
+     */
+    public FilterIndex<MinerFilter> getFilterIndex() {
+        if (filterIndex == null || filterIndexVersion != filters.getVersion()) {
+            filterIndex = new FilterIndex<>(filters, MinerFilter::canFilter);
+            filterIndexVersion = filters.getVersion();
+        }
+        return filterIndex;
+    }
+
     public boolean isReplaceStack(ItemStack stack) {
         for (MinerFilter filter : filters) {
             if (!filter.replaceStack.isEmpty() && filter.replaceStack.isItemEqual(stack)) {
@@ -572,6 +590,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
         numPowering = dataStream.readInt();
         searcher.state = State.values()[dataStream.readInt()];
         clientToMine = dataStream.readInt();
+        clientSearchProgress = dataStream.readInt();
         controlType = RedstoneControl.values()[dataStream.readInt()];
         inverse = dataStream.readBoolean();
         if (dataStream.readBoolean()) {
@@ -665,7 +684,9 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
             } else if (type == 3) {
                 clientActive = dataStream.readBoolean();
                 running = dataStream.readBoolean();
+                searcher.state = State.values()[dataStream.readInt()];
                 clientToMine = dataStream.readInt();
+                clientSearchProgress = dataStream.readInt();
                 if (dataStream.readBoolean()) {
                     missingStack = new ItemStack(Item.getItemById(dataStream.readInt()), 1, dataStream.readInt());
                 } else {
@@ -692,10 +713,11 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
         data.add(searcher.state.ordinal());
 
         if (searcher.state == State.SEARCHING) {
-            data.add(searcher.found);
+            data.add(searcher.getFound());
         } else {
             data.add(getSize());
         }
+        data.add(searcher.getProgress());
 
         data.add(controlType.ordinal());
         data.add(inverse);
@@ -720,6 +742,12 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
         return data;
     }
 
+    @Override
+    public TileNetworkList getSyncData(TileNetworkList data) {
+        //The settings and filters get sent separately whenever they change
+        return getSmallPacket(data);
+    }
+
     public TileNetworkList getSmallPacket(TileNetworkList data) {
         super.getNetworkedData(data);
 
@@ -727,12 +755,14 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
 
         data.add(isActive);
         data.add(running);
+        data.add(searcher.state.ordinal());
 
         if (searcher.state == State.SEARCHING) {
-            data.add(searcher.found);
+            data.add(searcher.getFound());
         } else {
             data.add(getSize());
         }
+        data.add(searcher.getProgress());
         if (!missingStack.isEmpty()) {
             data.add(true);
             data.add(MekanismUtils.getID(missingStack));
@@ -1009,7 +1039,7 @@ public class TileEntityDigitalMiner extends TileEntityElectricBlock implements I
             stop();
             return new Object[]{"Stopped miner."};
         } else if (method == 10) {
-            return new Object[]{searcher != null ? searcher.found : 0};
+            return new Object[]{searcher != null ? searcher.getFound() : 0};
         }
         for (EntityPlayer player : playersUsing) {
             Mekanism.packetHandler.sendTo(new TileEntityMessage(this, getGenericPacket(new TileNetworkList())), (EntityPlayerMP) player);
@@ -1,17 +1,14 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
-import java.util.Arrays;
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
 import mekanism.api.IConfigurable;
+import mekanism.api.PackedPos;
 import mekanism.api.TileNetworkList;
+import mekanism.common.BlockFrontier;
 import mekanism.common.Mekanism;
 import mekanism.common.MekanismFluids;
 import mekanism.common.Upgrade;
@@ -45,6 +42,8 @@ import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -90,9 +89,13 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
      */
     public int operatingTicks;
     /**
-     * The nodes that have full sources near them or in them
+     * The fluid sources found so far that still have to be pumped or searched around
      */
-    public Set<Coord4D> recurringNodes = new HashSet<>();
+    private final BlockFrontier frontier = new BlockFrontier();
+    /**
+     * Reused for looking at the blocks of the frontier without creating a position for each of them.
+     */
+    private final MutableBlockPos checkPos = new MutableBlockPos();
     /**
      * This machine's current RedstoneControl type.
      */
@@ -124,17 +127,23 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
                 if ((operatingTicks + 1) < ticksRequired) {
                     operatingTicks++;
                 } else {
+                    boolean operated = true;
                     if (fluidTank.getFluid() == null || fluidTank.getFluid().amount + Fluid.BUCKET_VOLUME <= fluidTank.getCapacity()) {
-                        if (!suck(true)) {
+                        if (suck()) {
+                            suckedLastOperation = true;
+                        } else if (!frontier.isEmpty()) {
+                            //Ran out of positions to check this tick, keep searching next tick
+                            operated = false;
+                        } else {
                             suckedLastOperation = false;
                             reset();
-                        } else {
-                            suckedLastOperation = true;
                         }
                     } else {
                         suckedLastOperation = false;
                     }
-                    operatingTicks = 0;
+                    if (operated) {
+                        operatingTicks = 0;
+                    }
                 }
             } else {
                 suckedLastOperation = false;
@@ -164,71 +173,83 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
         return upgradeComponent.getInstalledTypes().contains(Upgrade.FILTER);
     }
 
-    public boolean suck(boolean take) {
-        List<Coord4D> tempPumpList = Arrays.asList(recurringNodes.toArray(new Coord4D[0]));
-        Collections.shuffle(tempPumpList);
-
-        //First see if there are any fluid blocks touching the pump - if so, sucks and adds the location to the recurring list
+    public boolean suck() {
+        long pumpPos = PackedPos.pack(getPos());
+        //First see if there are any fluid blocks touching the pump - if so, sucks and adds the location to the frontier
         for (EnumFacing orientation : EnumFacing.VALUES) {
-            Coord4D wrapper = Coord4D.get(this).offset(orientation);
-            FluidStack fluid = MekanismUtils.getFluid(world, wrapper, hasFilter());
-            if (fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid))) {
-                if (take) {
-                    activeType = fluid.getFluid();
-                    recurringNodes.add(wrapper);
-                    fluidTank.fill(fluid, true);
-                    if (shouldTake(fluid, wrapper)) {
-                        world.setBlockToAir(wrapper.getPos());
-                    }
-                }
+            long side = PackedPos.offset(pumpPos, orientation);
+            FluidStack fluid = getPumpableFluid(side);
+            if (fluid != null) {
+                frontier.offer(side);
+                take(fluid, side);
                 return true;
             }
         }
 
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (Coord4D wrapper : tempPumpList) {
-            FluidStack fluid = MekanismUtils.getFluid(world, wrapper, hasFilter());
-            if (fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid))) {
-                if (take) {
-                    activeType = fluid.getFluid();
-                    fluidTank.fill(fluid, true);
-                    if (shouldTake(fluid, wrapper)) {
-                        world.setBlockToAir(wrapper.getPos());
-                    }
-                }
-                return true;
+        //Then continue outwards from the sources found so far, every position only gets queued once until the pump is reset
+        int range = MekanismConfig.current().general.maxPumpRange.val();
+        for (int budget = MekanismConfig.current().general.pumpNodesPerTick.val(); budget > 0 && !frontier.isEmpty(); budget--) {
+            long node = frontier.poll();
+            if (!isLoaded(node)) {
+                continue;
             }
-
-            //Add all the blocks surrounding this recurring node to the recurring node list
             for (EnumFacing orientation : EnumFacing.VALUES) {
-                Coord4D side = wrapper.offset(orientation);
-                if (Coord4D.get(this).distanceTo(side) <= MekanismConfig.current().general.maxPumpRange.val()) {
-                    fluid = MekanismUtils.getFluid(world, side, hasFilter());
-                    if (fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid))) {
-                        if (take) {
-                            activeType = fluid.getFluid();
-                            recurringNodes.add(side);
-                            fluidTank.fill(fluid, true);
-                            if (shouldTake(fluid, side)) {
-                                world.setBlockToAir(side.getPos());
-                            }
-                        }
-                        return true;
-                    }
+                long side = PackedPos.offset(node, orientation);
+                if (!frontier.isVisited(side) && distanceTo(side) <= range && isLoaded(side) && getPumpableFluid(side) != null) {
+                    frontier.offer(side);
                 }
             }
-            recurringNodes.remove(wrapper);
+            FluidStack fluid = getPumpableFluid(node);
+            if (fluid != null) {
+                if (!take(fluid, node)) {
+                    //The source stays, so it can be pumped again later
+                    frontier.requeue(node);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isLoaded(long node) {
+        return world.isBlockLoaded(checkPos.setPos(PackedPos.getX(node), PackedPos.getY(node), PackedPos.getZ(node)));
+    }
+
+    private int distanceTo(long node) {
+        int subX = PackedPos.getX(node) - pos.getX();
+        int subY = PackedPos.getY(node) - pos.getY();
+        int subZ = PackedPos.getZ(node) - pos.getZ();
+        return (int) MathHelper.sqrt(subX * subX + subY * subY + subZ * subZ);
+    }
+
+    @Nullable
+    private FluidStack getPumpableFluid(long node) {
+        FluidStack fluid = MekanismUtils.getFluid(world, checkPos.setPos(PackedPos.getX(node), PackedPos.getY(node), PackedPos.getZ(node)), hasFilter());
+        if (fluid != null && (activeType == null || fluid.getFluid() == activeType) && (fluidTank.getFluid() == null || fluidTank.getFluid().isFluidEqual(fluid))) {
+            return fluid;
+        }
+        return null;
+    }
+
+    /**
+     * @return whether the source block got removed
+     */
+    private boolean take(FluidStack fluid, long node) {
+        activeType = fluid.getFluid();
+        fluidTank.fill(fluid, true);
+        if (shouldTake(fluid)) {
+            world.setBlockToAir(PackedPos.toBlockPos(node));
+            return true;
         }
         return false;
     }
 
     public void reset() {
         activeType = null;
-        recurringNodes.clear();
+        frontier.clear();
     }
 
-    private boolean shouldTake(FluidStack fluid, Coord4D coord) {
+    private boolean shouldTake(FluidStack fluid) {
         if (fluid.getFluid() == FluidRegistry.WATER || fluid.getFluid() == MekanismFluids.HeavyWater) {
             return MekanismConfig.current().general.pumpWaterSources.val();
         }
@@ -269,15 +290,7 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
 
         nbtTags.setInteger("controlType", controlType.ordinal());
 
-        NBTTagList recurringList = new NBTTagList();
-        for (Coord4D wrapper : recurringNodes) {
-            NBTTagCompound tagCompound = new NBTTagCompound();
-            wrapper.write(tagCompound);
-            recurringList.appendTag(tagCompound);
-        }
-        if (recurringList.tagCount() != 0) {
-            nbtTags.setTag("recurringNodes", recurringList);
-        }
+        frontier.write(nbtTags, "frontier", false);
         return nbtTags;
     }
 
@@ -295,10 +308,12 @@ public class TileEntityElectricPump extends TileEntityElectricBlock implements I
         if (nbtTags.hasKey("controlType")) {
             controlType = RedstoneControl.values()[nbtTags.getInteger("controlType")];
         }
+        frontier.read(nbtTags, "frontier");
         if (nbtTags.hasKey("recurringNodes")) {
+            //Nodes saved before the pump used a frontier
             NBTTagList tagList = nbtTags.getTagList("recurringNodes", NBT.TAG_COMPOUND);
             for (int i = 0; i < tagList.tagCount(); i++) {
-                recurringNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
+                frontier.offer(PackedPos.pack(Coord4D.read(tagList.getCompoundTagAt(i))));
             }
         }
     }
@@ -7,6 +7,7 @@ import mekanism.api.TileNetworkList;
 import mekanism.api.gas.*;
 import mekanism.api.infuse.InfuseObject;
 import mekanism.api.infuse.InfuseRegistry;
+import mekanism.api.infuse.InfuseType;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.*;
 import mekanism.common.base.IComparatorSupport;
@@ -43,7 +44,6 @@ import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.fml.common.FMLCommonHandler;
-import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -64,6 +64,17 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
     public final InfuseStorage infuseStored = new InfuseStorage();
     public final GasTank gasTank;
     private final MachineRecipe[] cachedRecipe;
+    /**
+     * The input stack each cached recipe was looked up for, the cached recipe of a process stays valid until the item in its input slot changes.
+     */
+    private final ItemStack[] cachedRecipeInput;
+    /**
+     * The secondary inputs the cached recipes were looked up with, if any of these change all cached recipes are looked up again.
+     */
+    private Gas cachedRecipeGas;
+    private InfuseType cachedRecipeInfuse;
+    @Nonnull
+    private ItemStack cachedRecipeExtra = ItemStack.EMPTY;
     /**
      * This Factory's tier.
      */
@@ -83,6 +94,10 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
      */
     public int ticksRequired = 200;
     public boolean sorting;
+    /**
+     * Whether the inventory changed since it was last sorted.
+     */
+    private boolean sortNeeded = true;
     public boolean upgraded;
     public double lastUsage;
     public TileComponentEjector ejectorComponent;
@@ -132,6 +147,7 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
         progress = new int[type.processes];
         isActive = false;
         cachedRecipe = new MachineRecipe[tier.processes];
+        cachedRecipeInput = new ItemStack[tier.processes];
         gasTank = new GasTank(TileEntityAdvancedElectricMachine.MAX_GAS * tier.processes);
         maxInfuse = BASE_MAX_INFUSE * tier.processes;
         setRecipeType(recipeType);
@@ -209,7 +225,10 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
             ChargeUtils.discharge(1, this);
 
             handleSecondaryFuel();
-            sortInventory();
+            if (sortNeeded) {
+                sortNeeded = false;
+                sortInventory();
+            }
             ItemStack machineSwapItem = inventory.get(2);
             if (!machineSwapItem.isEmpty() && machineSwapItem.getItem() instanceof ItemBlockMachine && inventory.get(3).isEmpty()) {
 
@@ -250,38 +269,37 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
             double prev = getEnergy();
             secondaryEnergyThisTick = recipeType.fuelEnergyUpgrades() ? StatUtils.inversePoisson(secondaryEnergyPerTick) : (int) Math.ceil(secondaryEnergyPerTick);
 
+            boolean canFunction = MekanismUtils.canFunction(this);
+            boolean hasOperation = false;
             for (int process = 0; process < tier.processes; process++) {
-                if (MekanismUtils.canFunction(this) && canOperate(getInputSlot(process), getOutputSlot(process))
-                        && getEnergy() >= energyPerTick && gasTank.getStored() >= secondaryEnergyThisTick) {
+                int inputSlot = getInputSlot(process);
+                int outputSlot = getOutputSlot(process);
+                boolean canOperate = canOperate(inputSlot, outputSlot);
+                if (canFunction && canOperate && getEnergy() >= energyPerTick && gasTank.getStored() >= secondaryEnergyThisTick) {
                     if ((progress[process] + 1) < ticksRequired) {
                         progress[process]++;
                         gasTank.draw(secondaryEnergyThisTick, true);
                         electricityStored -= energyPerTick;
                     } else if ((progress[process] + 1) >= ticksRequired) {
-                        operate(getInputSlot(process), getOutputSlot(process));
+                        operate(inputSlot, outputSlot);
                         progress[process] = 0;
                         gasTank.draw(secondaryEnergyThisTick, true);
                         electricityStored -= energyPerTick;
+                        //Operating changed the slots, so check them again
+                        canOperate = canOperate(inputSlot, outputSlot);
                     }
                 }
 
-                if (!canOperate(getInputSlot(process), getOutputSlot(process))) {
-                    if (!(recipeType.getFuelType() == MachineFuelType.ADVANCED && recipeType.hasRecipe(inventory.get(getInputSlot(process))))) {
+                if (!canOperate) {
+                    if (!(recipeType.getFuelType() == MachineFuelType.ADVANCED && recipeType.hasRecipe(inventory.get(inputSlot)))) {
                         progress[process] = 0;
                     }
-                }
-            }
-
-            boolean hasOperation = false;
-
-            for (int i = 0; i < tier.processes; i++) {
-                if (canOperate(getInputSlot(i), getOutputSlot(i))) {
+                } else {
                     hasOperation = true;
-                    break;
                 }
             }
 
-            if (MekanismUtils.canFunction(this) && hasOperation && getEnergy() >= energyPerTick && gasTank.getStored() >= secondaryEnergyThisTick) {
+            if (canFunction && hasOperation && getEnergy() >= energyPerTick && gasTank.getStored() >= secondaryEnergyThisTick) {
                 setActive(true);
             } else if (prevEnergy >= getEnergy()) {
                 setActive(false);
@@ -302,6 +320,8 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
         BASE_ENERGY_PER_TICK = energyPerTick = recipeType.getEnergyUsage();
         upgradeComponent.setSupported(Upgrade.GAS, recipeType.fuelEnergyUpgrades());
         secondaryEnergyPerTick = getSecondaryEnergyPerTick(recipeType);
+        Arrays.fill(cachedRecipeInput, null);
+        sortNeeded = true;
 
         if (type.getFuelType() == MachineFuelType.CHANCE) {
             SideData data = configComponent.getOutputs(TransmissionType.ITEM).get(2);
@@ -325,37 +345,18 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
 
     public void sortInventory() {
         if (sorting) {
-            int[] inputSlots;
-            if (tier == FactoryTier.BASIC) {
-                inputSlots = new int[]{5, 6, 7};
-            } else if (tier == FactoryTier.ADVANCED) {
-                inputSlots = new int[]{5, 6, 7, 8, 9};
-            } else if (tier == FactoryTier.ELITE) {
-                inputSlots = new int[]{5, 6, 7, 8, 9, 10, 11};
-            } else {
-                //If something went wrong finding the tier don't sort it
-                return;
-            }
-            Map<String, ProcessDescription> recipeSlots = new HashMap<>();
+            Map<MachineRecipe, ProcessDescription> recipeSlots = new LinkedHashMap<>();
             List<Integer> freeSlots = new ArrayList<>();
             List<Integer> outputBlockedSlots = new ArrayList<>();
-            for (int slotID : inputSlots) {
+            for (int process = 0; process < tier.processes; process++) {
+                int slotID = getInputSlot(process);
                 ItemStack inStack = inventory.get(slotID);
-                ItemStack outStack = inventory.get(slotID + tier.processes);
+                ItemStack outStack = inventory.get(getOutputSlot(process));
                 MachineRecipe slotRecipe = getSlotRecipe(slotID, inStack);
                 if (slotRecipe != null) {
-                    ItemStack recipeIn = getRecipeInput(slotRecipe);
-                    ItemStack recipeOut = getRecipeOutput(slotRecipe);
-
                     // We don't care about extras here since there's no possibility to have
                     //  recipes with different extras in one factory at the same time
-                    String id = new ImmutablePair<>(recipeIn, recipeOut).toString();
-
-                    if (!recipeSlots.containsKey(id)) {
-                        recipeSlots.put(id, new ProcessDescription(recipeIn, recipeOut));
-                    }
-
-                    recipeSlots.get(id).occupySlot(slotID);
+                    recipeSlots.computeIfAbsent(slotRecipe, recipe -> new ProcessDescription(getRecipeInput(recipe), getRecipeOutput(recipe))).occupySlot(slotID);
                 } else {
                     if (outStack.getCount() <= 0 || outStack.isEmpty()) {
                         freeSlots.add(slotID);
@@ -370,7 +371,7 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
             int freePerSlot = freeSlots.size() / recipeSlots.size();
             int excess = freeSlots.size() - (freePerSlot * recipeSlots.size());
 
-            for (Map.Entry<String, ProcessDescription> line : recipeSlots.entrySet()) {
+            for (Map.Entry<MachineRecipe, ProcessDescription> line : recipeSlots.entrySet()) {
                 int takeSlots = freePerSlot;
 
                 if (excess > 0) {
@@ -400,7 +401,7 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
 
             }
 
-            for (Map.Entry<String, ProcessDescription> line : recipeSlots.entrySet()) {
+            for (Map.Entry<MachineRecipe, ProcessDescription> line : recipeSlots.entrySet()) {
                 int total = line.getValue().getOccupiedSlots().stream()
                         .map(v -> inventory.get(v).getCount())
                         .reduce(0, Integer::sum);
@@ -427,7 +428,11 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
                         actualCount = total;
                     }
 
-                    inventory.set(slot, StackUtils.size(line.getValue().getInput(), actualCount));
+                    ItemStack sorted = StackUtils.size(line.getValue().getInput(), actualCount);
+                    //Only touch the slots whose contents actually change
+                    if (!ItemStack.areItemStacksEqual(inventory.get(slot), sorted)) {
+                        inventory.set(slot, sorted);
+                    }
 
                     total -= actualCount;
                 }
@@ -525,6 +530,7 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
             cached = recipeType.getAnyRecipe(fallbackInput, extra, gasTank.getGasType(), infuseStored);
             if (updateCache) {
                 cachedRecipe[process] = cached;
+                cachedRecipeInput[process] = null;
             }
         } else {
             ItemStack recipeInput = ItemStack.EMPTY;
@@ -557,6 +563,7 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
                 cached = recipeType.getAnyRecipe(fallbackInput, extra, gasTank.getGasType(), infuseStored);
                 if (updateCache) {
                     cachedRecipe[process] = cached;
+                    cachedRecipeInput[process] = null;
                 }
             }
         }
@@ -706,56 +713,52 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
     }
 
     public boolean canOperate(int inputSlot, int outputSlot) {
-        if (inventory.get(inputSlot).isEmpty()) {
+        ItemStack input = inventory.get(inputSlot);
+        if (input.isEmpty()) {
             return false;
         }
 
         int process = getOperation(inputSlot);
+        MachineRecipe cached = getCachedRecipe(process, input);
+        if (cached == null) {
+            return false;
+        }
 
         if (recipeType.getFuelType() == MachineFuelType.ADVANCED) {
-            if (cachedRecipe[process] instanceof AdvancedMachineRecipe &&
-                    ((AdvancedMachineRecipe) cachedRecipe[process]).inputMatches(inventory, inputSlot, gasTank, secondaryEnergyThisTick)) {
-                return ((AdvancedMachineRecipe) cachedRecipe[process]).canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
-            }
-            AdvancedMachineRecipe<?> recipe = recipeType.getRecipe(inventory.get(inputSlot), gasTank.getGasType());
-            cachedRecipe[process] = recipe;
-            return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
+            return cached instanceof AdvancedMachineRecipe && ((AdvancedMachineRecipe) cached).canOperate(inventory, inputSlot, outputSlot, gasTank, secondaryEnergyThisTick);
         } else if (recipeType.getFuelType() == MachineFuelType.DOUBLE) {
-            if (cachedRecipe[process] instanceof DoubleMachineRecipe && ((DoubleMachineRecipe) cachedRecipe[process]).inputMatches(inventory, inputSlot, 4)) {
-                return ((DoubleMachineRecipe) cachedRecipe[process]).canOperate(inventory, inputSlot, 4, outputSlot);
-            }
-            DoubleMachineRecipe<?> recipe = recipeType.getRecipe(inventory.get(inputSlot), inventory.get(4));
-            cachedRecipe[process] = recipe;
-            return recipe != null && recipe.canOperate(inventory, inputSlot, 4, outputSlot);
+            return cached instanceof DoubleMachineRecipe && ((DoubleMachineRecipe) cached).canOperate(inventory, inputSlot, 4, outputSlot);
         } else if (recipeType.getFuelType() == MachineFuelType.CHANCE) {
-            if (cachedRecipe[process] instanceof ChanceMachineRecipe && ((ChanceMachineRecipe) cachedRecipe[process]).inputMatches(inventory, inputSlot)) {
-                return ((ChanceMachineRecipe) cachedRecipe[process]).canOperate(inventory, inputSlot, outputSlot, 4);
-            }
-            ChanceMachineRecipe<?> recipe = recipeType.getChanceRecipe(inventory.get(inputSlot));
-            cachedRecipe[process] = recipe;
-            return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot, 4);
+            return cached instanceof ChanceMachineRecipe && ((ChanceMachineRecipe) cached).canOperate(inventory, inputSlot, outputSlot, 4);
+        } else if (recipeType == RecipeType.INFUSING) {
+            return cached instanceof MetallurgicInfuserRecipe && ((MetallurgicInfuserRecipe) cached).canOperate(inventory, inputSlot, outputSlot, infuseStored);
         }
+        return cached instanceof BasicMachineRecipe && ((BasicMachineRecipe) cached).canOperate(inventory, inputSlot, outputSlot);
+    }
 
-        if (recipeType == RecipeType.INFUSING) {
-            if (cachedRecipe[process] instanceof MetallurgicInfuserRecipe && ((MetallurgicInfuserRecipe) cachedRecipe[process]).inputMatches(inventory, inputSlot, infuseStored)) {
-                return ((MetallurgicInfuserRecipe) cachedRecipe[process]).canOperate(inventory, inputSlot, outputSlot, infuseStored);
-            }
-            InfusionInput input = new InfusionInput(infuseStored, inventory.get(inputSlot));
-            MetallurgicInfuserRecipe recipe = RecipeHandler.getMetallurgicInfuserRecipe(input);
-            cachedRecipe[process] = recipe;
-            if (recipe == null) {
-                return false;
-            }
-            return recipe.canOperate(inventory, inputSlot, outputSlot, infuseStored);
+    /**
+     * Gets the recipe of a process, only looking it up again if the item in its input slot or the secondary input changed since it was cached.
+     */
+    @Nullable
+    private MachineRecipe getCachedRecipe(int process, ItemStack input) {
+        ItemStack extra = inventory.get(4);
+        if (gasTank.getGasType() != cachedRecipeGas || infuseStored.getType() != cachedRecipeInfuse
+            || (extra.isEmpty() ? !cachedRecipeExtra.isEmpty() : !ItemStack.areItemsEqual(extra, cachedRecipeExtra))) {
+            cachedRecipeGas = gasTank.getGasType();
+            cachedRecipeInfuse = infuseStored.getType();
+            cachedRecipeExtra = extra.copy();
+            Arrays.fill(cachedRecipeInput, null);
         }
-
-        if (cachedRecipe[process] instanceof BasicMachineRecipe && ((BasicMachineRecipe) cachedRecipe[process]).inputMatches(inventory, inputSlot)) {
-            return ((BasicMachineRecipe) cachedRecipe[process]).canOperate(inventory, inputSlot, outputSlot);
+        ItemStack cachedInput = cachedRecipeInput[process];
+        if (cachedInput == null || !ItemStack.areItemsEqual(cachedInput, input) || !ItemStack.areItemStackTagsEqual(cachedInput, input)) {
+            if (recipeType == RecipeType.INFUSING) {
+                cachedRecipe[process] = infuseStored.getType() == null ? null : RecipeHandler.getMetallurgicInfuserRecipe(new InfusionInput(infuseStored, input));
+            } else {
+                cachedRecipe[process] = recipeType.getAnyRecipe(input, extra, gasTank.getGasType(), infuseStored);
+            }
+            cachedRecipeInput[process] = input.copy();
         }
-        BasicMachineRecipe<?> recipe = recipeType.getRecipe(inventory.get(inputSlot));
-        cachedRecipe[process] = recipe;
-        return recipe != null && recipe.canOperate(inventory, inputSlot, outputSlot);
-
+        return cachedRecipe[process];
     }
 
     public void operate(int inputSlot, int outputSlot) {
@@ -788,12 +791,34 @@ public class TileEntityFactory extends TileEntityMachine implements IComputerInt
         markDirty();
     }
 
+    @Override
+    public void markDirty() {
+        super.markDirty();
+        //Containers and item handlers mark the tile dirty after changing the inventory
+        sortNeeded = true;
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack decrStackSize(int slotID, int amount) {
+        sortNeeded = true;
+        return super.decrStackSize(slotID, amount);
+    }
+
+    @Nonnull
+    @Override
+    public ItemStack removeStackFromSlot(int slotID) {
+        sortNeeded = true;
+        return super.removeStackFromSlot(slotID);
+    }
+
     @Override
     public void handlePacketData(ByteBuf dataStream) {
         if (FMLCommonHandler.instance().getEffectiveSide().isServer()) {
             int type = dataStream.readInt();
             if (type == 0) {
                 sorting = !sorting;
+                sortNeeded = true;
             } else if (type == 1) {
                 gasTank.setGas(null);
                 infuseStored.setEmpty();
@@ -2,14 +2,13 @@ package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
 import mekanism.api.EnumColor;
 import mekanism.api.IConfigurable;
+import mekanism.api.PackedPos;
 import mekanism.api.TileNetworkList;
+import mekanism.common.BlockFrontier;
 import mekanism.common.Mekanism;
 import mekanism.common.Upgrade;
 import mekanism.common.base.FluidHandlerWrapper;
@@ -40,6 +39,8 @@ import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.EnumActionResult;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.util.NonNullList;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockPos.MutableBlockPos;
 import net.minecraft.util.text.TextComponentString;
 import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
@@ -56,8 +57,14 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 
     private static final String[] methods = new String[]{"reset"};
     private static EnumSet<EnumFacing> dirs = EnumSet.complementOf(EnumSet.of(EnumFacing.UP));
-    public Set<Coord4D> activeNodes = new LinkedHashSet<>();
-    public Set<Coord4D> usedNodes = new HashSet<>();
+    /**
+     * The positions still to be filled, every position that was taken from it has been used
+     */
+    private final BlockFrontier frontier = new BlockFrontier();
+    /**
+     * Reused for looking at the blocks of the frontier without creating a position for each of them.
+     */
+    private final MutableBlockPos checkPos = new MutableBlockPos();
     public boolean finishedCalc = false;
     public FluidTank fluidTank = new FluidTank(10000);
     /**
@@ -131,60 +138,74 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
     }
 
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.current().general.maxPlenisherNodes.val()) {
+        if (frontier.getVisitedCount() - frontier.size() >= MekanismConfig.current().general.maxPlenisherNodes.val()) {
             finishedCalc = true;
             return;
         }
-        if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
-                Coord4D below = Coord4D.get(this).offset(EnumFacing.DOWN);
+        if (frontier.isEmpty()) {
+            if (frontier.getVisitedCount() == 0) {
+                long below = PackedPos.offset(PackedPos.pack(getPos()), EnumFacing.DOWN);
                 if (!canReplace(below, true, true)) {
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(below);
+                frontier.offer(below);
             } else {
                 finishedCalc = true;
                 return;
             }
         }
 
-        Set<Coord4D> toRemove = new HashSet<>();
-        for (Coord4D coord : activeNodes) {
-            if (coord.exists(world)) {
+        for (int budget = MekanismConfig.current().general.pumpNodesPerTick.val(); budget > 0 && !frontier.isEmpty(); budget--) {
+            long node = frontier.poll();
+            //Positions in unloaded chunks get skipped
+            if (isLoaded(node)) {
                 FluidStack fluid = fluidTank.getFluid();
-                if (canReplace(coord, true, false) && fluid != null) {
-                    world.setBlockState(coord.getPos(), MekanismUtils.getFlowingBlock(fluid.getFluid()).getDefaultState(), 3);
+                if (canReplace(node, false, false) && fluid != null) {
+                    world.setBlockState(PackedPos.toBlockPos(node), MekanismUtils.getFlowingBlock(fluid.getFluid()).getDefaultState(), 3);
                     fluidTank.drain(Fluid.BUCKET_VOLUME, true);
                 }
 
                 for (EnumFacing dir : dirs) {
-                    Coord4D sideCoord = coord.offset(dir);
-                    if (sideCoord.exists(world) && canReplace(sideCoord, true, true)) {
-                        activeNodes.add(sideCoord);
+                    long side = PackedPos.offset(node, dir);
+                    if (isLoaded(side) && canReplace(side, true, true)) {
+                        frontier.offer(side);
                     }
                 }
-                toRemove.add(coord);
-                break;
-            } else {
-                toRemove.add(coord);
+                return;
             }
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
+    }
+
+    public void reset() {
+        frontier.clear();
+        finishedCalc = false;
+    }
+
+    private boolean isLoaded(long node) {
+        return world.isBlockLoaded(setCheckPos(node));
+    }
+
+    private MutableBlockPos setCheckPos(long node) {
+        return checkPos.setPos(PackedPos.getX(node), PackedPos.getY(node), PackedPos.getZ(node));
     }
 
     public boolean canReplace(Coord4D coord, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(coord)) {
+        return canReplace(PackedPos.pack(coord), checkNodes, isPathfinding);
+    }
+
+    public boolean canReplace(long node, boolean checkNodes, boolean isPathfinding) {
+        if (checkNodes && frontier.isVisited(node)) {
             return false;
         }
-        if (coord.isAirBlock(world) || MekanismUtils.isDeadFluid(world, coord)) {
+        BlockPos checked = setCheckPos(node);
+        if (world.isAirBlock(checked) || MekanismUtils.isDeadFluid(world, checked)) {
             return true;
         }
-        if (MekanismUtils.isFluid(world, coord)) {
+        if (MekanismUtils.isFluid(world, checked)) {
             return isPathfinding;
         }
-        return coord.getBlock(world).isReplaceable(world, coord.getPos());
+        return world.getBlockState(checked).getBlock().isReplaceable(world, checked);
     }
 
     @Override
@@ -218,23 +239,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
             nbtTags.setTag("fluidTank", fluidTank.writeToNBT(new NBTTagCompound()));
         }
 
-        NBTTagList activeList = new NBTTagList();
-        for (Coord4D wrapper : activeNodes) {
-            NBTTagCompound tagCompound = new NBTTagCompound();
-            wrapper.write(tagCompound);
-            activeList.appendTag(tagCompound);
-        }
-        if (activeList.tagCount() != 0) {
-            nbtTags.setTag("activeNodes", activeList);
-        }
-
-        NBTTagList usedList = new NBTTagList();
-        for (Coord4D obj : usedNodes) {
-            activeList.appendTag(obj.write(new NBTTagCompound()));
-        }
-        if (activeList.tagCount() != 0) {
-            nbtTags.setTag("usedNodes", usedList);
-        }
+        frontier.write(nbtTags, "nodes", true);
         return nbtTags;
     }
 
@@ -249,18 +254,18 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
             fluidTank.readFromNBT(nbtTags.getCompoundTag("fluidTank"));
         }
 
-        if (nbtTags.hasKey("activeNodes")) {
-            NBTTagList tagList = nbtTags.getTagList("activeNodes", NBT.TAG_COMPOUND);
-
+        frontier.read(nbtTags, "nodes");
+        //Nodes saved before the plenisher used a frontier
+        if (nbtTags.hasKey("usedNodes")) {
+            NBTTagList tagList = nbtTags.getTagList("usedNodes", NBT.TAG_COMPOUND);
             for (int i = 0; i < tagList.tagCount(); i++) {
-                activeNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
+                frontier.visit(PackedPos.pack(Coord4D.read(tagList.getCompoundTagAt(i))));
             }
         }
-        if (nbtTags.hasKey("usedNodes")) {
-            NBTTagList tagList = nbtTags.getTagList("usedNodes", NBT.TAG_COMPOUND);
-
+        if (nbtTags.hasKey("activeNodes")) {
+            NBTTagList tagList = nbtTags.getTagList("activeNodes", NBT.TAG_COMPOUND);
             for (int i = 0; i < tagList.tagCount(); i++) {
-                usedNodes.add(Coord4D.read(tagList.getCompoundTagAt(i)));
+                frontier.offer(PackedPos.pack(Coord4D.read(tagList.getCompoundTagAt(i))));
             }
         }
     }
@@ -347,9 +352,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
 
     @Override
     public EnumActionResult onSneakRightClick(EntityPlayer player, EnumFacing side) {
-        activeNodes.clear();
-        usedNodes.clear();
-        finishedCalc = false;
+        reset();
         player.sendMessage(new TextComponentString(EnumColor.DARK_BLUE + Mekanism.LOG_TAG + " " + EnumColor.GREY + LangUtils.localize("tooltip.configurator.plenisherReset")));
         return EnumActionResult.SUCCESS;
     }
@@ -383,9 +386,7 @@ public class TileEntityFluidicPlenisher extends TileEntityElectricBlock implemen
     @Override
     public Object[] invoke(int method, Object[] arguments) throws NoSuchMethodException {
         if (method == 0) {
-            activeNodes.clear();
-            usedNodes.clear();
-            finishedCalc = false;
+            reset();
             return new Object[]{"Plenisher calculation reset."};
         }
         throw new NoSuchMethodException();
@@ -5,6 +5,7 @@ import javax.annotation.Nonnull;
 import mekanism.api.TileNetworkList;
 import mekanism.api.energy.IStrictEnergyStorage;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.matrix.SynchronizedMatrixData;
 import mekanism.common.tier.InductionCellTier;
 import mekanism.common.tile.prefab.TileEntityBasicBlock;
 import mekanism.common.util.LangUtils;
@@ -20,6 +21,11 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
 
     public double electricityStored;
 
+    /**
+     * Matrix this cell is part of, the matrix only writes its energy changes to the cell once the cell's energy gets read.
+     */
+    private SynchronizedMatrixData matrix;
+
     @Override
     public void onUpdate() {
     }
@@ -28,6 +34,22 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
         return LangUtils.localize(getBlockType().getTranslationKey() + ".InductionCell" + tier.getBaseTier().getSimpleName() + ".name");
     }
 
+    public void setMatrix(SynchronizedMatrixData matrix) {
+        this.matrix = matrix;
+    }
+
+    public void removeMatrix(SynchronizedMatrixData matrix) {
+        if (this.matrix == matrix) {
+            this.matrix = null;
+        }
+    }
+
+    private void updateFromMatrix() {
+        if (matrix != null) {
+            matrix.updateCells(world);
+        }
+    }
+
     @Override
     public void handlePacketData(ByteBuf dataStream) {
         if (FMLCommonHandler.instance().getEffectiveSide().isClient()) {
@@ -45,7 +67,7 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
     public TileNetworkList getNetworkedData(TileNetworkList data) {
         data.add(tier.ordinal());
         super.getNetworkedData(data);
-        data.add(electricityStored);
+        data.add(getEnergy());
         return data;
     }
 
@@ -61,12 +83,13 @@ public class TileEntityInductionCell extends TileEntityBasicBlock implements ISt
     public NBTTagCompound writeToNBT(NBTTagCompound nbtTags) {
         super.writeToNBT(nbtTags);
         nbtTags.setInteger("tier", tier.ordinal());
-        nbtTags.setDouble("electricityStored", electricityStored);
+        nbtTags.setDouble("electricityStored", getEnergy());
         return nbtTags;
     }
 
     @Override
     public double getEnergy() {
+        updateFromMatrix();
         return electricityStored;
     }
 
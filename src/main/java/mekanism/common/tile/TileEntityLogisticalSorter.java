@@ -1,6 +1,8 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
 import java.util.Iterator;
 import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
@@ -17,6 +19,7 @@ import mekanism.common.base.ISustainedData;
 import mekanism.common.base.IUpgradeTile;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.filter.FilterIndex;
 import mekanism.common.content.transporter.Finder;
 import mekanism.common.content.transporter.InvStack;
 import mekanism.common.content.transporter.StackSearcher;
@@ -50,6 +53,7 @@ import net.minecraftforge.common.capabilities.Capability;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.items.CapabilityItemHandler;
+import net.minecraftforge.items.IItemHandler;
 
 public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implements IRedstoneControl, ISpecialConfigData, ISustainedData, ISecurityTile,
       IComputerIntegration, IUpgradeTile, IComparatorSupport {
@@ -67,10 +71,12 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
     public String[] methods = {"setDefaultColor", "setRoundRobin", "setAutoEject", "addFilter", "removeFilter", "addOreFilter", "removeOreFilter", "setSingleItem"};
     private int currentRedstoneLevel;
 
+    private FilterIndex<TransporterFilter> filterIndex;
+    private int filterIndexVersion;
+
     public TileEntityLogisticalSorter() {
         super("machine.logisticalsorter", "LogisticalSorter", MachineType.LOGISTICAL_SORTER.getStorage(), 3);
         inventory = NonNullList.withSize(2, ItemStack.EMPTY);
-        doAutoSync = false;
         upgradeComponent = new TileComponentUpgrade(this, 1);
         upgradeComponent.clearSupportedTypes();
         upgradeComponent.setSupported(Upgrade.MUFFLING);
@@ -93,30 +99,51 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
                     boolean sentItems = false;
                     int min = 0;
 
-                    outer:
-                    for (TransporterFilter filter : filters) {
-                        for (StackSearcher search = new StackSearcher(back, facing.getOpposite()); search.getSlotCount() >= 0; ) {
-                            InvStack invStack = filter.getStackFromInventory(search, singleItem);
-                            if (invStack == null) {
-                                break;
+                    FilterIndex<TransporterFilter> index = getFilterIndex();
+                    IItemHandler inventory = InventoryUtils.getItemHandler(back, facing);
+                    //Look at every slot once and remember which filters may take what it holds, latest slots first like the StackSearcher
+                    ItemStack[] slotStacks = new ItemStack[index.isEmpty() ? 0 : inventory.getSlots()];
+                    IntList[] slotsByFilter = new IntList[index.size()];
+                    for (int slot = slotStacks.length - 1; slot >= 0; slot--) {
+                        ItemStack stack = inventory.extractItem(slot, singleItem ? 1 : 64, true);
+                        slotStacks[slot] = stack;
+                        for (int i : index.getCandidates(stack)) {
+                            if (slotsByFilter[i] == null) {
+                                slotsByFilter[i] = new IntArrayList();
                             }
-                            ItemStack itemStack = invStack.getStack();
-                            if (filter.canFilter(itemStack, !singleItem)) {
-                                if (!singleItem && filter instanceof TItemStackFilter) {
-                                    TItemStackFilter itemFilter = (TItemStackFilter) filter;
-                                    if (itemFilter.sizeMode) {
-                                        min = itemFilter.min;
+                            slotsByFilter[i].add(slot);
+                        }
+                    }
+
+                    outer:
+                    for (int i = 0; i < index.size(); i++) {
+                        TransporterFilter filter = index.get(i);
+                        if (!singleItem && filter instanceof TItemStackFilter && ((TItemStackFilter) filter).sizeMode) {
+                            //Size mode filters collect their items from several slots
+                            for (StackSearcher search = new StackSearcher(back, facing.getOpposite()); search.getSlotCount() >= 0; ) {
+                                InvStack invStack = filter.getStackFromInventory(search, false);
+                                if (invStack == null) {
+                                    break;
+                                }
+                                ItemStack itemStack = invStack.getStack();
+                                if (filter.canFilter(itemStack, true)) {
+                                    min = ((TItemStackFilter) filter).min;
+                                    if (emitFromInventory(back, front, invStack, filter.color, min)) {
+                                        sentItems = true;
+                                        break outer;
                                     }
                                 }
-
-                                TransitRequest request = TransitRequest.getFromStack(itemStack);
-                                TransitResponse response = emitItemToTransporter(front, request, filter.color, min);
-                                if (!response.isEmpty()) {
-                                    invStack.use(response.getSendingAmount());
-                                    back.markDirty();
-                                    setActive(true);
-                                    sentItems = true;
-                                    break outer;
+                            }
+                        } else if (slotsByFilter[i] != null) {
+                            IntList slots = slotsByFilter[i];
+                            for (int j = 0; j < slots.size(); j++) {
+                                int slot = slots.getInt(j);
+                                ItemStack itemStack = slotStacks[slot];
+                                if (!index.needsCheck(i) || filter.canFilter(itemStack, !singleItem)) {
+                                    if (emitFromInventory(back, front, new InvStack(back, slot, itemStack, facing), filter.color, min)) {
+                                        sentItems = true;
+                                        break outer;
+                                    }
                                 }
                             }
                         }
@@ -135,12 +162,6 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
 
                 delayTicks = 10;
             }
-            if (playersUsing.size() > 0) {
-                for (EntityPlayer player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new TileEntityMessage(this, getGenericPacket(new TileNetworkList())), (EntityPlayerMP) player);
-                }
-            }
-
             int newRedstoneLevel = getRedstoneLevel();
             if (newRedstoneLevel != currentRedstoneLevel) {
                 world.updateComparatorOutputLevel(pos, getBlockType());
@@ -149,6 +170,29 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
         }
     }
 
+    private boolean emitFromInventory(TileEntity back, TileEntity front, InvStack invStack, EnumColor filterColor, int min) {
+        TransitRequest request = TransitRequest.getFromStack(invStack.getStack());
+        TransitResponse response = emitItemToTransporter(front, request, filterColor, min);
+        if (!response.isEmpty()) {
+            invStack.use(response.getSendingAmount());
+            back.markDirty();
+            setActive(true);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return the filters compiled for looking up which of them take a stack, built again whenever the filters changed
+     */
+    private FilterIndex<TransporterFilter> getFilterIndex() {
+        if (filterIndex == null || filterIndexVersion != filters.getVersion()) {
+            filterIndex = new FilterIndex<>(filters, (filter, stack) -> filter.canFilter(stack, false));
+            filterIndexVersion = filters.getVersion();
+        }
+        return filterIndex;
+    }
+
     public TransitResponse emitItemToTransporter(TileEntity front, TransitRequest request, EnumColor filterColor, int min) {
         if (CapabilityUtils.hasCapability(front, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, facing.getOpposite())) {
             ILogisticalTransporter transporter = CapabilityUtils.getCapability(front, Capabilities.LOGISTICAL_TRANSPORTER_CAPABILITY, facing.getOpposite());
@@ -319,6 +363,12 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
         return data;
     }
 
+    @Override
+    public TileNetworkList getSyncData(TileNetworkList data) {
+        //The filters get sent separately whenever they change
+        return getGenericPacket(data);
+    }
+
     public TileNetworkList getGenericPacket(TileNetworkList data) {
         super.getNetworkedData(data);
         data.add(1);
@@ -656,8 +706,10 @@ public class TileEntityLogisticalSorter extends TileEntityEffectsBlock implement
 
         @Override
         public boolean modifies(ItemStack stack) {
-            for (TransporterFilter filter : filters) {
-                if (filter.canFilter(stack, false) && !filter.allowDefault) {
+            FilterIndex<TransporterFilter> index = getFilterIndex();
+            for (int i : index.getCandidates(stack)) {
+                TransporterFilter filter = index.get(i);
+                if (!filter.allowDefault && (!index.needsCheck(i) || filter.canFilter(stack, false))) {
                     return false;
                 }
             }
@@ -7,6 +7,8 @@ import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.common.Mekanism;
 import mekanism.common.PacketHandler;
+import mekanism.common.TickProfiler;
+import mekanism.common.TickProfiler.Category;
 import mekanism.common.multiblock.IMultiblock;
 import mekanism.common.multiblock.IStructuralMultiblock;
 import mekanism.common.multiblock.MultiblockCache;
@@ -66,6 +68,8 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
     @Nullable
     public String cachedID = null;
 
+    private boolean unloaded;
+
     public TileEntityMultiblock(String name) {
         super(name);
     }
@@ -128,6 +132,10 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
                 structure.didTick = false;
                 if (structure.inventoryID != null) {
                     cachedData.sync(structure);
+                    if (cachedID != null && !cachedID.equals(structure.inventoryID)) {
+                        //We are part of a different structure now, so the old one should no longer restore us
+                        getManager().removeLocation(cachedID, Coord4D.get(this));
+                    }
                     cachedID = structure.inventoryID;
                     getManager().updateCache(this);
                 }
@@ -138,7 +146,11 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
     @Override
     public void doUpdate() {
         if (!world.isRemote && (structure == null || !structure.didTick)) {
+            long start = TickProfiler.begin();
             getProtocol().doUpdate();
+            if (start != 0) {
+                TickProfiler.end(start, Category.MULTIBLOCK, getClass(), Coord4D.get(this));
+            }
             if (structure != null) {
                 structure.didTick = true;
             }
@@ -156,6 +168,27 @@ public abstract class TileEntityMultiblock<T extends SynchronizedData<T>> extend
         }
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        unloaded = true;
+    }
+
+    @Override
+    public void invalidate() {
+        super.invalidate();
+        if (!unloaded && !world.isRemote && cachedID != null) {
+            //Broken, rather than unloaded with the chunk it is in
+            getManager().removeLocation(cachedID, Coord4D.get(this));
+        }
+    }
+
+    @Override
+    public void validate() {
+        super.validate();
+        unloaded = false;
+    }
+
     protected abstract T getNewStructure();
 
     public abstract MultiblockCache<T> getNewCache();
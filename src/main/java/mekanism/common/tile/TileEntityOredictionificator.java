@@ -2,6 +2,7 @@ package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import javax.annotation.Nonnull;
 import mekanism.api.IConfigCardAccess.ISpecialConfigData;
@@ -15,7 +16,6 @@ import mekanism.common.base.ISustainedData;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.content.filter.IFilter;
-import mekanism.common.network.PacketTileEntity.TileEntityMessage;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentSecurity;
 import mekanism.common.tile.prefab.TileEntityContainerBlock;
@@ -24,7 +24,6 @@ import mekanism.common.util.ItemDataUtils;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.StackUtils;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -42,6 +41,8 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
     public static final int MAX_LENGTH = 24;
     private static final int[] SLOTS = {0, 1};
     public static List<String> possibleFilters = Arrays.asList("ingot", "ore", "dust", "nugget");
+    private static BitSet possibleIDs;
+    private static int possibleIDsVersion;
     public HashList<OredictionificatorFilter> filters = new HashList<>();
     public RedstoneControl controlType = RedstoneControl.DISABLED;
 
@@ -52,21 +53,14 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
     public TileEntityOredictionificator() {
         super(MachineType.OREDICTIONIFICATOR.getBlockName());
         inventory = NonNullList.withSize(2, ItemStack.EMPTY);
-        doAutoSync = false;
     }
 
     @Override
     public void onUpdate() {
         if (!world.isRemote) {
-            if (playersUsing.size() > 0) {
-                for (EntityPlayer player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new TileEntityMessage(this, getGenericPacket(new TileNetworkList())), (EntityPlayerMP) player);
-                }
-            }
-
             didProcess = false;
             ItemStack inputStack = inventory.get(0);
-            if (MekanismUtils.canFunction(this) && !inputStack.isEmpty() && getValidName(inputStack) != null) {
+            if (MekanismUtils.canFunction(this) && !inputStack.isEmpty() && getValidOreID(inputStack) != -1) {
                 ItemStack result = getResult(inputStack);
                 if (!result.isEmpty()) {
                     ItemStack outputStack = inventory.get(1);
@@ -91,26 +85,40 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
         }
     }
 
-    public String getValidName(ItemStack stack) {
-        List<String> def = OreDictCache.getOreDictName(stack);
-        for (String s : def) {
+    /**
+     * @return the first ore dictionary ID of the stack starting with one of the {@link #possibleFilters}, or -1 if it has none
+     */
+    public int getValidOreID(ItemStack stack) {
+        int cacheVersion = OreDictCache.getVersion();
+        if (possibleIDs == null || possibleIDsVersion != cacheVersion) {
+            BitSet ids = new BitSet();
             for (String pre : possibleFilters) {
-                if (s.startsWith(pre)) {
-                    return s;
-                }
+                ids.or(OreDictCache.getOreIDs(pre + "*"));
             }
+            possibleIDs = ids;
+            possibleIDsVersion = cacheVersion;
         }
-        return null;
+        for (int id : OreDictCache.getOreIDs(stack)) {
+            if (possibleIDs.get(id)) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    public String getValidName(ItemStack stack) {
+        int id = getValidOreID(stack);
+        return id == -1 ? null : OreDictionary.getOreName(id);
     }
 
     public ItemStack getResult(ItemStack stack) {
-        String s = getValidName(stack);
-        if (s == null) {
+        int id = getValidOreID(stack);
+        if (id == -1) {
             return ItemStack.EMPTY;
         }
-        List<ItemStack> ores = OreDictionary.getOres(s, false);
         for (OredictionificatorFilter filter : filters) {
-            if (filter.filter.equals(s)) {
+            if (filter.getOreID() == id) {
+                List<ItemStack> ores = OreDictionary.getOres(OreDictionary.getOreName(id), false);
                 if (ores.size() - 1 >= filter.index) {
                     return StackUtils.size(ores.get(filter.index), 1);
                 }
@@ -214,6 +222,12 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
         return data;
     }
 
+    @Override
+    public TileNetworkList getSyncData(TileNetworkList data) {
+        //The filters get sent separately whenever they change
+        return getGenericPacket(data);
+    }
+
     public TileNetworkList getGenericPacket(TileNetworkList data) {
         super.getNetworkedData(data);
         data.add(1);
@@ -350,6 +364,10 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
         public String filter;
         public int index;
 
+        private String idName;
+        private int oreID = -1;
+        private int idVersion;
+
         public static OredictionificatorFilter readFromNBT(NBTTagCompound nbtTags) {
             OredictionificatorFilter filter = new OredictionificatorFilter();
             filter.read(nbtTags);
@@ -362,6 +380,19 @@ public class TileEntityOredictionificator extends TileEntityContainerBlock imple
             return filter;
         }
 
+        /**
+         * @return the ore dictionary ID of the filtered name, or -1 if there is no such name
+         */
+        public int getOreID() {
+            //The name is compared by reference as it only needs to be looked up again when it gets replaced
+            if (filter != idName || idVersion != OreDictCache.getVersion()) {
+                idVersion = OreDictCache.getVersion();
+                oreID = filter == null ? -1 : OreDictCache.getOreID(filter);
+                idName = filter;
+            }
+            return oreID;
+        }
+
         public void write(NBTTagCompound nbtTags) {
             nbtTags.setString("filter", filter);
             nbtTags.setInteger("index", index);
@@ -1,9 +1,7 @@
 package mekanism.common.tile;
 
 import io.netty.buffer.ByteBuf;
-import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -30,8 +28,10 @@ import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.entangloporter.InventoryFrequency;
 import mekanism.common.frequency.Frequency;
+import mekanism.common.frequency.FrequencyListSync;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
+import mekanism.common.frequency.IFrequencyListHandler;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.tile.component.TileComponentChunkLoader;
@@ -62,7 +62,7 @@ import net.minecraftforge.fluids.capability.CapabilityFluidHandler;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 
 public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock implements ISideConfiguration, ITankManager, IFluidHandlerWrapper, IFrequencyHandler,
-      IGasHandler, IHeatTransfer, IComputerIntegration, ISecurityTile, IChunkLoader, IUpgradeTile {
+      IGasHandler, IHeatTransfer, IComputerIntegration, ISecurityTile, IChunkLoader, IUpgradeTile, IFrequencyListHandler {
 
     private static final int INV_SIZE = 1;//this.inventory size, used for upgrades. Manually handled
     private static final String[] methods = new String[]{"setFrequency"};
@@ -70,8 +70,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
     public double heatToAbsorb = 0;
     public double lastTransferLoss;
     public double lastEnvironmentLoss;
-    public List<Frequency> publicCache = new ArrayList<>();
-    public List<Frequency> privateCache = new ArrayList<>();
+    public final FrequencyListSync frequencyList = new FrequencyListSync();
     public TileComponentEjector ejectorComponent;
     public TileComponentConfig configComponent;
     public TileComponentSecurity securityComponent;
@@ -144,6 +143,7 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
                     markDirty();
                 }
             }
+            frequencyList.sync(this, playersUsing);
         }
     }
 
@@ -151,6 +151,17 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
         return frequency != null && frequency.valid;
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        if (!world.isRemote && frequency != null) {
+            FrequencyManager manager = getManager(frequency);
+            if (manager != null) {
+                manager.deactivate(Coord4D.get(this));
+            }
+        }
+    }
+
     @Override
     public void invalidate() {
         super.invalidate();
@@ -186,21 +197,32 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
         return Mekanism.privateEntangloporters.get(getSecurity().getOwnerUUID());
     }
 
+    @Override
+    public FrequencyListSync getFrequencyList() {
+        return frequencyList;
+    }
+
+    @Override
+    public FrequencyManager getFrequencyManager(boolean publicFreq) {
+        return getManager(new InventoryFrequency(null, null).setPublic(publicFreq));
+    }
+
     public void setFrequency(String name, boolean publicFreq) {
         FrequencyManager manager = getManager(new InventoryFrequency(name, null).setPublic(publicFreq));
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.name.equals(name)) {
-                frequency = (InventoryFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                markDirty();
-                return;
+        Frequency freq = manager.getFrequency(name);
+        if (freq == null) {
+            freq = new InventoryFrequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
+            manager.addFrequency(freq);
+        }
+        Coord4D coord = Coord4D.get(this);
+        if (frequency != null) {
+            //Switching between public and private changes managers, and activating only clears the previous frequency of the same manager
+            FrequencyManager previousManager = getManager(frequency);
+            if (previousManager != null && previousManager != manager) {
+                previousManager.deactivate(coord);
             }
         }
-
-        Frequency freq = new InventoryFrequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
-        manager.addFrequency(freq);
+        manager.activate(coord, freq);
         frequency = (InventoryFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
@@ -280,18 +302,6 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
             } else {
                 frequency = null;
             }
-
-            publicCache.clear();
-            privateCache.clear();
-
-            int amount = dataStream.readInt();
-            for (int i = 0; i < amount; i++) {
-                publicCache.add(new InventoryFrequency(dataStream));
-            }
-            amount = dataStream.readInt();
-            for (int i = 0; i < amount; i++) {
-                privateCache.add(new InventoryFrequency(dataStream));
-            }
         }
     }
 
@@ -307,21 +317,6 @@ public class TileEntityQuantumEntangloporter extends TileEntityElectricBlock imp
         } else {
             data.add(false);
         }
-
-        data.add(Mekanism.publicEntangloporters.getFrequencies().size());
-        for (Frequency freq : Mekanism.publicEntangloporters.getFrequencies()) {
-            freq.write(data);
-        }
-
-        FrequencyManager manager = getManager(new InventoryFrequency(null, null).setPublic(false));
-        if (manager != null) {
-            data.add(manager.getFrequencies().size());
-            for (Frequency freq : manager.getFrequencies()) {
-                freq.write(data);
-            }
-        } else {
-            data.add(0);
-        }
         return data;
     }
 
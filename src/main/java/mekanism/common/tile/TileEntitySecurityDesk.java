@@ -103,18 +103,12 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
 
     public void setFrequency(UUID owner) {
         FrequencyManager manager = Mekanism.securityFrequencies;
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                return;
-            }
+        Frequency freq = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (freq == null) {
+            freq = new SecurityFrequency(owner).setPublic(true);
+            manager.addFrequency(freq);
         }
-
-        Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(this));
-        manager.addFrequency(freq);
+        manager.activate(Coord4D.get(this), freq);
         frequency = (SecurityFrequency) freq;
         MekanismUtils.saveChunk(this);
         markDirty();
@@ -212,6 +206,17 @@ public class TileEntitySecurityDesk extends TileEntityContainerBlock implements
         return data;
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        if (!world.isRemote && frequency != null) {
+            FrequencyManager manager = getManager(frequency);
+            if (manager != null) {
+                manager.deactivate(Coord4D.get(this));
+            }
+        }
+    }
+
     @Override
     public void invalidate() {
         super.invalidate();
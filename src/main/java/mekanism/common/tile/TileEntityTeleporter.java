@@ -21,8 +21,10 @@ import mekanism.common.block.states.BlockStateMachine.MachineType;
 import mekanism.common.chunkloading.IChunkLoader;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.frequency.Frequency;
+import mekanism.common.frequency.FrequencyListSync;
 import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
+import mekanism.common.frequency.IFrequencyListHandler;
 import mekanism.common.integration.computer.IComputerIntegration;
 import mekanism.common.network.PacketEntityMove.EntityMoveMessage;
 import mekanism.common.network.PacketPortalFX.PortalFXMessage;
@@ -50,7 +52,7 @@ import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
 public class TileEntityTeleporter extends TileEntityElectricBlock implements IComputerIntegration, IChunkLoader, IFrequencyHandler, IRedstoneControl, ISecurityTile,
-      IUpgradeTile, IComparatorSupport {
+      IUpgradeTile, IComparatorSupport, IFrequencyListHandler {
 
     private static final String[] methods = new String[]{"getEnergy", "canTeleport", "getMaxEnergy", "teleport", "setFrequency"};
     public AxisAlignedBB teleportBounds = null;
@@ -65,8 +67,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
     public Frequency frequency;
 
-    public List<Frequency> publicCache = new ArrayList<>();
-    public List<Frequency> privateCache = new ArrayList<>();
+    public final FrequencyListSync frequencyList = new FrequencyListSync();
 
     /**
      * This teleporter's current status.
@@ -167,6 +168,7 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
             }
             prevShouldRender = shouldRender;
             teleDelay = Math.max(0, teleDelay - 1);
+            frequencyList.sync(this, playersUsing);
         }
         ChargeUtils.discharge(0, this);
     }
@@ -188,18 +190,20 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
 
     public void setFrequency(String name, boolean publicFreq) {
         FrequencyManager manager = getManager(new Frequency(name, null).setPublic(publicFreq));
-        manager.deactivate(Coord4D.get(this));
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.name.equals(name)) {
-                frequency = freq;
-                frequency.activeCoords.add(Coord4D.get(this));
-                MekanismUtils.saveChunk(this);
-                return;
+        Frequency freq = manager.getFrequency(name);
+        if (freq == null) {
+            freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
+            manager.addFrequency(freq);
+        }
+        Coord4D coord = Coord4D.get(this);
+        if (frequency != null) {
+            //Switching between public and private changes managers, and activating only clears the previous frequency of the same manager
+            FrequencyManager previousManager = getManager(frequency);
+            if (previousManager != null && previousManager != manager) {
+                previousManager.deactivate(coord);
             }
         }
-        Frequency freq = new Frequency(name, getSecurity().getOwnerUUID()).setPublic(publicFreq);
-        freq.activeCoords.add(Coord4D.get(this));
-        manager.addFrequency(freq);
+        manager.activate(coord, freq);
         frequency = freq;
         MekanismUtils.saveChunk(this);
     }
@@ -219,6 +223,16 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
         return Mekanism.privateTeleporters.get(getSecurity().getOwnerUUID());
     }
 
+    @Override
+    public FrequencyListSync getFrequencyList() {
+        return frequencyList;
+    }
+
+    @Override
+    public FrequencyManager getFrequencyManager(boolean publicFreq) {
+        return getManager(new Frequency(null, null).setPublic(publicFreq));
+    }
+
     @Override
     public void onChunkUnload() {
         super.onChunkUnload();
@@ -432,18 +446,6 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
             status = dataStream.readByte();
             shouldRender = dataStream.readBoolean();
             controlType = RedstoneControl.values()[dataStream.readInt()];
-
-            publicCache.clear();
-            privateCache.clear();
-
-            int amount = dataStream.readInt();
-            for (int i = 0; i < amount; i++) {
-                publicCache.add(new Frequency(dataStream));
-            }
-            amount = dataStream.readInt();
-            for (int i = 0; i < amount; i++) {
-                privateCache.add(new Frequency(dataStream));
-            }
         }
     }
 
@@ -461,20 +463,6 @@ public class TileEntityTeleporter extends TileEntityElectricBlock implements ICo
         data.add(status);
         data.add(shouldRender);
         data.add(controlType.ordinal());
-        data.add(Mekanism.publicTeleporters.getFrequencies().size());
-        for (Frequency freq : Mekanism.publicTeleporters.getFrequencies()) {
-            freq.write(data);
-        }
-
-        FrequencyManager manager = getManager(new Frequency(null, null).setPublic(false));
-        if (manager != null) {
-            data.add(manager.getFrequencies().size());
-            for (Frequency freq : manager.getFrequencies()) {
-                freq.write(data);
-            }
-        } else {
-            data.add(0);
-        }
         return data;
     }
 
@@ -46,19 +46,12 @@ public class TileComponentSecurity implements ITileComponent {
 
     public void setFrequency(UUID owner) {
         FrequencyManager manager = Mekanism.securityFrequencies;
-        manager.deactivate(Coord4D.get(tileEntity));
-
-        for (Frequency freq : manager.getFrequencies()) {
-            if (freq.ownerUUID.equals(owner)) {
-                frequency = (SecurityFrequency) freq;
-                frequency.activeCoords.add(Coord4D.get(tileEntity));
-                return;
-            }
+        Frequency freq = manager.getFrequency(SecurityFrequency.SECURITY, owner);
+        if (freq == null) {
+            freq = new SecurityFrequency(owner).setPublic(true);
+            manager.addFrequency(freq);
         }
-
-        Frequency freq = new SecurityFrequency(owner).setPublic(true);
-        freq.activeCoords.add(Coord4D.get(tileEntity));
-        manager.addFrequency(freq);
+        manager.activate(Coord4D.get(tileEntity), freq);
         frequency = (SecurityFrequency) freq;
 
         MekanismUtils.saveChunk(tileEntity);
@@ -183,6 +176,15 @@ public class TileComponentSecurity implements ITileComponent {
 
     @Override
     public void invalidate() {
+        deactivate();
+    }
+
+    @Override
+    public void onChunkUnload() {
+        deactivate();
+    }
+
+    private void deactivate() {
         if (!tileEntity.getWorld().isRemote) {
             if (frequency != null) {
                 FrequencyManager manager = getManager(frequency);
@@ -9,6 +9,8 @@ import javax.annotation.Nonnull;
 import mekanism.api.Coord4D;
 import mekanism.api.TileNetworkList;
 import mekanism.common.Mekanism;
+import mekanism.common.TickProfiler;
+import mekanism.common.TickProfiler.Category;
 import mekanism.common.base.ITileComponent;
 import mekanism.common.base.ITileNetwork;
 import mekanism.common.block.states.BlockStateMachine.MachineType;
@@ -19,12 +21,11 @@ import mekanism.common.frequency.FrequencyManager;
 import mekanism.common.frequency.IFrequencyHandler;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.network.PacketDataRequest.DataRequestMessage;
-import mekanism.common.network.PacketTileEntity.TileEntityMessage;
+import mekanism.common.network.TileSyncState;
 import mekanism.common.security.ISecurityTile;
 import mekanism.common.util.MekanismUtils;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
@@ -58,6 +59,11 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
 
     public boolean doAutoSync = true;
 
+    /**
+     * Keeps the players in {@link #playersUsing} up to date with this block's networked data.
+     */
+    public final TileSyncState syncState = new TileSyncState();
+
     public List<ITileComponent> components = new ArrayList<>();
 
     @Override
@@ -79,18 +85,22 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
             }
         }
 
+        long start = world.isRemote ? 0 : TickProfiler.begin();
         for (ITileComponent component : components) {
             component.tick();
         }
 
         onUpdate();
         if (!world.isRemote) {
-            if (doAutoSync && playersUsing.size() > 0) {
-                for (EntityPlayer player : playersUsing) {
-                    Mekanism.packetHandler.sendTo(new TileEntityMessage(this), (EntityPlayerMP) player);
-                }
+            if (playersUsing.isEmpty()) {
+                syncState.reset();
+            } else if (doAutoSync) {
+                syncState.sync(this, playersUsing);
             }
         }
+        if (start != 0) {
+            TickProfiler.end(start, Category.TILE, getClass(), Coord4D.get(this));
+        }
         ticker++;
         redstoneLastTick = redstone;
     }
@@ -135,6 +145,14 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
         return data;
     }
 
+    /**
+     * The data {@link #syncState} keeps in sync with the players using this block. Blocks whose networked data is large, such as ones with filters, can sync a smaller
+     * packet here and send the rest only when it changes.
+     */
+    public TileNetworkList getSyncData(TileNetworkList data) {
+        return getNetworkedData(data);
+    }
+
     @Override
     public void invalidate() {
         super.invalidate();
@@ -143,6 +161,14 @@ public abstract class TileEntityBasicBlock extends TileEntity implements ITileNe
         }
     }
 
+    @Override
+    public void onChunkUnload() {
+        super.onChunkUnload();
+        for (ITileComponent component : components) {
+            component.onChunkUnload();
+        }
+    }
+
     @Override
     public void validate() {
         super.validate();
@@ -15,7 +15,6 @@ import mekanism.common.base.ILogisticalTransporter;
 import mekanism.common.block.property.PropertyColor;
 import mekanism.common.block.states.BlockStateTransmitter.TransmitterType;
 import mekanism.common.capabilities.Capabilities;
-import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterStack;
@@ -78,7 +77,7 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     public void onWorldSeparate() {
         super.onWorldSeparate();
         if (!getWorld().isRemote) {
-            PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+            invalidateCachedPaths();
         }
     }
 
@@ -148,10 +147,11 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
         }
     }
 
-    @Override
-    public void onWorldJoin() {
-        super.onWorldJoin();
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+    private void invalidateCachedPaths() {
+        InventoryNetwork network = getTransmitter().getTransmitterNetwork();
+        if (network != null) {
+            network.getPathCache().onChanged(new Coord4D(getPos(), getWorld()));
+        }
     }
 
     @Override
@@ -284,7 +284,11 @@ public class TileEntityLogisticalTransporter extends TileEntityTransmitter<TileE
     protected EnumActionResult onConfigure(EntityPlayer player, int part, EnumFacing side) {
         TransporterUtils.incrementColor(getTransmitter());
         onPartChanged(null);
-        PathfinderCache.onChanged(new Coord4D(getPos(), getWorld()));
+        InventoryNetwork network = getTransmitter().getTransmitterNetwork();
+        if (network != null) {
+            //A new colour can let stacks through that were routed around this transporter, so paths that don't pass through it can be outdated too
+            network.getPathCache().reset();
+        }
         Mekanism.packetHandler.sendUpdatePacket(this);
         TextComponentGroup msg = new TextComponentGroup(TextFormatting.GRAY).string(Mekanism.LOG_TAG + " ", TextFormatting.DARK_BLUE)
               .translation("tooltip.configurator.toggleColor").string(": ");
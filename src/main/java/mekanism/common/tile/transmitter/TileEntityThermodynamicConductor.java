@@ -154,6 +154,9 @@ public class TileEntityThermodynamicConductor extends TileEntityTransmitter<IHea
     @Override
     public void transferHeatTo(double heat) {
         heatToAbsorb += heat;
+        if (heat != 0 && getTransmitter().hasTransmitterNetwork()) {
+            getTransmitter().getTransmitterNetwork().wake(this);
+        }
     }
 
     @Override
@@ -3,12 +3,14 @@ package mekanism.common.transmitters;
 import java.util.Collection;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.api.transmitters.TransmissionType;
 import mekanism.common.capabilities.Capabilities;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.CapabilityUtils;
+import mekanism.common.util.MekanismUtils;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
 import net.minecraft.world.World;
@@ -36,22 +38,36 @@ public class TransmitterImpl<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR,
         return new Coord4D(getTileEntity().getPos(), getTileEntity().getWorld());
     }
 
+    @Override
+    public long packedPos() {
+        return PackedPos.pack(getTileEntity().getPos());
+    }
+
     @Override
     public Coord4D getAdjacentConnectableTransmitterCoord(EnumFacing side) {
-        Coord4D sideCoord = coord().offset(side);
-        TileEntity potentialTransmitterTile = sideCoord.getTileEntity(world());
-        if (!containingTile.canConnectMutual(side)) {
+        return getAdjacentTransmitter(side, true) == null ? null : coord().offset(side);
+    }
+
+    @Override
+    public IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> getAdjacentTransmitter(EnumFacing side, boolean connectableOnly) {
+        if (connectableOnly && !containingTile.canConnectMutual(side)) {
             return null;
         }
+        TileEntity potentialTransmitterTile = MekanismUtils.getTileEntity(world(), containingTile.getPos().offset(side));
         if (CapabilityUtils.hasCapability(potentialTransmitterTile, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite())) {
             IGridTransmitter transmitter = CapabilityUtils.getCapability(potentialTransmitterTile, Capabilities.GRID_TRANSMITTER_CAPABILITY, side.getOpposite());
-            if (TransmissionType.checkTransmissionType(transmitter, getTransmissionType()) && containingTile.isValidTransmitter(potentialTransmitterTile)) {
-                return sideCoord;
+            if (TransmissionType.checkTransmissionType(transmitter, getTransmissionType()) && (!connectableOnly || containingTile.isValidTransmitter(potentialTransmitterTile))) {
+                return (IGridTransmitter<ACCEPTOR, NETWORK, BUFFER>) transmitter;
             }
         }
         return null;
     }
 
+    @Override
+    public boolean supportsIncrementalSplit() {
+        return true;
+    }
+
     @Override
     public boolean isCompatibleWith(IGridTransmitter<ACCEPTOR, NETWORK, BUFFER> other) {
         if (other instanceof TransmitterImpl) {
@@ -116,7 +116,7 @@ public class TransporterImpl extends TransmitterImpl<TileEntity, InventoryNetwor
                 if (stack.progress >= 100) {
                     Coord4D prevSet = null;
                     if (stack.hasPath()) {
-                        int currentIndex = stack.getPath().indexOf(coord);
+                        int currentIndex = stack.getPathIndex(coord);
                         if (currentIndex == 0) { //Necessary for transition reasons, not sure why
                             deletes.add(stackId);
                             continue;
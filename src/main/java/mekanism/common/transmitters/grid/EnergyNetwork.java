@@ -1,11 +1,11 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.api.energy.EnergyStack;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
@@ -26,6 +26,13 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     private double lastPowerScale = 0;
     private double joulesTransmitted = 0;
     private double jouleBufferLastTick = 0;
+    /**
+     * Acceptors resolved per location, so that emitting does not have to look up tiles and capabilities every tick. Entries are dropped when the transmitters next to
+     * them report an acceptor change, and re-resolved if the tile gets invalidated or its chunk unloads.
+     */
+    private final Long2ObjectMap<CachedAcceptor> acceptorCache = new Long2ObjectOpenHashMap<>();
+    private final EnergyAcceptorTarget target = new EnergyAcceptorTarget();
+    private double plannedTransfer;
 
     public EnergyNetwork() {
     }
@@ -49,6 +56,8 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
             lastPowerScale = net.lastPowerScale;
         }
         buffer.amount += net.buffer.amount;
+        //Acceptors of the other network may share locations with ours, so resolve them again on the next emit
+        acceptorCache.clear();
         super.adoptTransmittersAndAcceptorsFrom(net);
     }
 
@@ -87,31 +96,90 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
     }
 
     private double tickEmit(double energyToSend) {
-        Set<EnergyAcceptorTarget> targets = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
-                continue;
-            }
-            TileEntity tile = coord.getTileEntity(getWorld());
-            if (tile == null) {
-                continue;
+        double sent;
+        if (target.hasPlan() && plannedTransfer <= energyToSend) {
+            sent = target.applyPlan();
+        } else {
+            target.reset();
+            collectAcceptors();
+            sent = EmitUtils.sendToAcceptors(target, energyToSend);
+        }
+        target.reset();
+        return sent;
+    }
+
+    private void collectAcceptors() {
+        for (Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry : getAcceptorPositions().long2ObjectEntrySet()) {
+            long pos = entry.getLongKey();
+            CachedAcceptor cached = acceptorCache.get(pos);
+            if (cached == null || !cached.isValid()) {
+                cached = resolveAcceptor(pos, entry.getValue());
+                if (cached == null) {
+                    continue;
+                }
             }
-            EnergyAcceptorTarget target = new EnergyAcceptorTarget();
-            for (EnumFacing side : sides) {
-                EnergyAcceptorWrapper acceptor = EnergyAcceptorWrapper.get(tile, side);
+            for (EnumFacing side : EnumFacing.VALUES) {
+                EnergyAcceptorWrapper acceptor = cached.wrappers[side.ordinal()];
                 if (acceptor != null && acceptor.canReceiveEnergy(side) && acceptor.needsEnergy(side)) {
                     target.addHandler(side, acceptor);
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                targets.add(target);
-                totalHandlers += curHandlers;
-            }
         }
-        return EmitUtils.sendToAcceptors(targets, totalHandlers, energyToSend);
+    }
+
+    @Override
+    public boolean prepareTick() {
+        target.reset();
+        if (buffer.amount <= 0) {
+            return false;
+        }
+        collectAcceptors();
+        target.prepare(buffer.amount);
+        return target.getHandlerCount() > 0;
+    }
+
+    @Override
+    public void planTick() {
+        plannedTransfer = target.plan();
+    }
+
+    @Nullable
+    private CachedAcceptor resolveAcceptor(long pos, EnumSet<EnumFacing> sides) {
+        acceptorCache.remove(pos);
+        if (sides.isEmpty()) {
+            return null;
+        }
+        TileEntity tile = PackedPos.getTileEntity(getWorld(), pos);
+        if (tile == null) {
+            return null;
+        }
+        CachedAcceptor cached = new CachedAcceptor(tile);
+        for (EnumFacing side : sides) {
+            cached.wrappers[side.ordinal()] = EnergyAcceptorWrapper.get(tile, side);
+        }
+        acceptorCache.put(pos, cached);
+        return cached;
+    }
+
+    @Override
+    public void updateTransmitterOnSide(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> transmitter, EnumFacing side) {
+        super.updateTransmitterOnSide(transmitter, side);
+        acceptorCache.remove(PackedPos.offset(transmitter.packedPos(), side));
+    }
+
+    @Override
+    public void removeAcceptorsFrom(IGridTransmitter<EnergyAcceptorWrapper, EnergyNetwork, EnergyStack> transmitter) {
+        super.removeAcceptorsFrom(transmitter);
+        long pos = transmitter.packedPos();
+        for (EnumFacing side : EnumFacing.VALUES) {
+            acceptorCache.remove(PackedPos.offset(pos, side));
+        }
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        acceptorCache.clear();
     }
 
     public double emit(double energyToSend, boolean doEmit) {
@@ -124,7 +192,7 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
 
     @Override
     public String toString() {
-        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[EnergyNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
@@ -188,4 +256,18 @@ public class EnergyNetwork extends DynamicNetwork<EnergyAcceptorWrapper, EnergyN
             power = currentPower;
         }
     }
+
+    private static class CachedAcceptor {
+
+        private final TileEntity tile;
+        private final EnergyAcceptorWrapper[] wrappers = new EnergyAcceptorWrapper[EnumFacing.VALUES.length];
+
+        private CachedAcceptor(TileEntity tile) {
+            this.tile = tile;
+        }
+
+        private boolean isValid() {
+            return !tile.isInvalid() && tile.getWorld().isBlockLoaded(tile.getPos());
+        }
+    }
 }
\ No newline at end of file
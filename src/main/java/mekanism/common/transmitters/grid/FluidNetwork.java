@@ -1,11 +1,10 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
 import mekanism.common.base.target.FluidHandlerTarget;
@@ -39,6 +38,9 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     public int prevTransferAmount = 0;
 
+    private final FluidHandlerTarget target = new FluidHandlerTarget();
+    private int plannedTransfer;
+
     public FluidNetwork() {
     }
 
@@ -105,18 +107,28 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
     }
 
     private int tickEmit(FluidStack fluidToSend) {
-        Set<FluidHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
+        int sent;
+        if (target.hasPlan() && plannedTransfer <= fluidToSend.amount) {
+            sent = target.applyPlan();
+        } else {
+            target.reset();
+            collectAcceptors(fluidToSend);
+            sent = EmitUtils.sendToAcceptors(target, fluidToSend.amount, fluidToSend);
+        }
+        target.reset();
+        return sent;
+    }
+
+    private void collectAcceptors(FluidStack fluidToSend) {
+        for (Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry : getAcceptorPositions().long2ObjectEntrySet()) {
+            EnumSet<EnumFacing> sides = entry.getValue();
+            if (sides.isEmpty()) {
                 continue;
             }
-            TileEntity tile = coord.getTileEntity(getWorld());
+            TileEntity tile = PackedPos.getTileEntity(getWorld(), entry.getLongKey());
             if (tile == null) {
                 continue;
             }
-            FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend);
             for (EnumFacing side : sides) {
                 if (CapabilityUtils.hasCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side)) {
                     IFluidHandler acceptor = CapabilityUtils.getCapability(tile, CapabilityFluidHandler.FLUID_HANDLER_CAPABILITY, side);
@@ -125,13 +137,23 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
                     }
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
-            }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, fluidToSend.amount, fluidToSend);
+    }
+
+    @Override
+    public boolean prepareTick() {
+        target.reset();
+        if (buffer == null || buffer.amount <= 0) {
+            return false;
+        }
+        collectAcceptors(buffer);
+        target.prepare(buffer, buffer.amount);
+        return target.getHandlerCount() > 0;
+    }
+
+    @Override
+    public void planTick() {
+        plannedTransfer = target.plan();
     }
 
     public int emit(FluidStack fluidToSend, boolean doTransfer) {
@@ -206,7 +228,7 @@ public class FluidNetwork extends DynamicNetwork<IFluidHandler, FluidNetwork, Fl
 
     @Override
     public String toString() {
-        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[FluidNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
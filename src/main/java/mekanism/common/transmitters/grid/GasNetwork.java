@@ -1,11 +1,10 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.Collection;
 import java.util.EnumSet;
-import java.util.HashSet;
-import java.util.Set;
 import javax.annotation.Nullable;
-import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.api.gas.Gas;
 import mekanism.api.gas.GasStack;
 import mekanism.api.gas.IGasHandler;
@@ -43,6 +42,9 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     public int prevTransferAmount = 0;
 
+    private final GasHandlerTarget target = new GasHandlerTarget();
+    private int plannedTransfer;
+
     public GasNetwork() {
     }
 
@@ -121,19 +123,29 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
     }
 
     private int tickEmit(GasStack stack) {
-        Set<GasHandlerTarget> availableAcceptors = new HashSet<>();
-        int totalHandlers = 0;
+        int sent;
+        if (target.hasPlan() && plannedTransfer <= stack.amount) {
+            sent = target.applyPlan();
+        } else {
+            target.reset();
+            collectAcceptors(stack);
+            sent = EmitUtils.sendToAcceptors(target, stack.amount, stack);
+        }
+        target.reset();
+        return sent;
+    }
+
+    private void collectAcceptors(GasStack stack) {
         Gas type = stack.getGas();
-        for (Coord4D coord : possibleAcceptors) {
-            EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
+        for (Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry : getAcceptorPositions().long2ObjectEntrySet()) {
+            EnumSet<EnumFacing> sides = entry.getValue();
+            if (sides.isEmpty()) {
                 continue;
             }
-            TileEntity tile = coord.getTileEntity(getWorld());
+            TileEntity tile = PackedPos.getTileEntity(getWorld(), entry.getLongKey());
             if (tile == null) {
                 continue;
             }
-            GasHandlerTarget target = new GasHandlerTarget(stack);
             for (EnumFacing side : sides) {
                 if (CapabilityUtils.hasCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side)) {
                     IGasHandler acceptor = CapabilityUtils.getCapability(tile, Capabilities.GAS_HANDLER_CAPABILITY, side);
@@ -142,13 +154,23 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
                     }
                 }
             }
-            int curHandlers = target.getHandlers().size();
-            if (curHandlers > 0) {
-                availableAcceptors.add(target);
-                totalHandlers += curHandlers;
-            }
         }
-        return EmitUtils.sendToAcceptors(availableAcceptors, totalHandlers, stack.amount, stack);
+    }
+
+    @Override
+    public boolean prepareTick() {
+        target.reset();
+        if (buffer == null || buffer.amount <= 0) {
+            return false;
+        }
+        collectAcceptors(buffer);
+        target.prepare(buffer, buffer.amount);
+        return target.getHandlerCount() > 0;
+    }
+
+    @Override
+    public void planTick() {
+        plannedTransfer = target.plan();
     }
 
     public int emit(GasStack stack, boolean doTransfer) {
@@ -224,7 +246,7 @@ public class GasNetwork extends DynamicNetwork<IGasHandler, GasNetwork, GasStack
 
     @Override
     public String toString() {
-        return "[GasNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[GasNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
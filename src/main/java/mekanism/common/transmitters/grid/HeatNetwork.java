@@ -1,6 +1,12 @@
 package mekanism.common.transmitters.grid;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import mekanism.api.IHeatTransfer;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
@@ -12,11 +18,31 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 
 public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void> {
 
+    /**
+     * Temperature above ambient below which a conductor that received no heat goes to sleep.
+     */
+    private static final double SLEEP_TEMPERATURE = 1.0E-4;
+
     public double meanTemp = 0;
 
     public double heatLost = 0;
     public double heatTransferred = 0;
 
+    /**
+     * Heat handlers of the transmitters, resolved whenever transmitters join or leave the network.
+     */
+    private final Set<IHeatTransfer> heatTransmitters = new HashSet<>();
+    /**
+     * Handlers that are away from ambient temperature or received heat, only these get simulated. All others are at equilibrium until something transfers heat to them.
+     */
+    private final Set<IHeatTransfer> awake = new LinkedHashSet<>();
+    private final List<IHeatTransfer> simulating = new ArrayList<>();
+    /**
+     * Sum of the (negligible) temperatures the sleeping handlers were left at.
+     */
+    private double sleepingTemp = 0;
+    private boolean handlesChanged = true;
+
     public HeatNetwork() {
     }
 
@@ -47,6 +73,59 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
                (heatTransferred + heatLost == 0 ? "" : heatTransferred / (heatTransferred + heatLost) * 100 + "% efficiency");
     }
 
+    @Override
+    public void commit() {
+        if (!transmittersToAdd.isEmpty()) {
+            handlesChanged = true;
+        }
+        super.commit();
+    }
+
+    @Override
+    protected void detachTransmitter(IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter) {
+        handlesChanged = true;
+        super.detachTransmitter(transmitter);
+    }
+
+    @Override
+    public boolean removeTransmitter(IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter) {
+        handlesChanged = true;
+        return super.removeTransmitter(transmitter);
+    }
+
+    @Override
+    public void deregister() {
+        super.deregister();
+        heatTransmitters.clear();
+        awake.clear();
+    }
+
+    /**
+     * Makes the given handler get simulated again, called when heat gets transferred to it.
+     */
+    public void wake(IHeatTransfer heatTransmitter) {
+        if (!handlesChanged && heatTransmitters.contains(heatTransmitter) && awake.add(heatTransmitter)) {
+            sleepingTemp -= heatTransmitter.getTemp();
+        }
+    }
+
+    private void updateHandles() {
+        heatTransmitters.clear();
+        for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
+            if (transmitter instanceof TransmitterImpl) {
+                IHeatTransfer heatTransmitter = ((TransmitterImpl) transmitter).getTileEntity().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
+                if (heatTransmitter != null) {
+                    heatTransmitters.add(heatTransmitter);
+                }
+            }
+        }
+        //Heat may have been transferred to new transmitters before they joined, so wake everything once and let the equilibrium ones go back to sleep
+        awake.clear();
+        awake.addAll(heatTransmitters);
+        sleepingTemp = 0;
+        handlesChanged = false;
+    }
+
     @Override
     public void absorbBuffer(IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter) {
     }
@@ -69,17 +148,28 @@ public class HeatNetwork extends DynamicNetwork<IHeatTransfer, HeatNetwork, Void
         double newHeatTransferred = 0;
 
         if (FMLCommonHandler.instance().getEffectiveSide().isServer()) {
-            for (IGridTransmitter<IHeatTransfer, HeatNetwork, Void> transmitter : transmitters) {
-                if (transmitter instanceof TransmitterImpl) {
-                    IHeatTransfer heatTransmitter = (IHeatTransfer) ((TransmitterImpl) transmitter).getTileEntity().getCapability(Capabilities.HEAT_TRANSFER_CAPABILITY, null);
-                    if (heatTransmitter != null) {
-                        double[] d = heatTransmitter.simulateHeat();
-                        newHeatTransferred += d[0];
-                        newHeatLost += d[1];
-                        newSumTemp += heatTransmitter.applyTemperatureChange();
-                    }
+            if (handlesChanged) {
+                updateHandles();
+            }
+            simulating.addAll(awake);
+            for (IHeatTransfer heatTransmitter : simulating) {
+                double[] d = heatTransmitter.simulateHeat();
+                newHeatTransferred += d[0];
+                newHeatLost += d[1];
+            }
+            simulating.clear();
+            //Also includes the handlers that got woken up by heat transferred to them while simulating
+            for (Iterator<IHeatTransfer> iterator = awake.iterator(); iterator.hasNext(); ) {
+                IHeatTransfer heatTransmitter = iterator.next();
+                double temp = heatTransmitter.applyTemperatureChange();
+                if (Math.abs(temp) < SLEEP_TEMPERATURE) {
+                    iterator.remove();
+                    sleepingTemp += temp;
+                } else {
+                    newSumTemp += temp;
                 }
             }
+            newSumTemp += sleepingTemp;
         }
         heatLost = newHeatLost;
         heatTransferred = newHeatTransferred;
@@ -1,13 +1,16 @@
 package mekanism.common.transmitters.grid;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 import mekanism.api.Coord4D;
+import mekanism.api.PackedPos;
 import mekanism.api.transmitters.DynamicNetwork;
 import mekanism.api.transmitters.IGridTransmitter;
+import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransitRequest;
 import mekanism.common.content.transporter.TransitRequest.TransitResponse;
 import mekanism.common.content.transporter.TransporterManager;
@@ -18,6 +21,8 @@ import net.minecraftforge.fml.common.FMLCommonHandler;
 
 public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwork, Void> {
 
+    private final PathfinderCache pathCache = new PathfinderCache();
+
     public InventoryNetwork() {
     }
 
@@ -31,17 +36,41 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
         register();
     }
 
+    public PathfinderCache getPathCache() {
+        return pathCache;
+    }
+
+    @Override
+    public void commit() {
+        if (!transmittersToAdd.isEmpty()) {
+            //New transporters can open up shorter routes anywhere in the network
+            pathCache.reset();
+        }
+        super.commit();
+    }
+
+    @Override
+    public InventoryNetwork splitOff(Collection<IGridTransmitter<TileEntity, InventoryNetwork, Void>> detached) {
+        for (IGridTransmitter<TileEntity, InventoryNetwork, Void> transmitter : detached) {
+            pathCache.onChanged(transmitter.coord());
+        }
+        return super.splitOff(detached);
+    }
+
     public List<AcceptorData> calculateAcceptors(TransitRequest request, TransporterStack stack) {
         List<AcceptorData> toReturn = new ArrayList<>();
-        for (Coord4D coord : possibleAcceptors) {
-            if (coord == null || coord.equals(stack.homeLocation)) {
+        boolean hasHome = stack.homeLocation != null && stack.homeLocation.dimensionId == getWorld().provider.getDimension();
+        long home = hasHome ? PackedPos.pack(stack.homeLocation) : 0;
+        for (Long2ObjectMap.Entry<EnumSet<EnumFacing>> entry : getAcceptorPositions().long2ObjectEntrySet()) {
+            long pos = entry.getLongKey();
+            if (hasHome && pos == home) {
                 continue;
             }
-            EnumSet<EnumFacing> sides = acceptorDirections.get(coord);
-            if (sides == null || sides.isEmpty()) {
+            EnumSet<EnumFacing> sides = entry.getValue();
+            if (sides.isEmpty()) {
                 continue;
             }
-            TileEntity acceptor = coord.getTileEntity(getWorld());
+            TileEntity acceptor = PackedPos.getTileEntity(getWorld(), pos);
             if (acceptor == null) {
                 continue;
             }
@@ -52,7 +81,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
                 TransitResponse response = TransporterManager.getPredictedInsert(acceptor, stack.color, request, opposite);
                 if (!response.isEmpty()) {
                     if (data == null) {
-                        toReturn.add(data = new AcceptorData(coord, response, opposite));
+                        toReturn.add(data = new AcceptorData(Coord4D.get(acceptor), response, opposite));
                     } else {
                         data.sides.add(opposite);
                     }
@@ -85,7 +114,7 @@ public class InventoryNetwork extends DynamicNetwork<TileEntity, InventoryNetwor
 
     @Override
     public String toString() {
-        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + possibleAcceptors.size() + " acceptors.";
+        return "[InventoryNetwork] " + transmitters.size() + " transmitters, " + getAcceptorSize() + " acceptors.";
     }
 
     @Override
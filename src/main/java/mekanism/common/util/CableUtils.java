@@ -3,8 +3,6 @@ package mekanism.common.util;
 import cofh.redstoneflux.api.IEnergyConnection;
 import cofh.redstoneflux.api.IEnergyProvider;
 import cofh.redstoneflux.api.IEnergyReceiver;
-import java.util.HashSet;
-import java.util.Set;
 import mekanism.api.Coord4D;
 import mekanism.api.energy.IStrictEnergyAcceptor;
 import mekanism.api.energy.IStrictEnergyOutputter;
@@ -128,8 +126,6 @@ public final class CableUtils {
             double energyToSend = Math.min(emitter.getEnergy(), emitter.getMaxOutput());
             if (energyToSend > 0) {
                 Coord4D coord = Coord4D.get(tileEntity);
-                //Fake that we have one target given we know that no sides will overlap
-                // This allows us to have slightly better performance
                 EnergyAcceptorTarget target = new EnergyAcceptorTarget();
                 for (EnumFacing side : EnumFacing.VALUES) {
                     if (emitter.sideIsOutput(side)) {
@@ -145,11 +141,8 @@ public final class CableUtils {
                         }
                     }
                 }
-                int curHandlers = target.getHandlers().size();
-                if (curHandlers > 0) {
-                    Set<EnergyAcceptorTarget> targets = new HashSet<>();
-                    targets.add(target);
-                    double sent = EmitUtils.sendToAcceptors(targets, curHandlers, energyToSend);
+                if (target.getHandlerCount() > 0) {
+                    double sent = EmitUtils.sendToAcceptors(target, energyToSend);
                     if (emitter instanceof TileEntityInductionPort) {
                         //Streamline sideless removal method for induction port.
                         ((TileEntityInductionPort) emitter).removeEnergy(sent, false);
@@ -1,7 +1,6 @@
 package mekanism.common.util;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Predicate;
 import mekanism.api.gas.Gas;
@@ -107,9 +106,7 @@ public final class GasUtils {
             return 0;
         }
 
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
-        final GasHandlerTarget target = new GasHandlerTarget(stack);
+        final GasHandlerTarget target = new GasHandlerTarget();
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
 
             //Invert to get access side
@@ -124,13 +121,7 @@ public final class GasUtils {
                   });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<GasHandlerTarget> targets = new HashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.amount, stack);
-        }
-        return 0;
+        return EmitUtils.sendToAcceptors(target, stack.amount, stack);
     }
 
     public static void writeSustainedData(GasTank gasTank, ItemStack itemStack) {
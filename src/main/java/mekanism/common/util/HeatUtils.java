@@ -9,6 +9,10 @@ public class HeatUtils {
 
     public static double[] simulate(IHeatTransfer source) {
         double[] heatTransferred = new double[]{0, 0};
+        if (source.getTemp() == 0) {
+            //Everything transferred is proportional to the temperature, so there is nothing to do at ambient temperature
+            return heatTransferred;
+        }
         for (EnumFacing side : EnumFacing.VALUES) {
             IHeatTransfer sink = source.getAdjacent(side);
             if (sink != null) {
@@ -545,6 +545,10 @@ public final class MekanismUtils {
      * @return if the block is a fluid
      */
     public static boolean isFluid(World world, Coord4D pos) {
+        return isFluid(world, pos.getPos());
+    }
+
+    public static boolean isFluid(World world, BlockPos pos) {
         return getFluid(world, pos, false) != null;
     }
 
@@ -557,7 +561,11 @@ public final class MekanismUtils {
      * @return the fluid at the certain location, null if it doesn't exist
      */
     public static FluidStack getFluid(World world, Coord4D pos, boolean filter) {
-        IBlockState state = pos.getBlockState(world);
+        return getFluid(world, pos.getPos(), filter);
+    }
+
+    public static FluidStack getFluid(World world, BlockPos pos, boolean filter) {
+        IBlockState state = world.getBlockState(pos);
         Block block = state.getBlock();
         if ((block == Blocks.WATER || block == Blocks.FLOWING_WATER) && state.getValue(BlockLiquid.LEVEL) == 0) {
             if (!filter) {
@@ -569,7 +577,7 @@ public final class MekanismUtils {
         } else if (block instanceof IFluidBlock) {
             IFluidBlock fluid = (IFluidBlock) block;
             if (state.getProperties().containsKey(BlockFluidBase.LEVEL) && state.getValue(BlockFluidBase.LEVEL) == 0) {
-                return fluid.drain(world, pos.getPos(), false);
+                return fluid.drain(world, pos, false);
             }
         }
         return null;
@@ -584,7 +592,11 @@ public final class MekanismUtils {
      * @return if the block is a dead fluid
      */
     public static boolean isDeadFluid(World world, Coord4D pos) {
-        IBlockState state = pos.getBlockState(world);
+        return isDeadFluid(world, pos.getPos());
+    }
+
+    public static boolean isDeadFluid(World world, BlockPos pos) {
+        IBlockState state = world.getBlockState(pos);
         Block block = state.getBlock();
         if (block.getMetaFromState(state) == 0) {
             return false;
@@ -1,7 +1,6 @@
 package mekanism.common.util;
 
 import java.util.EnumSet;
-import java.util.HashSet;
 import java.util.Set;
 import mekanism.common.base.target.FluidHandlerTarget;
 import mekanism.common.capabilities.Capabilities;
@@ -66,9 +65,7 @@ public final class PipeUtils {
         if (stack == null || stack.amount == 0) {
             return 0;
         }
-        //Fake that we have one target given we know that no sides will overlap
-        // This allows us to have slightly better performance
-        final FluidHandlerTarget target = new FluidHandlerTarget(stack);
+        final FluidHandlerTarget target = new FluidHandlerTarget();
         EmitUtils.forEachSide(from.getWorld(), from.getPos(), sides, (acceptor, side) -> {
 
             //Insert to access side
@@ -83,13 +80,7 @@ public final class PipeUtils {
                   });
         });
 
-        int curHandlers = target.getHandlers().size();
-        if (curHandlers > 0) {
-            Set<FluidHandlerTarget> targets = new HashSet<>();
-            targets.add(target);
-            return EmitUtils.sendToAcceptors(targets, curHandlers, stack.amount, stack);
-        }
-        return 0;
+        return EmitUtils.sendToAcceptors(target, stack.amount, stack);
     }
 
     public static FluidStack copy(FluidStack fluid, int amount) {
@@ -75,10 +75,9 @@ public final class SecurityUtils {
 
     public static SecurityFrequency getFrequency(UUID uuid) {
         if (uuid != null) {
-            for (Frequency f : Mekanism.securityFrequencies.getFrequencies()) {
-                if (f instanceof SecurityFrequency && f.ownerUUID.equals(uuid)) {
-                    return (SecurityFrequency) f;
-                }
+            Frequency f = Mekanism.securityFrequencies.getFrequency(SecurityFrequency.SECURITY, uuid);
+            if (f instanceof SecurityFrequency) {
+                return (SecurityFrequency) f;
             }
         }
         return null;
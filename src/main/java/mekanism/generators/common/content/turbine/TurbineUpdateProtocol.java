@@ -20,7 +20,6 @@ import mekanism.generators.common.tile.turbine.TileEntityTurbineVent;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumFacing;
-import net.minecraft.util.math.BlockPos;
 
 public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineData> {
 
@@ -33,7 +32,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
 
     @Override
     protected boolean isValidFrame(int x, int y, int z) {
-        return GeneratorType.get(pointer.getWorld().getBlockState(new BlockPos(x, y, z))) == GeneratorType.TURBINE_CASING;
+        return GeneratorType.get(getBlockState(x, y, z)) == GeneratorType.TURBINE_CASING;
     }
 
     @Override
@@ -41,7 +40,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
         if (super.isValidInnerNode(x, y, z)) {
             return true;
         }
-        TileEntity tile = pointer.getWorld().getTileEntity(new BlockPos(x, y, z));
+        TileEntity tile = getTileEntity(x, y, z);
         return tile instanceof TileEntityTurbineRotor || tile instanceof TileEntityRotationalComplex || tile instanceof TileEntityPressureDisperser ||
                tile instanceof TileEntityElectromagneticCoil || tile instanceof TileEntitySaturatingCondenser;
     }
@@ -66,8 +65,9 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
         Set<Coord4D> condensers = new HashSet<>();
 
         //Scan for complex
-        for (Coord4D coord : innerNodes) {
-            TileEntity tile = coord.getTileEntity(pointer.getWorld());
+        for (long node : innerNodes) {
+            Coord4D coord = toCoord(node);
+            TileEntity tile = getTileEntity(node);
             if (tile instanceof TileEntityRotationalComplex) {
                 if (complex != null || coord.x != centerX || coord.z != centerZ) {
                     return false;
@@ -97,7 +97,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
         for (int x = complex.x - innerRadius; x <= complex.x + innerRadius; x++) {
             for (int z = complex.z - innerRadius; z <= complex.z + innerRadius; z++) {
                 if (x != centerX || z != centerZ) {
-                    TileEntity tile = pointer.getWorld().getTileEntity(new BlockPos(x, complex.y, z));
+                    TileEntity tile = getTileEntity(x, complex.y, z);
                     if (!(tile instanceof TileEntityPressureDisperser)) {
                         return false;
                     }
@@ -124,7 +124,7 @@ public class TurbineUpdateProtocol extends UpdateProtocol<SynchronizedTurbineDat
 
         // Starting from the complex, walk down and count the number of rotors/blades in the structure
         for (int y = complex.y - 1; y > structure.minLocation.y; y--) {
-            TileEntity tile = pointer.getWorld().getTileEntity(new BlockPos(centerX, y, centerZ));
+            TileEntity tile = getTileEntity(centerX, y, centerZ);
             if (tile instanceof TileEntityTurbineRotor) {
                 TileEntityTurbineRotor rotor = (TileEntityTurbineRotor) tile;
                 turbineHeight++;